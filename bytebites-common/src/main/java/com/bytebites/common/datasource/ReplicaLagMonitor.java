@@ -0,0 +1,84 @@
+package com.bytebites.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // pg_last_xact_replay_timestamp() stops moving while the primary is idle, so a replica that has replayed
+    // everything it received reports zero lag instead of the time since the last write.
+    public static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+                    + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final ScheduledExecutorService executor;
+
+    private volatile boolean replicaUsable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? POSTGRES_LAG_QUERY : lagQuery;
+        this.maxLag = maxLag;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("datasource_replica_lag_seconds", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag last measured on the read replica")
+                .register(meterRegistry);
+        Gauge.builder("datasource_replica_usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public void start(Duration checkInterval) {
+        executor.scheduleWithFixedDelay(this::refresh, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void refresh() {
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(lagQuery, Number.class);
+            lagSeconds = lag != null ? lag.doubleValue() : 0;
+            boolean usable = lagSeconds <= maxLag.toMillis() / 1000.0;
+            if (usable != replicaUsable) {
+                logger.info("Read replica is now {} (lag {}s, max {}s)",
+                        usable ? "in use" : "bypassed", lagSeconds, maxLag.toSeconds());
+            }
+            replicaUsable = usable;
+        } catch (Exception e) {
+            if (replicaUsable) {
+                logger.warn("Read replica health check failed, routing reads to primary: {}", e.getMessage());
+            }
+            lagSeconds = Double.NaN;
+            replicaUsable = false;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,116 @@
+package com.bytebites.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final int RECENT_WRITERS_PRUNE_THRESHOLD = 10_000;
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final long readYourWritesWindowMillis;
+    private final ConcurrentMap<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    private final Counter writeCounter;
+    private final Counter replicaReadCounter;
+    private final Counter readYourWritesCounter;
+    private final Counter replicaBypassedCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor,
+                                    Duration readYourWritesWindow, MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesWindowMillis = readYourWritesWindow.toMillis();
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.writeCounter = routingCounter(meterRegistry, Target.PRIMARY, "read_write");
+        this.replicaReadCounter = routingCounter(meterRegistry, Target.REPLICA, "read_only");
+        this.readYourWritesCounter = routingCounter(meterRegistry, Target.PRIMARY, "read_your_writes");
+        this.replicaBypassedCounter = routingCounter(meterRegistry, Target.PRIMARY, "replica_unavailable");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeCounter.increment();
+            rememberWriteOnCompletion(user);
+            return Target.PRIMARY;
+        }
+
+        if (user != null && wroteRecently(user)) {
+            readYourWritesCounter.increment();
+            return Target.PRIMARY;
+        }
+
+        if (!replicaLagMonitor.isReplicaUsable()) {
+            replicaBypassedCounter.increment();
+            return Target.PRIMARY;
+        }
+
+        replicaReadCounter.increment();
+        return Target.REPLICA;
+    }
+
+    private void rememberWriteOnCompletion(String user) {
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        recentWriters.put(user, System.currentTimeMillis());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                recentWriters.put(user, System.currentTimeMillis());
+            }
+        });
+
+        if (recentWriters.size() > RECENT_WRITERS_PRUNE_THRESHOLD) {
+            long cutoff = System.currentTimeMillis() - readYourWritesWindowMillis;
+            recentWriters.values().removeIf(writtenAt -> writtenAt < cutoff);
+        }
+    }
+
+    private boolean wroteRecently(String user) {
+        Long writtenAt = recentWriters.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt > readYourWritesWindowMillis) {
+            recentWriters.remove(user, writtenAt);
+            return false;
+        }
+        return true;
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder("datasource_routing_total")
+                .description("Connections handed out by the read/write routing datasource")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
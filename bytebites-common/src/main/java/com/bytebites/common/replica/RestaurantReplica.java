@@ -0,0 +1,236 @@
+package com.bytebites.common.replica;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class RestaurantReplica {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantReplica.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private volatile Map<UUID, RestaurantSnapshot> restaurants = new ConcurrentHashMap<>();
+    private final CountDownLatch bootstrapped = new CountDownLatch(1);
+    private final boolean enabled;
+    private final String topic;
+    private final String bootstrapServers;
+    private final String clientId;
+    private final Counter applied;
+    private final Counter rejected;
+    private final Timer bootstrapTimer;
+    private volatile boolean running;
+    private volatile KafkaConsumer<String, byte[]> consumer;
+    private Thread worker;
+
+    public RestaurantReplica(MeterRegistry meterRegistry, boolean enabled, String topic,
+                             String bootstrapServers, String clientId) {
+        this.enabled = enabled;
+        this.topic = topic;
+        this.bootstrapServers = bootstrapServers;
+        this.clientId = clientId;
+        this.applied = Counter.builder("restaurant_replica_records_total")
+                .description("Snapshot records applied to the local restaurant replica")
+                .tag("outcome", "applied")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("restaurant_replica_records_total")
+                .description("Snapshot records applied to the local restaurant replica")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        this.bootstrapTimer = Timer.builder("restaurant_replica_bootstrap")
+                .description("Time to read the snapshot topic up to its end offsets on startup")
+                .register(meterRegistry);
+
+        Gauge.builder("restaurant_replica_size", this, RestaurantReplica::size)
+                .description("Restaurants held in the local replica")
+                .register(meterRegistry);
+        Gauge.builder("restaurant_replica_ready", this, replica -> replica.isReady() ? 1 : 0)
+                .description("Whether the local restaurant replica has caught up with the snapshot topic")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("restaurant-replica").start(this::run);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        KafkaConsumer<String, byte[]> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+        if (worker != null) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public Optional<RestaurantSnapshot> find(UUID restaurantId) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(restaurants.get(restaurantId));
+    }
+
+    public boolean isReady() {
+        return bootstrapped.getCount() == 0;
+    }
+
+    public boolean awaitReady(Duration timeout) throws InterruptedException {
+        return bootstrapped.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public int size() {
+        return restaurants.size();
+    }
+
+    private void run() {
+        while (running) {
+            try (KafkaConsumer<String, byte[]> kafkaConsumer = new KafkaConsumer<>(consumerProperties())) {
+                consumer = kafkaConsumer;
+                consume(kafkaConsumer);
+            } catch (WakeupException e) {
+                if (running) {
+                    logger.warn("Restaurant replica consumer woken up unexpectedly, restarting");
+                }
+            } catch (Exception e) {
+                logger.error("Restaurant replica consumer failed, retrying in {}: {}", RETRY_BACKOFF, e.getMessage(), e);
+                sleep(RETRY_BACKOFF);
+            } finally {
+                consumer = null;
+            }
+        }
+    }
+
+    private void consume(KafkaConsumer<String, byte[]> kafkaConsumer) {
+        List<PartitionInfo> partitionInfos = kafkaConsumer.partitionsFor(topic, Duration.ofSeconds(30));
+        if (partitionInfos == null || partitionInfos.isEmpty()) {
+            logger.warn("Snapshot topic {} has no partitions yet, retrying in {}", topic, RETRY_BACKOFF);
+            sleep(RETRY_BACKOFF);
+            return;
+        }
+
+        List<TopicPartition> partitions = partitionInfos.stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+        kafkaConsumer.assign(partitions);
+        kafkaConsumer.seekToBeginning(partitions);
+        Map<TopicPartition, Long> endOffsets = kafkaConsumer.endOffsets(partitions);
+        long startedAt = System.nanoTime();
+        logger.info("Bootstrapping restaurant replica from {} partitions of {}", partitions.size(), topic);
+
+        // Every (re)bootstrap rebuilds from an empty map; the previous one keeps serving until the new one
+        // has caught up, so restaurants tombstoned while the consumer was down do not linger.
+        Map<UUID, RestaurantSnapshot> loading = new ConcurrentHashMap<>();
+        boolean caughtUp = false;
+        while (running) {
+            if (!caughtUp && caughtUp(kafkaConsumer, endOffsets)) {
+                caughtUp = true;
+                restaurants = loading;
+                long elapsed = System.nanoTime() - startedAt;
+                bootstrapTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                bootstrapped.countDown();
+                logger.info("Restaurant replica ready with {} restaurants after {} ms",
+                        loading.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+            for (ConsumerRecord<String, byte[]> record : kafkaConsumer.poll(POLL_TIMEOUT)) {
+                apply(loading, record.key(), record.value());
+            }
+        }
+    }
+
+    void apply(Map<UUID, RestaurantSnapshot> target, String key, byte[] value) {
+        UUID restaurantId;
+        try {
+            restaurantId = UUID.fromString(key);
+        } catch (RuntimeException e) {
+            rejected.increment();
+            logger.warn("Skipping snapshot with invalid key: {}", key);
+            return;
+        }
+
+        if (value == null) {
+            target.remove(restaurantId);
+            applied.increment();
+            return;
+        }
+        try {
+            target.put(restaurantId, objectMapper.readValue(value, RestaurantSnapshot.class));
+            applied.increment();
+        } catch (IOException e) {
+            rejected.increment();
+            logger.warn("Skipping unreadable snapshot for restaurant: {}, error: {}", restaurantId, e.getMessage());
+        }
+    }
+
+    private static boolean caughtUp(KafkaConsumer<String, byte[]> kafkaConsumer, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+                .allMatch(entry -> kafkaConsumer.position(entry.getKey()) >= entry.getValue());
+    }
+
+    private Map<String, Object> consumerProperties() {
+        return Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class,
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 5000,
+                ConsumerConfig.FETCH_MAX_BYTES_CONFIG, 64 * 1024 * 1024,
+                ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, 16 * 1024 * 1024,
+                ConsumerConfig.CLIENT_ID_CONFIG, clientId
+        );
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
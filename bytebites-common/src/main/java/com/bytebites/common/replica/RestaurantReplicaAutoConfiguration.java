@@ -0,0 +1,26 @@
+package com.bytebites.common.replica;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@ConditionalOnClass({KafkaConsumer.class, ObjectMapper.class, MeterRegistry.class})
+public class RestaurantReplicaAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RestaurantReplica restaurantReplica(MeterRegistry meterRegistry,
+                                               @Value("${bytebites.replica.restaurants.enabled:false}") boolean enabled,
+                                               @Value("${bytebites.replica.restaurants.topic:restaurant-snapshots}") String topic,
+                                               @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+                                               @Value("${spring.application.name:bytebites}") String applicationName) {
+        return new RestaurantReplica(meterRegistry, enabled, topic, bootstrapServers,
+                applicationName + "-restaurant-replica");
+    }
+}
@@ -0,0 +1,40 @@
+package com.bytebites.common.replica;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record RestaurantSnapshot(
+        UUID restaurantId,
+        UUID ownerId,
+        String name,
+        String address,
+        String phone,
+        String email,
+        String status,
+        long menuVersion,
+        List<MenuItem> menuItems
+) {
+
+    public Optional<MenuItem> findMenuItem(UUID menuItemId) {
+        if (menuItems == null) {
+            return Optional.empty();
+        }
+        return menuItems.stream()
+                .filter(item -> item.menuItemId().equals(menuItemId))
+                .findFirst();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record MenuItem(
+            UUID menuItemId,
+            String name,
+            BigDecimal price,
+            String category,
+            Boolean available
+    ) {}
+}
@@ -0,0 +1,158 @@
+package com.bytebites.common.timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HierarchicalTimerWheel<K> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final Slot<K>[][] wheels;
+    private final Map<K, Timeout<K>> timeouts = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimerWheel(Duration tick, long startMillis) {
+        this.tickMillis = tick.toMillis();
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Timer wheel tick must be at least 1ms");
+        }
+        this.currentTick = startMillis / tickMillis;
+        this.wheels = new Slot[LEVELS][WHEEL_SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int index = 0; index < WHEEL_SIZE; index++) {
+                wheels[level][index] = new Slot<>();
+            }
+        }
+    }
+
+    public synchronized void schedule(K key, long deadlineMillis) {
+        Timeout<K> existing = timeouts.remove(key);
+        if (existing != null) {
+            existing.unlink();
+        }
+
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Timeout<K> timeout = new Timeout<>(key, deadlineTick);
+        timeouts.put(key, timeout);
+        place(timeout);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Timeout<K> timeout = timeouts.remove(key);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.unlink();
+        return true;
+    }
+
+    public synchronized int size() {
+        return timeouts.size();
+    }
+
+    public synchronized List<K> advanceTo(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<K> expired = new ArrayList<>();
+
+        if (timeouts.isEmpty()) {
+            currentTick = Math.max(currentTick, targetTick);
+            return expired;
+        }
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+
+            Slot<K> slot = wheels[0][(int) (currentTick & WHEEL_MASK)];
+            for (Timeout<K> timeout = slot.poll(); timeout != null; timeout = slot.poll()) {
+                timeouts.remove(timeout.key);
+                expired.add(timeout.key);
+            }
+
+            if (timeouts.isEmpty()) {
+                currentTick = targetTick;
+            }
+        }
+        return expired;
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if (((currentTick >> (WHEEL_BITS * (level - 1))) & WHEEL_MASK) != 0) {
+                return;
+            }
+            Slot<K> slot = wheels[level][(int) ((currentTick >> (WHEEL_BITS * level)) & WHEEL_MASK)];
+            for (Timeout<K> timeout = slot.poll(); timeout != null; timeout = slot.poll()) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout<K> timeout) {
+        long delta = Math.max(timeout.deadlineTick - currentTick, 0);
+        long slotTick = delta >= MAX_SPAN ? currentTick + MAX_SPAN - 1 : currentTick + delta;
+        delta = slotTick - currentTick;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        int index = (int) ((slotTick >> (WHEEL_BITS * level)) & WHEEL_MASK);
+        wheels[level][index].add(timeout);
+    }
+
+    private static final class Timeout<K> {
+        private final K key;
+        private final long deadlineTick;
+        private Timeout<K> prev;
+        private Timeout<K> next;
+
+        private Timeout(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+                prev = null;
+                next = null;
+            }
+        }
+    }
+
+    private static final class Slot<K> {
+        private final Timeout<K> head = new Timeout<>(null, 0);
+
+        private Slot() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        private void add(Timeout<K> timeout) {
+            timeout.prev = head.prev;
+            timeout.next = head;
+            head.prev.next = timeout;
+            head.prev = timeout;
+        }
+
+        private Timeout<K> poll() {
+            Timeout<K> first = head.next;
+            if (first == head) {
+                return null;
+            }
+            first.unlink();
+            return first;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bytebites.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReplicaAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withConfiguration(AutoConfigurations.of(ReadReplicaAutoConfiguration.class, DataSourceAutoConfiguration.class))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+                    "bytebites.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+                    "bytebites.datasource.replica.lag-query=SELECT 0");
+
+    @Test
+    void shouldRouteThroughReplicaWhenEnabled() {
+        contextRunner.withPropertyValues("bytebites.datasource.replica.enabled=true").run(context -> {
+            assertThat(context).hasSingleBean(ReplicaLagMonitor.class);
+            DataSource dataSource = context.getBean(DataSource.class);
+            assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+            assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource())
+                    .isInstanceOf(ReplicaRoutingDataSource.class);
+        });
+    }
+
+    @Test
+    void shouldLeaveDefaultDataSourceWhenDisabled() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(ReplicaLagMonitor.class);
+            assertThat(context).hasSingleBean(DataSource.class);
+            assertThat(context.getBean(DataSource.class)).isNotInstanceOf(LazyConnectionDataSourceProxy.class);
+        });
+    }
+}
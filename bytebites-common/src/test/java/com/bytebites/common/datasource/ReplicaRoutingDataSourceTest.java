@@ -0,0 +1,107 @@
+package com.bytebites.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DataSource primary = h2Database("primary");
+        replica = h2Database("replica");
+
+        lagMonitor = new ReplicaLagMonitor(replica, "SELECT lag FROM marker", Duration.ofSeconds(5), meterRegistry);
+        lagMonitor.refresh();
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, replica, lagMonitor, Duration.ofMinutes(1), meterRegistry);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        lagMonitor.close();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentDatabase()));
+        assertEquals("primary", readWriteTransaction.execute(status -> currentDatabase()));
+        assertEquals("primary", currentDatabase());
+
+        assertEquals(1.0, meterRegistry.get("datasource_routing_total")
+                .tag("target", "replica").counter().count());
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimaryWithinWindow() {
+        authenticate("writer");
+        readWriteTransaction.executeWithoutResult(status -> currentDatabase());
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentDatabase()));
+
+        authenticate("someone-else");
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentDatabase()));
+
+        assertEquals(1.0, meterRegistry.get("datasource_routing_total")
+                .tag("reason", "read_your_writes").counter().count());
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        new JdbcTemplate(replica).update("UPDATE marker SET lag = 30");
+        lagMonitor.refresh();
+
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private void authenticate(String user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static JdbcDataSource h2Database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(20), lag INT)");
+        jdbc.update("INSERT INTO marker VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,103 @@
+package com.bytebites.common.replica;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+class RestaurantReplicaBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantReplicaBenchmark.class);
+
+    private static final String TOPIC = "restaurant-snapshots";
+    private static final int RESTAURANTS = 50_000;
+    private static final int MENU_ITEMS = 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmbeddedKafkaKraftBroker broker;
+
+    @BeforeEach
+    void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 6, TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void coldStartBootstrapTime() throws Exception {
+        List<UUID> ids = publishSnapshots();
+
+        RestaurantReplica replica = new RestaurantReplica(new SimpleMeterRegistry(), true, TOPIC,
+                broker.getBrokersAsString(), "benchmark-restaurant-replica");
+        long start = System.nanoTime();
+        replica.start();
+        try {
+            assertThat(replica.awaitReady(Duration.ofMinutes(2))).isTrue();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            logger.info("Replica bootstrap: {} restaurants ({} menu items each) in {} ms, {} records/s",
+                    replica.size(), MENU_ITEMS, elapsedMillis, RESTAURANTS * 1000L / Math.max(elapsedMillis, 1));
+
+            assertThat(replica.size()).isEqualTo(RESTAURANTS);
+            assertThat(replica.find(ids.get(0))).isPresent();
+            assertThat(replica.find(ids.get(RESTAURANTS - 1)).orElseThrow().menuItems()).hasSize(MENU_ITEMS);
+        } finally {
+            replica.stop();
+        }
+    }
+
+    private List<UUID> publishSnapshots() throws Exception {
+        Map<String, Object> config = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class,
+                ProducerConfig.LINGER_MS_CONFIG, 20,
+                ProducerConfig.BATCH_SIZE_CONFIG, 256 * 1024,
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4"
+        );
+        List<UUID> ids = new ArrayList<>(RESTAURANTS);
+        try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(config)) {
+            for (int i = 0; i < RESTAURANTS; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                producer.send(new ProducerRecord<>(TOPIC, id.toString(), objectMapper.writeValueAsBytes(snapshot(id, i))));
+            }
+            producer.flush();
+        }
+        return ids;
+    }
+
+    private static RestaurantSnapshot snapshot(UUID id, int index) {
+        List<RestaurantSnapshot.MenuItem> items = new ArrayList<>(MENU_ITEMS);
+        for (int i = 0; i < MENU_ITEMS; i++) {
+            items.add(new RestaurantSnapshot.MenuItem(UUID.randomUUID(), "Item " + i,
+                    BigDecimal.valueOf(500 + i, 2), "Mains", true));
+        }
+        return new RestaurantSnapshot(id, UUID.randomUUID(), "Restaurant " + index, index + " Main Street",
+                "+233200000000", "orders" + index + "@example.com", "ACTIVE", 1, items);
+    }
+}
@@ -0,0 +1,59 @@
+package com.bytebites.common.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantReplicaTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RestaurantReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        replica = new RestaurantReplica(meterRegistry, false, "restaurant-snapshots", "localhost:9092",
+                "test-restaurant-replica");
+    }
+
+    @Test
+    void apply_ShouldUpsertSnapshotsAndRemoveOnTombstone() {
+        UUID restaurantId = UUID.randomUUID();
+        String json = """
+                {"restaurantId":"%s","ownerId":"%s","name":"Pasta Place","status":"ACTIVE","menuVersion":3,
+                 "snapshotAt":"2025-01-01T10:00:00","menuItems":[]}
+                """.formatted(restaurantId, UUID.randomUUID());
+
+        Map<UUID, RestaurantSnapshot> restaurants = new HashMap<>();
+        replica.apply(restaurants, restaurantId.toString(), json.getBytes(StandardCharsets.UTF_8));
+        assertThat(restaurants).containsOnlyKeys(restaurantId);
+        assertThat(restaurants.get(restaurantId).menuVersion()).isEqualTo(3);
+
+        replica.apply(restaurants, restaurantId.toString(), null);
+        assertThat(restaurants).isEmpty();
+        assertThat(meterRegistry.get("restaurant_replica_records_total").tag("outcome", "applied").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void find_ShouldMissUntilBootstrapCompletes() {
+        UUID restaurantId = UUID.randomUUID();
+        Map<UUID, RestaurantSnapshot> restaurants = new HashMap<>();
+        replica.apply(restaurants, restaurantId.toString(), """
+                {"restaurantId":"%s","name":"Pasta Place","status":"ACTIVE","menuVersion":1}
+                """.formatted(restaurantId).getBytes(StandardCharsets.UTF_8));
+        replica.apply(restaurants, "not-a-uuid", new byte[0]);
+
+        assertThat(replica.isReady()).isFalse();
+        assertThat(replica.find(restaurantId)).isEmpty();
+        assertThat(meterRegistry.get("restaurant_replica_records_total").tag("outcome", "rejected").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bytebites.common.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimerWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    void shouldExpireTimersAtTheirDeadlineAcrossAllLevels() {
+        HierarchicalTimerWheel<Integer> wheel = new HierarchicalTimerWheel<>(Duration.ofMillis(TICK), 0);
+        Random random = new Random(42);
+        Map<Integer, Long> deadlines = new HashMap<>();
+
+        for (int key = 0; key < 20_000; key++) {
+            long deadline = (1 + random.nextInt(300_000)) * TICK;
+            deadlines.put(key, deadline);
+            wheel.schedule(key, deadline);
+        }
+        assertEquals(20_000, wheel.size());
+
+        long now = 0;
+        while (wheel.size() > 0) {
+            now += 7 * TICK;
+            for (Integer key : wheel.advanceTo(now)) {
+                long deadline = deadlines.remove(key);
+                assertTrue(deadline <= now, "timer fired early");
+                assertTrue(deadline > now - 7 * TICK, "timer fired late");
+            }
+        }
+        assertTrue(deadlines.isEmpty());
+    }
+
+    @Test
+    void shouldNotFireCancelledOrRescheduledTimers() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(Duration.ofMillis(TICK), 0);
+        wheel.schedule("cancelled", 10 * TICK);
+        wheel.schedule("moved", 10 * TICK);
+        wheel.schedule("kept", 10 * TICK);
+
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("unknown"));
+        wheel.schedule("moved", 5_000 * TICK);
+
+        assertEquals(List.of("kept"), wheel.advanceTo(10 * TICK));
+        assertEquals(List.of(), wheel.advanceTo(4_999 * TICK));
+        assertEquals(List.of("moved"), wheel.advanceTo(5_000 * TICK));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldFirePastDeadlinesOnNextTickAndHandleVeryLongDelays() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(Duration.ofMillis(TICK), 1_000 * TICK);
+        wheel.schedule("overdue", 0);
+        long farFuture = 1_000 * TICK + (1L << 25) * TICK;
+        wheel.schedule("far", farFuture);
+
+        assertEquals(List.of("overdue"), wheel.advanceTo(1_001 * TICK));
+        assertEquals(List.of(), wheel.advanceTo(farFuture - TICK));
+        assertEquals(List.of("far"), wheel.advanceTo(farFuture));
+    }
+}
@@ -0,0 +1,100 @@
+package com.bytebites.notificationservice.consumer;
+
+import com.bytebites.notificationservice.event.OrderEvent;
+import com.bytebites.notificationservice.event.OrderItemInfo;
+import com.bytebites.notificationservice.event.OrderPlacedEvent;
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Per-record CPU and allocation (run with -prof gc) of the typed deserializer against the old map path.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDeserializationBenchmark {
+
+    @Param({"OrderPlaced", "OrderStatusChanged"})
+    private String event;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final OrderEventReader reader = new OrderEventReader();
+    private final TypedEventDeserializer typedDeserializer = new TypedEventDeserializer();
+    private final JsonDeserializer<Object> mapDeserializer = new JsonDeserializer<>(Object.class);
+
+    private byte[] payload;
+    private Headers noHeaders;
+    private Headers typeHeaders;
+
+    @Setup
+    public void encode() throws Exception {
+        mapDeserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "*",
+                JsonDeserializer.USE_TYPE_INFO_HEADERS, false), false);
+
+        OrderPlacedEvent placed = orderPlaced();
+        OrderEvent value = "OrderPlaced".equals(event) ? placed : new OrderStatusChangedEvent(
+                UUID.randomUUID().toString(), "OrderStatusChanged", LocalDateTime.now(), placed.orderId(),
+                placed.customerId(), placed.customerEmail(), placed.restaurantId(), placed.restaurantName(),
+                "CONFIRMED", "PREPARING", UUID.randomUUID());
+        payload = objectMapper.writeValueAsBytes(value);
+        noHeaders = new RecordHeaders();
+        typeHeaders = new RecordHeaders();
+        typeHeaders.add("__TypeId__", ("com.bytebites.orderservice.event." + value.getClass().getSimpleName())
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public OrderEvent mapThenConvert() {
+        return reader.read(mapDeserializer.deserialize("order-events", noHeaders, payload));
+    }
+
+    @Benchmark
+    public OrderEvent typedByScan() {
+        return reader.read(typedDeserializer.deserialize("order-events", noHeaders, payload));
+    }
+
+    @Benchmark
+    public OrderEvent typedByHeader() {
+        return reader.read(typedDeserializer.deserialize("order-events", typeHeaders, payload));
+    }
+
+    private static OrderPlacedEvent orderPlaced() {
+        List<OrderItemInfo> items = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            items.add(new OrderItemInfo(UUID.randomUUID(), "Menu item " + i, new BigDecimal("12.50"), i,
+                    new BigDecimal("12.50").multiply(BigDecimal.valueOf(i))));
+        }
+        return new OrderPlacedEvent(UUID.randomUUID().toString(), "OrderPlaced", LocalDateTime.now(),
+                UUID.randomUUID(), UUID.randomUUID(), "customer@example.com", UUID.randomUUID(), "Pizza Place",
+                new BigDecimal("187.50"), items, "12 Market Street");
+    }
+}
@@ -0,0 +1,268 @@
+package com.bytebites.notificationservice.template;
+
+import com.bytebites.notificationservice.event.OrderItemInfo;
+import com.bytebites.notificationservice.event.OrderPlacedEvent;
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.bytebites.notificationservice.event.RestaurantCreatedEvent;
+import com.bytebites.notificationservice.service.OrderStatusDigest;
+import com.bytebites.notificationservice.service.TemplateService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Render time and allocation (run with -prof gc) of the compiled templates against the StringBuilder originals.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateRenderBenchmark {
+
+    @Param({"orderPlacedCustomer", "orderPlacedRestaurant", "orderPlacedSubject", "statusChanged",
+            "statusSubject", "statusDigest", "restaurantCreated"})
+    private String template;
+
+    @Param({"legacy", "compiled"})
+    private String implementation;
+
+    private final TemplateService templateService = new TemplateService(
+            new TemplateRegistry("classpath*:templates/notifications/", "en-US", List.of("en-US"), "USD"));
+    private final LegacyTemplateService legacy = new LegacyTemplateService();
+
+    private final OrderPlacedEvent placed = orderPlaced();
+    private final OrderStatusChangedEvent changed = statusChanged("CONFIRMED", "PREPARING");
+    private final OrderStatusDigest digest = new OrderStatusDigest(List.of(
+            statusChanged("PENDING", "CONFIRMED"), statusChanged("CONFIRMED", "PREPARING"),
+            statusChanged("PREPARING", "READY"), statusChanged("READY", "DELIVERED")), Set.of());
+    private final RestaurantCreatedEvent restaurant = new RestaurantCreatedEvent(UUID.randomUUID().toString(),
+            "RestaurantCreated", LocalDateTime.now(), UUID.randomUUID(), "Pizza Place", UUID.randomUUID(),
+            "owner@example.com", "12 Market Street", "PENDING_APPROVAL");
+
+    private Supplier<String> render;
+
+    @Setup
+    public void select() {
+        Supplier<String> compiled = renderer(true);
+        Supplier<String> original = renderer(false);
+        if (!compiled.get().equals(original.get())) {
+            throw new IllegalStateException("Compiled " + template + " template differs from the original");
+        }
+        render = "compiled".equals(implementation) ? compiled : original;
+    }
+
+    @Benchmark
+    public String render() {
+        return render.get();
+    }
+
+    private Supplier<String> renderer(boolean compiled) {
+        return switch (template) {
+            case "orderPlacedCustomer" -> compiled
+                    ? () -> templateService.generateOrderPlacedCustomerContent(placed)
+                    : () -> legacy.generateOrderPlacedCustomerContent(placed);
+            case "orderPlacedRestaurant" -> compiled
+                    ? () -> templateService.generateOrderPlacedRestaurantContent(placed)
+                    : () -> legacy.generateOrderPlacedRestaurantContent(placed);
+            case "orderPlacedSubject" -> compiled
+                    ? () -> templateService.generateOrderPlacedCustomerSubject(placed)
+                    : () -> legacy.generateOrderPlacedCustomerSubject(placed);
+            case "statusChanged" -> compiled
+                    ? () -> templateService.generateOrderStatusChangedContent(changed)
+                    : () -> legacy.generateOrderStatusChangedContent(changed);
+            case "statusSubject" -> compiled
+                    ? () -> templateService.generateOrderStatusChangedSubject(changed)
+                    : () -> legacy.generateOrderStatusChangedSubject(changed);
+            case "statusDigest" -> compiled
+                    ? () -> templateService.generateOrderStatusDigestContent(digest)
+                    : () -> legacy.generateOrderStatusDigestContent(digest);
+            case "restaurantCreated" -> compiled
+                    ? () -> templateService.generateRestaurantCreatedContent(restaurant)
+                    : () -> legacy.generateRestaurantCreatedContent(restaurant);
+            default -> throw new IllegalArgumentException("Unknown template: " + template);
+        };
+    }
+
+    private static OrderPlacedEvent orderPlaced() {
+        List<OrderItemInfo> items = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            items.add(new OrderItemInfo(UUID.randomUUID(), "Menu item " + i, new BigDecimal("12.50"), i,
+                    new BigDecimal("12.50").multiply(BigDecimal.valueOf(i))));
+        }
+        return new OrderPlacedEvent(UUID.randomUUID().toString(), "OrderPlaced", LocalDateTime.now(),
+                UUID.randomUUID(), UUID.randomUUID(), "customer@example.com", UUID.randomUUID(), "Pizza Place",
+                new BigDecimal("1187.50"), items, "12 Market Street");
+    }
+
+    private static OrderStatusChangedEvent statusChanged(String previous, String next) {
+        return new OrderStatusChangedEvent(UUID.randomUUID().toString(), "OrderStatusChanged",
+                LocalDateTime.of(2025, 1, 1, 12, 30), UUID.fromString("3f2a9c1e-0000-4000-8000-000000000001"),
+                UUID.randomUUID(), "customer@example.com", UUID.randomUUID(), "Pizza Place", previous, next,
+                UUID.randomUUID());
+    }
+
+    // The StringBuilder implementation TemplateService used before templates were compiled from resources.
+    private static final class LegacyTemplateService {
+
+        private final NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(Locale.US);
+        private final DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HH:mm");
+
+        String generateOrderPlacedCustomerSubject(OrderPlacedEvent event) {
+            return String.format("Order Confirmation - Order #%s",
+                    event.orderId().toString().substring(0, 8).toUpperCase());
+        }
+
+        String generateOrderPlacedCustomerContent(OrderPlacedEvent event) {
+            StringBuilder content = new StringBuilder();
+            content.append("Dear Customer,\n\n");
+            content.append("Thank you for your order! Your order has been successfully placed.\n\n");
+            content.append("Order Details:\n");
+            content.append("- Order ID: ").append(event.orderId()).append("\n");
+            content.append("- Restaurant: ").append(event.restaurantName()).append("\n");
+            content.append("- Total Amount: ").append(currencyFormat.format(event.totalAmount())).append("\n");
+            content.append("- Delivery Address: ").append(event.deliveryAddress()).append("\n\n");
+
+            content.append("Items Ordered:\n");
+            event.items().forEach(item ->
+                    content.append("- ").append(item.menuItemName())
+                            .append(" x").append(item.quantity())
+                            .append(" - ").append(currencyFormat.format(item.subtotal())).append("\n")
+            );
+
+            content.append("\nYour order is being processed and you will receive updates on its status.\n\n");
+            content.append("Thank you for choosing ByteBites!\n");
+            content.append("The ByteBites Team");
+
+            return content.toString();
+        }
+
+        String generateOrderPlacedRestaurantContent(OrderPlacedEvent event) {
+            StringBuilder content = new StringBuilder();
+            content.append("Dear Restaurant Partner,\n\n");
+            content.append("You have received a new order!\n\n");
+            content.append("Order Details:\n");
+            content.append("- Order ID: ").append(event.orderId()).append("\n");
+            content.append("- Customer ID: ").append(event.customerId()).append("\n");
+            content.append("- Total Amount: ").append(currencyFormat.format(event.totalAmount())).append("\n");
+            content.append("- Delivery Address: ").append(event.deliveryAddress()).append("\n\n");
+
+            content.append("Items to Prepare:\n");
+            event.items().forEach(item ->
+                    content.append("- ").append(item.menuItemName())
+                            .append(" x").append(item.quantity()).append("\n")
+            );
+
+            content.append("\nPlease log into your restaurant dashboard to confirm and manage this order.\n\n");
+            content.append("Best regards,\n");
+            content.append("The ByteBites Team");
+
+            return content.toString();
+        }
+
+        String generateOrderStatusChangedSubject(OrderStatusChangedEvent event) {
+            return String.format("Order Status Update - Order #%s is now %s",
+                    event.orderId().toString().substring(0, 8).toUpperCase(),
+                    event.newStatus().toLowerCase());
+        }
+
+        String generateOrderStatusChangedContent(OrderStatusChangedEvent event) {
+            StringBuilder content = new StringBuilder();
+            content.append("Dear Customer,\n\n");
+            content.append("Your order status has been updated!\n\n");
+            content.append("Order Details:\n");
+            content.append("- Order ID: ").append(event.orderId()).append("\n");
+            content.append("- Restaurant: ").append(event.restaurantName()).append("\n");
+            content.append("- Previous Status: ").append(event.previousStatus()).append("\n");
+            content.append("- New Status: ").append(event.newStatus()).append("\n\n");
+
+            content.append(getStatusMessage(event.newStatus()));
+
+            content.append("\n\nThank you for choosing ByteBites!\n");
+            content.append("The ByteBites Team");
+
+            return content.toString();
+        }
+
+        String generateOrderStatusDigestContent(OrderStatusDigest digest) {
+            OrderStatusChangedEvent latest = digest.latest();
+            StringBuilder content = new StringBuilder();
+            content.append("Dear Customer,\n\n");
+            content.append("Your order status has been updated!\n\n");
+            content.append("Order Details:\n");
+            content.append("- Order ID: ").append(latest.orderId()).append("\n");
+            content.append("- Restaurant: ").append(latest.restaurantName()).append("\n");
+            content.append("- Current Status: ").append(latest.newStatus()).append("\n\n");
+
+            content.append("Status Timeline:\n");
+            digest.timeline().forEach(change ->
+                    content.append("- ")
+                            .append(change.timestamp() != null ? timeFormat.format(change.timestamp()) : "--:--")
+                            .append(" ").append(change.newStatus()).append("\n")
+            );
+
+            content.append("\n").append(getStatusMessage(latest.newStatus()));
+
+            content.append("\n\nThank you for choosing ByteBites!\n");
+            content.append("The ByteBites Team");
+
+            return content.toString();
+        }
+
+        String generateRestaurantCreatedContent(RestaurantCreatedEvent event) {
+            StringBuilder content = new StringBuilder();
+            content.append("Dear Restaurant Owner,\n\n");
+            content.append("Congratulations! Your restaurant has been successfully registered on ByteBites.\n\n");
+            content.append("Restaurant Details:\n");
+            content.append("- Restaurant Name: ").append(event.restaurantName()).append("\n");
+            content.append("- Restaurant ID: ").append(event.restaurantId()).append("\n");
+            content.append("- Address: ").append(event.address()).append("\n");
+            content.append("- Current Status: ").append(event.status()).append("\n\n");
+
+            if ("PENDING_APPROVAL".equals(event.status())) {
+                content.append("Your restaurant is currently under review. ");
+                content.append("Our team will review your application and approve it within 24-48 hours.\n\n");
+                content.append("Once approved, you'll be able to:\n");
+                content.append("- Manage your menu items\n");
+                content.append("- Receive and process orders\n");
+                content.append("- Access analytics and reports\n\n");
+            }
+
+            content.append("Thank you for partnering with ByteBites!\n\n");
+            content.append("Best regards,\n");
+            content.append("The ByteBites Partnership Team");
+
+            return content.toString();
+        }
+
+        private String getStatusMessage(String status) {
+            return switch (status.toUpperCase()) {
+                case "CONFIRMED" -> "Great news! Your order has been confirmed by the restaurant and is being prepared.";
+                case "PREPARING" -> "Your order is currently being prepared. It should be ready soon!";
+                case "READY" -> "Your order is ready for pickup/delivery!";
+                case "DELIVERED" -> "Your order has been delivered. We hope you enjoy your meal!";
+                case "CANCELLED" -> "Unfortunately, your order has been cancelled. If you have any questions, please contact our support team.";
+                default -> "Your order status has been updated.";
+            };
+        }
+    }
+}
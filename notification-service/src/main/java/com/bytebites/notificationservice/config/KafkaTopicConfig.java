@@ -0,0 +1,40 @@
+package com.bytebites.notificationservice.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+import java.time.Duration;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    @Value("${bytebites.kafka.dead-letter.suffix:.DLT}")
+    private String deadLetterSuffix;
+
+    @Value("${bytebites.kafka.dead-letter.partitions:3}")
+    private int partitions;
+
+    @Value("${bytebites.kafka.dead-letter.retention:14d}")
+    private Duration retention;
+
+    @Bean
+    public NewTopic orderEventsDeadLetterTopic(@Value("${bytebites.kafka.topics.order-events}") String topic) {
+        return deadLetterTopic(topic);
+    }
+
+    @Bean
+    public NewTopic restaurantEventsDeadLetterTopic(@Value("${bytebites.kafka.topics.restaurant-events}") String topic) {
+        return deadLetterTopic(topic);
+    }
+
+    private NewTopic deadLetterTopic(String topic) {
+        return TopicBuilder.name(topic + deadLetterSuffix)
+                .partitions(partitions)
+                .config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(retention.toMillis()))
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.bytebites.notificationservice.consumer;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+final class KeyedExecutor implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("order-event-", 0).factory());
+    private final Map<String, CompletableFuture<Void>> lanes = new ConcurrentHashMap<>();
+
+    void submit(String key, Runnable task) {
+        CompletableFuture<Void> lane = lanes.compute(key, (k, tail) -> tail == null
+                ? CompletableFuture.runAsync(task, executor)
+                : tail.exceptionally(e -> null).thenRunAsync(task, executor));
+        lane.whenComplete((result, error) -> lanes.remove(key, lane));
+    }
+
+    int activeKeys() {
+        return lanes.size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.bytebites.notificationservice.consumer;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class OffsetTracker {
+
+    private final Map<TopicPartition, PartitionOffsets> partitions = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    Runnable track(TopicPartition partition, long offset) {
+        PartitionOffsets offsets = partitions.computeIfAbsent(partition, p -> new PartitionOffsets());
+        offsets.track(offset);
+        inFlight.incrementAndGet();
+        return () -> {
+            if (offsets.complete(offset)) {
+                inFlight.decrementAndGet();
+            }
+        };
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    Map<TopicPartition, OffsetAndMetadata> committable() {
+        return committable(partitions.keySet());
+    }
+
+    Map<TopicPartition, OffsetAndMetadata> committable(Collection<TopicPartition> candidates) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : candidates) {
+            PartitionOffsets tracked = partitions.get(partition);
+            if (tracked != null) {
+                long safe = tracked.safeOffset();
+                if (safe > tracked.committed) {
+                    offsets.put(partition, new OffsetAndMetadata(safe));
+                }
+            }
+        }
+        return offsets;
+    }
+
+    void committed(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        offsets.forEach((partition, offset) -> {
+            PartitionOffsets tracked = partitions.get(partition);
+            if (tracked != null) {
+                tracked.committed = Math.max(tracked.committed, offset.offset());
+            }
+        });
+    }
+
+    void forget(Collection<TopicPartition> revoked) {
+        revoked.forEach(partitions::remove);
+    }
+
+    void reset() {
+        partitions.clear();
+    }
+
+    private static final class PartitionOffsets {
+
+        private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+        private volatile long next = -1;
+        private volatile long committed = -1;
+
+        void track(long offset) {
+            pending.add(offset);
+            next = Math.max(next, offset + 1);
+        }
+
+        boolean complete(long offset) {
+            return pending.remove(offset);
+        }
+
+        long safeOffset() {
+            long upTo = next;
+            Long lowest = pending.isEmpty() ? null : pending.first();
+            return lowest == null ? upTo : Math.min(lowest, upTo);
+        }
+    }
+}
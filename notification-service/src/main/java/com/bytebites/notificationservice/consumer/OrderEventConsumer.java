@@ -1,130 +1,101 @@
 package com.bytebites.notificationservice.consumer;
 
-import com.bytebites.notificationservice.event.OrderPlacedEvent;
-import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
-import com.bytebites.notificationservice.service.NotificationService;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import io.github.resilience4j.retry.annotation.Retry;
+import com.bytebites.notificationservice.event.OrderEvent;
+import com.bytebites.notificationservice.service.NotificationBatchResult;
+import com.bytebites.notificationservice.service.NotificationBatchService;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 public class OrderEventConsumer {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderEventConsumer.class);
 
-    private final NotificationService notificationService;
-    private final ObjectMapper objectMapper;
-
-    public OrderEventConsumer(NotificationService notificationService) {
-        this.notificationService = notificationService;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+    private final NotificationBatchService notificationBatchService;
+    private final Retry retry;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+    private final OrderEventReader orderEventReader;
+
+    public OrderEventConsumer(NotificationBatchService notificationBatchService,
+                              RetryRegistry retryRegistry,
+                              DeadLetterPublishingRecoverer deadLetterRecoverer) {
+        this.notificationBatchService = notificationBatchService;
+        this.retry = retryRegistry.retry("order-event-processing");
+        this.deadLetterRecoverer = deadLetterRecoverer;
+        this.orderEventReader = new OrderEventReader();
     }
 
     @KafkaListener(topics = "${bytebites.kafka.topics.order-events}",
-            containerFactory = "kafkaListenerContainerFactory")
-    public void handleOrderEvent(@Payload Map<String, Object> eventMap,
-                                 @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-                                 @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-                                 @Header(KafkaHeaders.OFFSET) long offset,
-                                 Acknowledgment acknowledgment) {
-
-        logger.info("Received event from topic: {}, partition: {}, offset: {}, payload type: {}",
-                topic, partition, offset, eventMap.getClass().getSimpleName());
-
-        try {
-            String eventType = (String) eventMap.get("eventType");
-            logger.info("Processing event of type: {}", eventType);
-
-            switch (eventType) {
-                case "OrderPlaced":
-                    OrderPlacedEvent orderPlacedEvent = convertToOrderPlacedEvent(eventMap);
-                    handleOrderPlacedEventWithRetry(orderPlacedEvent);
-                    break;
-                case "OrderStatusChanged":
-                    OrderStatusChangedEvent statusChangedEvent = convertToOrderStatusChangedEvent(eventMap);
-                    handleOrderStatusChangedEventWithRetry(statusChangedEvent);
-                    break;
-                default:
-                    logger.warn("Unknown event type received: {}", eventType);
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "#{'${bytebites.kafka.consumer.mode:batch}' == 'batch'}")
+    public void handleOrderEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        logger.info("Received batch of {} order events", records.size());
+
+        List<ConsumerRecord<String, Object>> readable = new ArrayList<>(records.size());
+        List<OrderEvent> events = new ArrayList<>(records.size());
+        int deadLettered = 0;
+        for (ConsumerRecord<String, Object> record : records) {
+            try {
+                events.add(orderEventReader.read(record.value()));
+                readable.add(record);
+            } catch (PoisonEventException e) {
+                logger.error("Error converting event at partition: {}, offset: {}, error: {}",
+                        record.partition(), record.offset(), e.getMessage());
+                deadLetter(record, e);
+                deadLettered++;
             }
+        }
 
-            acknowledgment.acknowledge();
-            logger.info("Event processed successfully");
+        // Failed events are retried on their own so the rest of the batch is acknowledged and never redelivered.
+        if (!events.isEmpty()) {
+            NotificationBatchResult result = notificationBatchService.processOrderEvents(events);
+            for (int failed : result.failedIndexes()) {
+                if (!retryAlone(events.get(failed), readable.get(failed))) {
+                    deadLettered++;
+                }
+            }
+        }
 
-        } catch (Exception e) {
-            logger.error("Error processing event: {}", e.getMessage(), e);
-            throw e;
+        acknowledgment.acknowledge();
+        if (deadLettered > 0) {
+            logger.error("Batch of {} order events processed, {} sent to the dead-letter topic", records.size(), deadLettered);
+        } else {
+            logger.info("Batch of {} order events processed successfully", records.size());
         }
     }
 
-    private OrderPlacedEvent convertToOrderPlacedEvent(Map<String, Object> eventMap) {
+    private boolean retryAlone(OrderEvent event, ConsumerRecord<String, Object> record) {
         try {
-            return objectMapper.convertValue(eventMap, OrderPlacedEvent.class);
+            retry.executeRunnable(() -> {
+                NotificationBatchResult result = notificationBatchService.processOrderEvents(List.of(event));
+                if (result.hasFailures()) {
+                    throw new IllegalStateException("Notification delivery failed for event: " + event.eventId());
+                }
+            });
+            return true;
         } catch (Exception e) {
-            logger.error("Error converting to OrderPlacedEvent: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to convert event to OrderPlacedEvent", e);
+            logger.error("Giving up on order event: {} after retries: {}", event.eventId(), e.getMessage());
+            deadLetter(record, e);
+            return false;
         }
     }
 
-    private OrderStatusChangedEvent convertToOrderStatusChangedEvent(Map<String, Object> eventMap) {
+    private void deadLetter(ConsumerRecord<String, Object> record, Exception e) {
         try {
-            return objectMapper.convertValue(eventMap, OrderStatusChangedEvent.class);
-        } catch (Exception e) {
-            logger.error("Error converting to OrderStatusChangedEvent: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to convert event to OrderStatusChangedEvent", e);
+            deadLetterRecoverer.accept(record, e);
+        } catch (Exception publishFailure) {
+            logger.error("Failed to route order event at partition: {}, offset: {} to the dead-letter topic: {}",
+                    record.partition(), record.offset(), publishFailure.getMessage());
         }
     }
-
-    @Retry(name = "order-event-processing", fallbackMethod = "fallbackOrderStatusChangedEvent")
-    private void handleOrderStatusChangedEventWithRetry(OrderStatusChangedEvent event) {
-        logger.info("Processing OrderStatusChangedEvent with retry: orderId={}, status={}->{}",
-                event.orderId(), event.previousStatus(), event.newStatus());
-
-        
-        notificationService.sendOrderStatusChangedNotification(event);
-    }
-
-    
-    public void fallbackOrderPlacedEvent(OrderPlacedEvent event, Exception ex) {
-        logger.error("Failed to process OrderPlacedEvent after retries: orderId={}, error: {}",
-                event.orderId(), ex.getMessage());
-
-        
-        saveFailedEventProcessing("OrderPlacedEvent", event.orderId().toString(), ex.getMessage());
-    }
-
-    public void fallbackOrderStatusChangedEvent(OrderStatusChangedEvent event, Exception ex) {
-        logger.error("Failed to process OrderStatusChangedEvent after retries: orderId={}, error: {}",
-                event.orderId(), ex.getMessage());
-
-        
-        saveFailedEventProcessing("OrderStatusChangedEvent", event.orderId().toString(), ex.getMessage());
-    }
-
-    private void saveFailedEventProcessing(String eventType, String orderId, String error) {
-        logger.warn("Saving failed event processing: type={}, orderId={}, error={}", eventType, orderId, error);
-        
-    }
-    @Retry(name = "order-event-processing", fallbackMethod = "fallbackOrderPlacedEvent")
-    private void handleOrderPlacedEventWithRetry(OrderPlacedEvent event) {
-        logger.info("Processing OrderPlacedEvent with retry: orderId={}, customerId={}, restaurantId={}",
-                event.orderId(), event.customerId(), event.restaurantId());
-
-        
-        notificationService.sendOrderPlacedNotificationToCustomer(event);
-
-        
-        notificationService.sendOrderPlacedNotificationToRestaurant(event);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.bytebites.notificationservice.consumer;
+
+import com.bytebites.notificationservice.event.OrderEvent;
+import com.bytebites.notificationservice.event.OrderPlacedEvent;
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.util.Map;
+
+final class OrderEventReader {
+
+    private final ObjectMapper objectMapper;
+
+    OrderEventReader() {
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    OrderEvent read(Object payload) {
+        if (payload instanceof OrderEvent event) {
+            return event;
+        }
+        if (!(payload instanceof Map<?, ?> eventMap)) {
+            throw new PoisonEventException("Unexpected event format: "
+                    + (payload == null ? null : payload.getClass().getSimpleName()));
+        }
+
+        String eventType = (String) eventMap.get("eventType");
+        Class<? extends OrderEvent> eventClass = switch (eventType == null ? "" : eventType) {
+            case "OrderPlaced" -> OrderPlacedEvent.class;
+            case "OrderStatusChanged" -> OrderStatusChangedEvent.class;
+            default -> throw new PoisonEventException("Unknown event type received: " + eventType);
+        };
+        try {
+            return objectMapper.convertValue(eventMap, eventClass);
+        } catch (IllegalArgumentException e) {
+            throw new PoisonEventException("Failed to convert event to " + eventClass.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.bytebites.notificationservice.consumer;
+
+import com.bytebites.notificationservice.event.OrderEvent;
+import com.bytebites.notificationservice.event.OrderPlacedEvent;
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.bytebites.notificationservice.service.NotificationBatchResult;
+import com.bytebites.notificationservice.service.NotificationBatchService;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@DependsOn("orderStatusDigestJob")
+public class ParallelOrderEventConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelOrderEventConsumer.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration RESTART_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_RESTART_BACKOFF = Duration.ofMinutes(1);
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final NotificationBatchService notificationBatchService;
+    private final Retry retry;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+    private final OrderEventReader orderEventReader = new OrderEventReader();
+    private final OffsetTracker offsetTracker = new OffsetTracker();
+    private final boolean enabled;
+    private final String topic;
+    private final int maxInFlight;
+    private final Counter processed;
+    private final Counter failed;
+    private final Counter skipped;
+    private final Counter restarts;
+    private volatile boolean running;
+    private volatile boolean polling;
+    private volatile Consumer<String, Object> consumer;
+    private KeyedExecutor executor;
+    private Thread poller;
+
+    public ParallelOrderEventConsumer(@Qualifier("batchConsumerFactory") ConsumerFactory<String, Object> consumerFactory,
+                                      NotificationBatchService notificationBatchService,
+                                      RetryRegistry retryRegistry,
+                                      DeadLetterPublishingRecoverer deadLetterRecoverer,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${bytebites.kafka.consumer.mode:batch}") String mode,
+                                      @Value("${bytebites.kafka.topics.order-events}") String topic,
+                                      @Value("${bytebites.kafka.consumer.max-in-flight:1000}") int maxInFlight) {
+        this.consumerFactory = consumerFactory;
+        this.notificationBatchService = notificationBatchService;
+        this.retry = retryRegistry.retry("order-event-processing");
+        this.deadLetterRecoverer = deadLetterRecoverer;
+        this.enabled = "parallel".equalsIgnoreCase(mode);
+        this.topic = topic;
+        this.maxInFlight = maxInFlight;
+        this.processed = outcome(meterRegistry, "processed");
+        this.failed = outcome(meterRegistry, "failed");
+        this.skipped = outcome(meterRegistry, "skipped");
+        this.restarts = Counter.builder("order_event_poller_restarts_total")
+                .description("Times the order event poller recreated its consumer after a failure")
+                .register(meterRegistry);
+
+        Gauge.builder("order_events_in_flight", offsetTracker, OffsetTracker::inFlight)
+                .description("Order events polled but not yet fully processed")
+                .register(meterRegistry);
+        Gauge.builder("order_event_poller_up", this, consumer -> consumer.isPolling() ? 1 : 0)
+                .description("Whether the order event poller currently holds a working consumer")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        executor = new KeyedExecutor();
+        poller = Thread.ofPlatform().name("order-event-poller").start(this::run);
+        logger.info("Parallel order event consumer started with max {} in-flight events", maxInFlight);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Consumer<String, Object> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+        try {
+            poller.join(DRAIN_TIMEOUT.plusSeconds(5).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isPolling() {
+        return polling;
+    }
+
+    private void run() {
+        Duration backoff = RESTART_BACKOFF;
+        try {
+            while (running) {
+                try {
+                    poll();
+                } catch (Exception e) {
+                    if (polling) {
+                        backoff = RESTART_BACKOFF;
+                    }
+                    polling = false;
+                    restarts.increment();
+                    logger.error("Parallel order event consumer failed, restarting in {}: {}", backoff, e.getMessage(), e);
+                    pause(backoff);
+                    Duration doubled = backoff.multipliedBy(2);
+                    backoff = doubled.compareTo(MAX_RESTART_BACKOFF) < 0 ? doubled : MAX_RESTART_BACKOFF;
+                }
+            }
+        } finally {
+            polling = false;
+            executor.close();
+        }
+    }
+
+    private void poll() {
+        try (Consumer<String, Object> kafkaConsumer = consumerFactory.createConsumer()) {
+            consumer = kafkaConsumer;
+            kafkaConsumer.subscribe(List.of(topic), new CommitOnRevoke(kafkaConsumer));
+            try {
+                while (running) {
+                    commit(kafkaConsumer, false);
+                    applyBackpressure(kafkaConsumer);
+                    for (ConsumerRecord<String, Object> record : kafkaConsumer.poll(POLL_TIMEOUT)) {
+                        dispatch(record);
+                    }
+                    polling = true;
+                }
+            } catch (WakeupException e) {
+                if (running) {
+                    throw e;
+                }
+            } finally {
+                // Whatever was handed to the executor finishes before the consumer goes away; offsets it could not
+                // commit are redelivered to the replacement consumer.
+                drain();
+                try {
+                    commit(kafkaConsumer, true);
+                } catch (Exception e) {
+                    logger.warn("Failed to commit order event offsets before closing the consumer: {}", e.getMessage());
+                }
+                offsetTracker.reset();
+            }
+        } finally {
+            consumer = null;
+        }
+    }
+
+    private void dispatch(ConsumerRecord<String, Object> record) {
+        Runnable completion = offsetTracker.track(new TopicPartition(record.topic(), record.partition()), record.offset());
+        OrderEvent event;
+        try {
+            event = orderEventReader.read(record.value());
+        } catch (PoisonEventException e) {
+            logger.error("Skipping unreadable event at partition: {}, offset: {}, error: {}",
+                    record.partition(), record.offset(), e.getMessage());
+            skipped.increment();
+            deadLetter(record, e);
+            completion.run();
+            return;
+        }
+
+        executor.submit(laneKey(event, record), () -> handle(event, record, completion));
+    }
+
+    private void handle(OrderEvent event, ConsumerRecord<String, Object> record, Runnable completion) {
+        try {
+            retry.executeRunnable(() -> {
+                NotificationBatchResult result = notificationBatchService.processOrderEvents(List.of(event));
+                if (result.hasFailures()) {
+                    throw new IllegalStateException("Notification delivery failed for event: " + event.eventId());
+                }
+            });
+            processed.increment();
+        } catch (Exception e) {
+            failed.increment();
+            logger.error("Giving up on order event: {} after retries: {}", event.eventId(), e.getMessage());
+            deadLetter(record, e);
+        } finally {
+            completion.run();
+        }
+    }
+
+    private void deadLetter(ConsumerRecord<String, Object> record, Exception e) {
+        try {
+            deadLetterRecoverer.accept(record, e);
+        } catch (Exception publishFailure) {
+            logger.error("Failed to route order event at partition: {}, offset: {} to the dead-letter topic: {}",
+                    record.partition(), record.offset(), publishFailure.getMessage());
+        }
+    }
+
+    private void applyBackpressure(Consumer<String, Object> kafkaConsumer) {
+        int inFlight = offsetTracker.inFlight();
+        if (inFlight >= maxInFlight && kafkaConsumer.paused().isEmpty()) {
+            kafkaConsumer.pause(kafkaConsumer.assignment());
+            logger.debug("Paused polling with {} events in flight", inFlight);
+        } else if (inFlight <= maxInFlight / 2 && !kafkaConsumer.paused().isEmpty()) {
+            kafkaConsumer.resume(kafkaConsumer.paused());
+            logger.debug("Resumed polling with {} events in flight", inFlight);
+        }
+    }
+
+    private void commit(Consumer<String, Object> kafkaConsumer, boolean sync) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = offsetTracker.committable();
+        if (offsets.isEmpty()) {
+            return;
+        }
+        if (sync) {
+            kafkaConsumer.commitSync(offsets);
+            offsetTracker.committed(offsets);
+        } else {
+            kafkaConsumer.commitAsync(offsets, (committed, e) -> {
+                if (e == null) {
+                    offsetTracker.committed(committed);
+                } else {
+                    logger.warn("Failed to commit order event offsets: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (offsetTracker.inFlight() > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void pause(Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        while (running && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static String laneKey(OrderEvent event, ConsumerRecord<String, Object> record) {
+        return switch (event) {
+            case OrderPlacedEvent placed when placed.orderId() != null -> placed.orderId().toString();
+            case OrderStatusChangedEvent changed when changed.orderId() != null -> changed.orderId().toString();
+            default -> record.key() != null ? record.key() : record.partition() + "-" + record.offset();
+        };
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("order_events_processed_total")
+                .description("Order events handled by the parallel consumer")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private final class CommitOnRevoke implements ConsumerRebalanceListener {
+
+        private final Consumer<String, Object> kafkaConsumer;
+
+        private CommitOnRevoke(Consumer<String, Object> kafkaConsumer) {
+            this.kafkaConsumer = kafkaConsumer;
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            Map<TopicPartition, OffsetAndMetadata> offsets = offsetTracker.committable(partitions);
+            if (!offsets.isEmpty()) {
+                kafkaConsumer.commitSync(offsets);
+            }
+            offsetTracker.forget(partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            if (!kafkaConsumer.paused().isEmpty()) {
+                kafkaConsumer.pause(partitions);
+            }
+        }
+    }
+}
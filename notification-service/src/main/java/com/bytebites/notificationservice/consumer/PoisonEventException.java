@@ -0,0 +1,12 @@
+package com.bytebites.notificationservice.consumer;
+
+public class PoisonEventException extends RuntimeException {
+
+    public PoisonEventException(String message) {
+        super(message);
+    }
+
+    public PoisonEventException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -55,8 +55,8 @@ public class RestaurantEventConsumer {
                 if (payload instanceof Map) {
                     eventMap = (Map<String, Object>) payload;
                 } else {
-                    logger.warn("ConsumerRecord payload is not a Map: {}", payload.getClass().getSimpleName());
-                    return;
+                    throw new PoisonEventException("ConsumerRecord payload is not a Map: "
+                            + (payload == null ? null : payload.getClass().getSimpleName()));
                 }
             } else if (event instanceof RestaurantCreatedEvent restaurantCreatedEvent) {
                 handleRestaurantCreatedEvent(restaurantCreatedEvent);
@@ -64,14 +64,15 @@ public class RestaurantEventConsumer {
                 logger.info("Event processed successfully");
                 return;
             } else {
-                logger.warn("Unexpected event format: {}", event.getClass().getSimpleName());
-                acknowledgment.acknowledge();
-                return;
+                throw new PoisonEventException("Unexpected event format: " + event.getClass().getSimpleName());
             }
 
             
             if (eventMap != null) {
                 String eventType = (String) eventMap.get("eventType");
+                if (eventType == null) {
+                    throw new PoisonEventException("Event has no eventType");
+                }
                 logger.info("Processing event of type: {}", eventType);
 
                 switch (eventType) {
@@ -80,7 +81,7 @@ public class RestaurantEventConsumer {
                         handleRestaurantCreatedEvent(restaurantCreatedEvent);
                         break;
                     default:
-                        logger.warn("Unknown event type received: {}", eventType);
+                        logger.debug("Ignoring restaurant event of type: {}", eventType);
                 }
             }
 
@@ -98,7 +99,7 @@ public class RestaurantEventConsumer {
             return objectMapper.convertValue(eventMap, RestaurantCreatedEvent.class);
         } catch (Exception e) {
             logger.error("Error converting to RestaurantCreatedEvent: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to convert event to RestaurantCreatedEvent", e);
+            throw new PoisonEventException("Failed to convert event to RestaurantCreatedEvent", e);
         }
     }
 
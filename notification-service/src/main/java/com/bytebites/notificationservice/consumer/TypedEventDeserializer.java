@@ -0,0 +1,92 @@
+package com.bytebites.notificationservice.consumer;
+
+import com.bytebites.notificationservice.event.OrderPlacedEvent;
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.bytebites.notificationservice.event.RestaurantCreatedEvent;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TypedEventDeserializer implements Deserializer<Object> {
+
+    private static final Map<String, Class<?>> EVENT_TYPES = Map.of(
+            "OrderPlaced", OrderPlacedEvent.class,
+            "OrderStatusChanged", OrderStatusChangedEvent.class,
+            "RestaurantCreated", RestaurantCreatedEvent.class
+    );
+
+    private final Map<String, ObjectReader> readersByEventType = new HashMap<>();
+    private final Map<String, ObjectReader> readersByClassName = new HashMap<>();
+    private final ObjectMapper objectMapper;
+    private final ObjectReader fallbackReader;
+
+    public TypedEventDeserializer() {
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        EVENT_TYPES.forEach((eventType, type) -> {
+            ObjectReader reader = objectMapper.readerFor(type);
+            readersByEventType.put(eventType, reader);
+            readersByClassName.put(type.getSimpleName(), reader);
+        });
+        this.fallbackReader = objectMapper.readerFor(Object.class);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            ObjectReader reader = readerFromHeader(headers);
+            if (reader == null) {
+                reader = readersByEventType.get(eventType(data));
+            }
+            return (reader != null ? reader : fallbackReader).readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize event from topic " + topic, e);
+        }
+    }
+
+    private ObjectReader readerFromHeader(Headers headers) {
+        Header typeId = headers == null ? null : headers.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        if (typeId == null) {
+            return null;
+        }
+        String className = new String(typeId.value(), StandardCharsets.UTF_8);
+        return readersByClassName.get(className.substring(className.lastIndexOf('.') + 1));
+    }
+
+    private String eventType(byte[] data) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(data)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("eventType".equals(field)) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+}
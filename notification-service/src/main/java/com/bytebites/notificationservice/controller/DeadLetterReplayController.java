@@ -0,0 +1,51 @@
+package com.bytebites.notificationservice.controller;
+
+import com.bytebites.notificationservice.dto.DeadLetterReplayJob;
+import com.bytebites.notificationservice.dto.DeadLetterReplayRequest;
+import com.bytebites.notificationservice.service.DeadLetterReplayService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/notifications/admin/dead-letters")
+public class DeadLetterReplayController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterReplayController.class);
+
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    public DeadLetterReplayController(DeadLetterReplayService deadLetterReplayService) {
+        this.deadLetterReplayService = deadLetterReplayService;
+    }
+
+    @PostMapping("/replay")
+    public ResponseEntity<DeadLetterReplayJob> replay(@RequestBody DeadLetterReplayRequest request) {
+        logger.info("Dead-letter replay request for topic: {}, event types: {}, from: {}, to: {}",
+                request.topic(), request.eventTypes(), request.from(), request.to());
+        try {
+            return ResponseEntity.accepted().body(deadLetterReplayService.submit(request));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    @GetMapping("/replay/{jobId}")
+    public ResponseEntity<DeadLetterReplayJob> getReplayJob(@PathVariable UUID jobId) {
+        return deadLetterReplayService.findJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
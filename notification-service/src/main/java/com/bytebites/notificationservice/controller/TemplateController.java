@@ -0,0 +1,37 @@
+package com.bytebites.notificationservice.controller;
+
+import com.bytebites.notificationservice.dto.TemplateReloadResult;
+import com.bytebites.notificationservice.template.TemplateRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/notifications/admin/templates")
+public class TemplateController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemplateController.class);
+
+    private final TemplateRegistry templateRegistry;
+
+    public TemplateController(TemplateRegistry templateRegistry) {
+        this.templateRegistry = templateRegistry;
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<TemplateReloadResult> reload() {
+        long start = System.nanoTime();
+        try {
+            int templates = templateRegistry.reload();
+            return ResponseEntity.ok(new TemplateReloadResult(templates, (System.nanoTime() - start) / 1_000_000));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Template reload rejected, keeping previous templates: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+        }
+    }
+}
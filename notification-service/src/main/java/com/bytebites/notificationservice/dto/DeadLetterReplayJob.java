@@ -0,0 +1,31 @@
+package com.bytebites.notificationservice.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DeadLetterReplayJob(
+        UUID jobId,
+        Status status,
+        DeadLetterReplayRequest request,
+        Instant submittedAt,
+        Instant finishedAt,
+        DeadLetterReplayResult result,
+        String error
+) {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    public static DeadLetterReplayJob running(DeadLetterReplayRequest request) {
+        return new DeadLetterReplayJob(UUID.randomUUID(), Status.RUNNING, request, Instant.now(), null, null, null);
+    }
+
+    public DeadLetterReplayJob completed(DeadLetterReplayResult result) {
+        return new DeadLetterReplayJob(jobId, Status.COMPLETED, request, submittedAt, Instant.now(), result, null);
+    }
+
+    public DeadLetterReplayJob failed(String error) {
+        return new DeadLetterReplayJob(jobId, Status.FAILED, request, submittedAt, Instant.now(), null, error);
+    }
+}
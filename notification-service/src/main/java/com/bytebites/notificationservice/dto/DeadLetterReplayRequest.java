@@ -0,0 +1,13 @@
+package com.bytebites.notificationservice.dto;
+
+import java.time.Instant;
+import java.util.Set;
+
+public record DeadLetterReplayRequest(
+        String topic,
+        Set<String> eventTypes,
+        Instant from,
+        Instant to,
+        Integer ratePerSecond,
+        Integer maxRecords
+) {}
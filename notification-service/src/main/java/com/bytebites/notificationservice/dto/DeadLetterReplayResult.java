@@ -0,0 +1,11 @@
+package com.bytebites.notificationservice.dto;
+
+public record DeadLetterReplayResult(
+        String deadLetterTopic,
+        String targetTopic,
+        int scanned,
+        int replayed,
+        int skipped,
+        int failed,
+        long durationMs
+) {}
@@ -0,0 +1,6 @@
+package com.bytebites.notificationservice.dto;
+
+public record TemplateReloadResult(
+        int templates,
+        long durationMs
+) {}
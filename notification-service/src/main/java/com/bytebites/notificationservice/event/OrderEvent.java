@@ -0,0 +1,6 @@
+package com.bytebites.notificationservice.event;
+
+public sealed interface OrderEvent permits OrderPlacedEvent, OrderStatusChangedEvent {
+
+    String eventId();
+}
@@ -19,4 +19,4 @@ public record OrderPlacedEvent(
         @JsonProperty("totalAmount") BigDecimal totalAmount,
         @JsonProperty("items") List<OrderItemInfo> items,
         @JsonProperty("deliveryAddress") String deliveryAddress
-) {}
\ No newline at end of file
+) implements OrderEvent {}
\ No newline at end of file
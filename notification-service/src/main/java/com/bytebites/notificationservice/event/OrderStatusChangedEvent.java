@@ -17,4 +17,4 @@ public record OrderStatusChangedEvent(
         @JsonProperty("previousStatus") String previousStatus,
         @JsonProperty("newStatus") String newStatus,
         @JsonProperty("changedBy") UUID changedBy
-) {}
+) implements OrderEvent {}
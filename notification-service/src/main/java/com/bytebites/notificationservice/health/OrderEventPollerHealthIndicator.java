@@ -0,0 +1,27 @@
+package com.bytebites.notificationservice.health;
+
+import com.bytebites.notificationservice.consumer.ParallelOrderEventConsumer;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderEventPollerHealthIndicator implements HealthIndicator {
+
+    private final ParallelOrderEventConsumer parallelOrderEventConsumer;
+
+    public OrderEventPollerHealthIndicator(ParallelOrderEventConsumer parallelOrderEventConsumer) {
+        this.parallelOrderEventConsumer = parallelOrderEventConsumer;
+    }
+
+    @Override
+    public Health health() {
+        if (!parallelOrderEventConsumer.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        Health.Builder builder = parallelOrderEventConsumer.isPolling() ? Health.up() : Health.down();
+        return builder.withDetail("enabled", true)
+                .withDetail("polling", parallelOrderEventConsumer.isPolling())
+                .build();
+    }
+}
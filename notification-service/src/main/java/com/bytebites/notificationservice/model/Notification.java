@@ -3,6 +3,8 @@ package com.bytebites.notificationservice.model;
 import com.bytebites.notificationservice.enums.NotificationStatus;
 import com.bytebites.notificationservice.enums.NotificationType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -43,10 +45,8 @@ public class Notification {
     @Column(name = "event_id", unique = true, nullable = false)
     private String eventId; 
 
-    @ElementCollection
-    @CollectionTable(name = "notification_metadata", joinColumns = @JoinColumn(name = "notification_id"))
-    @MapKeyColumn(name = "metadata_key")
-    @Column(name = "metadata_value")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
     private Map<String, String> metadata = new HashMap<>();
 
     @CreatedDate
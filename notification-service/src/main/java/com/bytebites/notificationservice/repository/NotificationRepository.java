@@ -3,14 +3,19 @@ package com.bytebites.notificationservice.repository;
 import com.bytebites.notificationservice.enums.NotificationStatus;
 import com.bytebites.notificationservice.enums.NotificationType;
 import com.bytebites.notificationservice.model.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -18,6 +23,12 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
 
     Optional<Notification> findByEventId(String eventId);
 
+    @Query("SELECT n.eventId FROM Notification n WHERE n.eventId IN :eventIds")
+    Set<String> findExistingEventIds(@Param("eventIds") Collection<String> eventIds);
+
+    @Query("SELECT n.eventId FROM Notification n WHERE n.createdAt >= :since ORDER BY n.createdAt")
+    Slice<String> findEventIdsCreatedAfter(@Param("since") LocalDateTime since, Pageable pageable);
+
     List<Notification> findByRecipientIdOrderByCreatedAtDesc(UUID recipientId);
 
     List<Notification> findByStatusOrderByCreatedAtDesc(NotificationStatus status);
@@ -28,5 +39,18 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     List<Notification> findRecentNotificationsByStatus(@Param("startTime") LocalDateTime startTime,
                                                        @Param("status") NotificationStatus status);
 
+    List<Notification> findByStatusAndCreatedAtBeforeOrderByCreatedAt(NotificationStatus status, LocalDateTime before,
+                                                                      Pageable pageable);
+
     long countByStatusAndCreatedAtAfter(NotificationStatus status, LocalDateTime after);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = com.bytebites.notificationservice.enums.NotificationStatus.SENT, " +
+            "n.sentAt = :sentAt, n.errorMessage = null WHERE n.id IN :ids")
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = com.bytebites.notificationservice.enums.NotificationStatus.FAILED, " +
+            "n.errorMessage = :errorMessage WHERE n.id = :id")
+    int markFailed(@Param("id") UUID id, @Param("errorMessage") String errorMessage);
 }
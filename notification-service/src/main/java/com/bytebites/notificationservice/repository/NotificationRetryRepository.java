@@ -0,0 +1,37 @@
+package com.bytebites.notificationservice.repository;
+
+import com.bytebites.notificationservice.model.NotificationRetry;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface NotificationRetryRepository extends JpaRepository<NotificationRetry, UUID> {
+
+    List<NotificationRetry> findByNotificationIdIn(Collection<UUID> notificationIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM NotificationRetry r WHERE r.nextAttemptAt <= :now ORDER BY r.nextAttemptAt")
+    List<NotificationRetry> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT MIN(r.createdAt) FROM NotificationRetry r")
+    Optional<LocalDateTime> findOldestCreatedAt();
+
+    @Modifying
+    @Query("DELETE FROM NotificationRetry r WHERE r.notificationId IN :notificationIds")
+    int deleteByNotificationIds(@Param("notificationIds") Collection<UUID> notificationIds);
+}
@@ -0,0 +1,288 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.dto.DeadLetterReplayJob;
+import com.bytebites.notificationservice.dto.DeadLetterReplayRequest;
+import com.bytebites.notificationservice.dto.DeadLetterReplayResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class DeadLetterReplayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterReplayService.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+    private static final int RETAINED_JOBS = 50;
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String bootstrapServers;
+    private final String deadLetterSuffix;
+    private final Set<String> sourceTopics;
+    private final int defaultRate;
+    private final int maxRecords;
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("dead-letter-replay").factory());
+    private final Map<UUID, DeadLetterReplayJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, DeadLetterReplayJob> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    };
+
+    public DeadLetterReplayService(@Qualifier("deadLetterKafkaTemplate") KafkaTemplate<Object, Object> kafkaTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+                                   @Value("${bytebites.kafka.dead-letter.suffix:.DLT}") String deadLetterSuffix,
+                                   @Value("${bytebites.kafka.topics.order-events}") String orderEventsTopic,
+                                   @Value("${bytebites.kafka.topics.restaurant-events}") String restaurantEventsTopic,
+                                   @Value("${bytebites.kafka.dead-letter.replay.default-rate:100}") int defaultRate,
+                                   @Value("${bytebites.kafka.dead-letter.replay.max-records:10000}") int maxRecords) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.bootstrapServers = bootstrapServers;
+        this.deadLetterSuffix = deadLetterSuffix;
+        this.sourceTopics = Set.of(orderEventsTopic, restaurantEventsTopic);
+        this.defaultRate = defaultRate;
+        this.maxRecords = maxRecords;
+    }
+
+    public DeadLetterReplayJob submit(DeadLetterReplayRequest request) {
+        if (request.topic() == null || !sourceTopics.contains(request.topic())) {
+            throw new IllegalArgumentException("Topic must be one of " + sourceTopics);
+        }
+        if (request.from() != null && request.to() != null && request.from().isAfter(request.to())) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        int rate = request.ratePerSecond() != null ? request.ratePerSecond() : defaultRate;
+        int limit = request.maxRecords() != null ? Math.min(request.maxRecords(), maxRecords) : maxRecords;
+        if (rate < 1 || limit < 1) {
+            throw new IllegalArgumentException("ratePerSecond and maxRecords must be at least 1");
+        }
+        if (!replaying.compareAndSet(false, true)) {
+            throw new IllegalStateException("A dead-letter replay is already running");
+        }
+
+        DeadLetterReplayJob job = DeadLetterReplayJob.running(request);
+        store(job);
+        try {
+            executor.execute(() -> run(job, rate, limit));
+        } catch (RuntimeException e) {
+            replaying.set(false);
+            store(job.failed(e.getMessage()));
+            throw new IllegalStateException("Dead-letter replay could not be started", e);
+        }
+        logger.info("Started dead-letter replay job: {} for topic: {}", job.jobId(), request.topic());
+        return job;
+    }
+
+    public Optional<DeadLetterReplayJob> findJob(UUID jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(DeadLetterReplayJob job, int rate, int limit) {
+        try {
+            store(job.completed(replay(job.request(), rate, limit)));
+        } catch (Exception e) {
+            logger.error("Dead-letter replay job: {} failed: {}", job.jobId(), e.getMessage(), e);
+            store(job.failed(e.getMessage()));
+        } finally {
+            replaying.set(false);
+        }
+    }
+
+    private void store(DeadLetterReplayJob job) {
+        synchronized (jobs) {
+            jobs.put(job.jobId(), job);
+        }
+    }
+
+    private DeadLetterReplayResult replay(DeadLetterReplayRequest request, int rate, int limit) {
+        String deadLetterTopic = request.topic() + deadLetterSuffix;
+        RateLimiter rateLimiter = RateLimiter.of("dead-letter-replay", RateLimiterConfig.custom()
+                .limitForPeriod(rate)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofMinutes(1))
+                .build());
+        long start = System.nanoTime();
+        int scanned = 0;
+        int skipped = 0;
+        List<CompletableFuture<SendResult<Object, Object>>> sends = new ArrayList<>();
+
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(consumerConfig(),
+                new StringDeserializer(), new ByteArrayDeserializer())) {
+            List<TopicPartition> partitions = consumer.partitionsFor(deadLetterTopic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            seekToStart(consumer, partitions, request.from());
+
+            Set<TopicPartition> remaining = new HashSet<>(partitions);
+            remaining.removeIf(partition -> consumer.position(partition) >= endOffsets.get(partition));
+
+            while (!remaining.isEmpty() && sends.size() < limit) {
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (!remaining.contains(partition) || record.offset() >= endOffsets.get(partition)) {
+                        continue;
+                    }
+                    scanned++;
+                    if (request.to() != null && record.timestamp() > request.to().toEpochMilli()) {
+                        remaining.remove(partition);
+                        consumer.pause(List.of(partition));
+                        continue;
+                    }
+                    if (!matches(record, request.eventTypes())) {
+                        skipped++;
+                        continue;
+                    }
+                    if (sends.size() >= limit) {
+                        break;
+                    }
+                    RateLimiter.waitForPermission(rateLimiter);
+                    sends.add(kafkaTemplate.send(toReplay(record, request.topic())));
+                }
+                remaining.removeIf(partition -> consumer.position(partition) >= endOffsets.get(partition));
+            }
+        }
+
+        int failed = awaitSends(sends);
+        int replayed = sends.size() - failed;
+        outcome(request.topic(), "replayed").increment(replayed);
+        outcome(request.topic(), "skipped").increment(skipped);
+        outcome(request.topic(), "failed").increment(failed);
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("Replayed {} of {} dead-lettered records from {} in {} ms ({} skipped, {} failed)",
+                replayed, scanned, deadLetterTopic, durationMs, skipped, failed);
+        return new DeadLetterReplayResult(deadLetterTopic, request.topic(), scanned, replayed, skipped, failed, durationMs);
+    }
+
+    private void seekToStart(KafkaConsumer<String, byte[]> consumer, List<TopicPartition> partitions, Instant from) {
+        if (from == null) {
+            consumer.seekToBeginning(partitions);
+            return;
+        }
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        partitions.forEach(partition -> timestamps.put(partition, from.toEpochMilli()));
+        Map<TopicPartition, OffsetAndTimestamp> offsets = consumer.offsetsForTimes(timestamps);
+        List<TopicPartition> exhausted = new ArrayList<>();
+        offsets.forEach((partition, offset) -> {
+            if (offset != null) {
+                consumer.seek(partition, offset.offset());
+            } else {
+                exhausted.add(partition);
+            }
+        });
+        consumer.seekToEnd(exhausted);
+    }
+
+    private boolean matches(ConsumerRecord<String, byte[]> record, Set<String> eventTypes) {
+        if (eventTypes == null || eventTypes.isEmpty()) {
+            return true;
+        }
+        try {
+            JsonNode eventType = objectMapper.readTree(record.value()).get("eventType");
+            return eventType != null && eventTypes.contains(eventType.asText());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private ProducerRecord<Object, Object> toReplay(ConsumerRecord<String, byte[]> record, String defaultTopic) {
+        Header originalTopic = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        String topic = originalTopic != null
+                ? new String(originalTopic.value(), StandardCharsets.UTF_8)
+                : defaultTopic;
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX)) {
+                headers.add(header);
+            }
+        }
+        return new ProducerRecord<>(topic, null, record.key(), record.value(), headers);
+    }
+
+    private int awaitSends(List<CompletableFuture<SendResult<Object, Object>>> sends) {
+        int failed = 0;
+        for (CompletableFuture<SendResult<Object, Object>> send : sends) {
+            try {
+                send.get(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed++;
+            } catch (Exception e) {
+                logger.error("Failed to replay dead-lettered record: {}", e.getMessage());
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    private Map<String, Object> consumerConfig() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+        return config;
+    }
+
+    private Counter outcome(String topic, String outcome) {
+        return Counter.builder("dead_letter_replay_records_total")
+                .description("Dead-lettered records handled by the replay tool")
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
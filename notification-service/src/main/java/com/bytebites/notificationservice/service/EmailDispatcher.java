@@ -0,0 +1,348 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.model.Notification;
+import com.bytebites.notificationservice.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.eclipse.angus.mail.smtp.SMTPTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class EmailDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailDispatcher.class);
+    private static final int SMTP_START_MAIL_INPUT = 354;
+
+    private final JavaMailSenderImpl mailSender;
+    private final NotificationRepository notificationRepository;
+    private final NotificationRetryQueue retryQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final String fromEmail;
+    private final boolean emailEnabled;
+    private final int poolSize;
+    private final int batchSize;
+    private final Duration idleTimeout;
+    private final BlockingQueue<OutgoingEmail> queue;
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+    private final Timer sendLatency;
+    private final Counter connectionsOpened;
+    private final Counter connectionsReused;
+    private final Counter sent;
+    private final Counter failed;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public EmailDispatcher(JavaMailSenderImpl mailSender,
+                           NotificationRepository notificationRepository,
+                           NotificationRetryQueue retryQueue,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${bytebites.email.from:noreply@bytebites.com}") String fromEmail,
+                           @Value("${bytebites.email.enabled:false}") boolean emailEnabled,
+                           @Value("${bytebites.email.dispatcher.pool-size:2}") int poolSize,
+                           @Value("${bytebites.email.dispatcher.batch-size:50}") int batchSize,
+                           @Value("${bytebites.email.dispatcher.queue-capacity:10000}") int queueCapacity,
+                           @Value("${bytebites.email.dispatcher.idle-timeout:30s}") Duration idleTimeout) {
+        this.mailSender = mailSender;
+        this.notificationRepository = notificationRepository;
+        this.retryQueue = retryQueue;
+        this.transactionTemplate = transactionTemplate;
+        this.fromEmail = fromEmail;
+        this.emailEnabled = emailEnabled;
+        this.poolSize = poolSize;
+        this.batchSize = batchSize;
+        this.idleTimeout = idleTimeout;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        this.sendLatency = Timer.builder("email_send_latency")
+                .description("Time from queueing a notification email until the SMTP server accepted it")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.connectionsOpened = Counter.builder("email_smtp_connections_opened_total")
+                .description("SMTP connections opened by the email dispatcher")
+                .register(meterRegistry);
+        this.connectionsReused = Counter.builder("email_smtp_connection_reuse_total")
+                .description("Email batches sent over an already open SMTP connection")
+                .register(meterRegistry);
+        this.sent = Counter.builder("email_messages_total")
+                .description("Notification emails handled by the dispatcher")
+                .tag("outcome", "sent")
+                .register(meterRegistry);
+        this.failed = Counter.builder("email_messages_total")
+                .description("Notification emails handled by the dispatcher")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+
+        Gauge.builder("email_queue_depth", queue, BlockingQueue::size)
+                .description("Notification emails waiting for an SMTP connection")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < poolSize; i++) {
+            workers.add(Thread.ofPlatform().name("email-dispatcher-" + i).start(this::work));
+        }
+        logger.info("Email dispatcher started with {} SMTP connections, batches of {}", poolSize, batchSize);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workers.clear();
+    }
+
+    public void dispatch(Notification notification) {
+        if (!queued.add(notification.getId())) {
+            return;
+        }
+        try {
+            queue.put(outgoing(notification, false));
+        } catch (InterruptedException e) {
+            queued.remove(notification.getId());
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing email for notification: " + notification.getId(), e);
+        }
+    }
+
+    public void dispatchAll(List<Notification> notifications) {
+        notifications.forEach(this::dispatch);
+    }
+
+    public boolean offerRetry(Notification notification) {
+        return offer(notification, true);
+    }
+
+    public boolean offerPending(Notification notification) {
+        return offer(notification, false);
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    private void work() {
+        SmtpConnection connection = new SmtpConnection();
+        List<OutgoingEmail> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                OutgoingEmail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    connection.closeIfIdle();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(connection, batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connection.close();
+        }
+    }
+
+    // A notification already waiting in the queue or being sent counts as queued, so sweeps never duplicate it.
+    private boolean offer(Notification notification, boolean retry) {
+        if (!queued.add(notification.getId())) {
+            return true;
+        }
+        if (queue.offer(outgoing(notification, retry))) {
+            return true;
+        }
+        queued.remove(notification.getId());
+        return false;
+    }
+
+    private static OutgoingEmail outgoing(Notification notification, boolean retry) {
+        return new OutgoingEmail(notification.getId(), notification.getRecipientEmail(),
+                notification.getSubject(), notification.getContent(), retry, System.nanoTime());
+    }
+
+    private void send(SmtpConnection connection, List<OutgoingEmail> batch) {
+        List<UUID> delivered = new ArrayList<>(batch.size());
+        List<UUID> recovered = new ArrayList<>();
+        Map<UUID, String> errors = new LinkedHashMap<>();
+
+        if (!emailEnabled) {
+            batch.forEach(email -> logger.info("Email sending is disabled. Would send email to: {}, subject: {}",
+                    email.to(), email.subject()));
+            batch.forEach(email -> delivered.add(email.notificationId()));
+        } else {
+            connection.beginBatch();
+            for (OutgoingEmail email : batch) {
+                try {
+                    connection.send(toMimeMessage(email));
+                    delivered.add(email.notificationId());
+                    if (email.retry()) {
+                        recovered.add(email.notificationId());
+                    }
+                    sendLatency.record(System.nanoTime() - email.enqueuedAt(), TimeUnit.NANOSECONDS);
+                } catch (MessagingException | RuntimeException e) {
+                    logger.error("Failed to send email to: {}, subject: {}, error: {}",
+                            email.to(), email.subject(), e.getMessage());
+                    errors.put(email.notificationId(), e.getMessage());
+                }
+            }
+        }
+
+        sent.increment(delivered.size());
+        failed.increment(errors.size());
+        recordOutcome(delivered, recovered, errors);
+        batch.forEach(email -> queued.remove(email.notificationId()));
+    }
+
+    private void recordOutcome(List<UUID> delivered, List<UUID> recovered, Map<UUID, String> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!delivered.isEmpty()) {
+                    notificationRepository.markSent(delivered, LocalDateTime.now());
+                }
+                retryQueue.clear(recovered);
+                errors.forEach((id, error) -> notificationRepository.markFailed(id, error));
+                retryQueue.schedule(errors);
+            });
+        } catch (RuntimeException e) {
+            logger.error("Failed to record delivery status for {} notifications: {}",
+                    delivered.size() + errors.size(), e.getMessage(), e);
+        }
+    }
+
+    private MimeMessage toMimeMessage(OutgoingEmail email) throws MessagingException {
+        MimeMessage message = new MimeMessage(mailSender.getSession());
+        message.setFrom(new InternetAddress(fromEmail));
+        message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(email.to()));
+        message.setSubject(email.subject(), StandardCharsets.UTF_8.name());
+        message.setText(email.content(), StandardCharsets.UTF_8.name());
+        message.setSentDate(new Date());
+        message.saveChanges();
+        return message;
+    }
+
+    private final class SmtpConnection {
+
+        private Transport transport;
+        private long lastUsed;
+
+        void beginBatch() {
+            if (transport == null) {
+                return;
+            }
+            if (transport.isConnected()) {
+                connectionsReused.increment();
+            } else {
+                close();
+            }
+        }
+
+        void send(MimeMessage message) throws MessagingException {
+            boolean reused = transport != null;
+            Transport current = connected();
+            try {
+                current.sendMessage(message, message.getAllRecipients());
+            } catch (SendFailedException e) {
+                throw e;
+            } catch (MessagingException e) {
+                boolean connectionLost = causedByIo(e);
+                boolean dataStarted = !(current instanceof SMTPTransport smtp)
+                        || smtp.getLastReturnCode() == SMTP_START_MAIL_INPUT;
+                if (connectionLost) {
+                    close();
+                }
+                // Once the server has answered DATA it may already hold the message, so resending could deliver it
+                // twice; only a pooled connection that died before that point is retried on a fresh one.
+                if (!connectionLost || !reused || dataStarted) {
+                    throw e;
+                }
+                logger.warn("Pooled SMTP connection failed before the message was accepted, reconnecting: {}",
+                        e.getMessage());
+                connected().sendMessage(message, message.getAllRecipients());
+            }
+            lastUsed = System.nanoTime();
+        }
+
+        private static boolean causedByIo(Throwable failure) {
+            for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void closeIfIdle() {
+            if (transport != null && System.nanoTime() - lastUsed > idleTimeout.toNanos()) {
+                close();
+            }
+        }
+
+        void close() {
+            if (transport != null) {
+                try {
+                    transport.close();
+                } catch (MessagingException e) {
+                    logger.debug("Error closing SMTP connection: {}", e.getMessage());
+                }
+                transport = null;
+            }
+        }
+
+        private Transport connected() throws MessagingException {
+            if (transport == null) {
+                String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp";
+                Transport opened = mailSender.getSession().getTransport(protocol);
+                opened.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+                connectionsOpened.increment();
+                transport = opened;
+            }
+            return transport;
+        }
+    }
+
+    private record OutgoingEmail(UUID notificationId, String to, String subject, String content,
+                                 boolean retry, long enqueuedAt) {}
+}
@@ -0,0 +1,214 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.common.transaction.TransactionCallbacks;
+import com.bytebites.notificationservice.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class EventIdFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventIdFilter.class);
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    private static final int WARM_UP_PAGE_SIZE = 10_000;
+
+    private final NotificationRepository notificationRepository;
+    private final Duration window;
+    private final long expectedPerWindow;
+    private final double falsePositiveRate;
+    private final Map<String, Boolean> recent;
+    private final Counter avoidedByFilter;
+    private final Counter avoidedByRecent;
+    private final Counter confirmedHits;
+    private final Counter falsePositives;
+    private final Counter uncheckedLookups;
+    private volatile Generations generations;
+    private volatile boolean warmed;
+
+    public EventIdFilter(NotificationRepository notificationRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${bytebites.notifications.dedup.window:24h}") Duration window,
+                         @Value("${bytebites.notifications.dedup.expected-per-window:1000000}") long expectedPerWindow,
+                         @Value("${bytebites.notifications.dedup.false-positive-rate:0.01}") double falsePositiveRate,
+                         @Value("${bytebites.notifications.dedup.recent-capacity:10000}") int recentCapacity) {
+        this.notificationRepository = notificationRepository;
+        this.window = window;
+        this.expectedPerWindow = expectedPerWindow;
+        this.falsePositiveRate = falsePositiveRate;
+        this.recent = new LinkedHashMap<>(recentCapacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > recentCapacity;
+            }
+        };
+        this.generations = new Generations(newFilter(), newFilter(), System.nanoTime() + window.toNanos());
+
+        this.avoidedByFilter = avoided(meterRegistry, "filter_negative");
+        this.avoidedByRecent = avoided(meterRegistry, "recent_hit");
+        this.confirmedHits = lookups(meterRegistry, "duplicate");
+        this.falsePositives = lookups(meterRegistry, "false_positive");
+        this.uncheckedLookups = lookups(meterRegistry, "warming_up");
+
+        Gauge.builder("notification_dedup_false_positive_rate", this, EventIdFilter::observedFalsePositiveRate)
+                .description("Share of new event ids the Bloom filter reported as probably seen")
+                .register(meterRegistry);
+        Gauge.builder("notification_dedup_expected_false_positive_rate", this,
+                        filter -> filter.generations.current().expectedFalsePositiveRate())
+                .description("False positive rate implied by the fill of the current Bloom filter")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime since = LocalDateTime.now().minus(window);
+        long started = System.nanoTime();
+        long loaded = 0;
+        try {
+            Slice<String> page = notificationRepository.findEventIdsCreatedAfter(since, PageRequest.of(0, WARM_UP_PAGE_SIZE));
+            while (true) {
+                page.forEach(generations.current()::put);
+                loaded += page.getNumberOfElements();
+                if (!page.hasNext()) {
+                    break;
+                }
+                page = notificationRepository.findEventIdsCreatedAfter(since, page.nextPageable());
+            }
+            warmed = true;
+            logger.info("Event id filter warmed with {} ids in {} ms", loaded,
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (Exception e) {
+            logger.error("Failed to warm event id filter, idempotency checks will keep querying the database: {}",
+                    e.getMessage(), e);
+        }
+    }
+
+    public boolean isDuplicate(String eventId) {
+        return !findExisting(List.of(eventId)).isEmpty();
+    }
+
+    public Set<String> findExisting(Collection<String> eventIds) {
+        if (!warmed) {
+            uncheckedLookups.increment(eventIds.size());
+            return lookup(List.copyOf(eventIds));
+        }
+
+        Generations filters = rotateIfDue();
+        Set<String> existing = new HashSet<>();
+        List<String> probable = new ArrayList<>();
+        for (String eventId : eventIds) {
+            if (isRecent(eventId)) {
+                avoidedByRecent.increment();
+                existing.add(eventId);
+            } else if (filters.mightContain(eventId)) {
+                probable.add(eventId);
+            } else {
+                avoidedByFilter.increment();
+            }
+        }
+
+        if (!probable.isEmpty()) {
+            Set<String> found = lookup(probable);
+            confirmedHits.increment(found.size());
+            falsePositives.increment(probable.size() - found.size());
+            existing.addAll(found);
+        }
+        return existing;
+    }
+
+    public void record(String eventId) {
+        recordAll(List.of(eventId));
+    }
+
+    public void recordAll(Collection<String> eventIds) {
+        TransactionCallbacks.afterCommit(() -> {
+            Generations filters = rotateIfDue();
+            for (String eventId : eventIds) {
+                filters.current().put(eventId);
+            }
+            synchronized (recent) {
+                for (String eventId : eventIds) {
+                    recent.put(eventId, Boolean.TRUE);
+                }
+            }
+        });
+    }
+
+    private boolean isRecent(String eventId) {
+        synchronized (recent) {
+            return recent.get(eventId) != null;
+        }
+    }
+
+    private Set<String> lookup(List<String> eventIds) {
+        Set<String> found = new HashSet<>();
+        for (int from = 0; from < eventIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = eventIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, eventIds.size()));
+            found.addAll(notificationRepository.findExistingEventIds(chunk));
+        }
+        return found;
+    }
+
+    private Generations rotateIfDue() {
+        Generations current = generations;
+        long now = System.nanoTime();
+        if (now - current.rotatesAt() < 0) {
+            return current;
+        }
+        synchronized (this) {
+            if (generations == current) {
+                generations = new Generations(newFilter(), current.current(), now + window.toNanos());
+                logger.info("Rotated event id filter window");
+            }
+            return generations;
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedPerWindow, falsePositiveRate);
+    }
+
+    private double observedFalsePositiveRate() {
+        double negatives = falsePositives.count() + avoidedByFilter.count();
+        return negatives == 0 ? 0 : falsePositives.count() / negatives;
+    }
+
+    private static Counter avoided(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("notification_dedup_db_lookups_avoided_total")
+                .description("Idempotency checks answered without querying the database")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("notification_dedup_db_lookups_total")
+                .description("Idempotency checks that had to query the database")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous, long rotatesAt) {
+
+        boolean mightContain(String eventId) {
+            return current.mightContain(eventId) || previous.mightContain(eventId);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.bytebites.notificationservice.service;
+
+import java.util.List;
+
+public record NotificationBatchResult(
+        int queued,
+        int duplicates,
+        int coalesced,
+        List<Integer> failedIndexes
+) {
+    public boolean hasFailures() {
+        return !failedIndexes.isEmpty();
+    }
+}
@@ -0,0 +1,193 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.event.OrderEvent;
+import com.bytebites.notificationservice.event.OrderPlacedEvent;
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.bytebites.notificationservice.model.Notification;
+import com.bytebites.notificationservice.repository.NotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+public class NotificationBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationBatchService.class);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationComposer notificationComposer;
+    private final EmailDispatcher emailDispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final EventIdFilter eventIdFilter;
+    private final OrderStatusCoalescer orderStatusCoalescer;
+
+    public NotificationBatchService(NotificationRepository notificationRepository,
+                                    NotificationComposer notificationComposer,
+                                    EmailDispatcher emailDispatcher,
+                                    TransactionTemplate transactionTemplate,
+                                    EventIdFilter eventIdFilter,
+                                    OrderStatusCoalescer orderStatusCoalescer) {
+        this.notificationRepository = notificationRepository;
+        this.notificationComposer = notificationComposer;
+        this.emailDispatcher = emailDispatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.eventIdFilter = eventIdFilter;
+        this.orderStatusCoalescer = orderStatusCoalescer;
+    }
+
+    public NotificationBatchResult processOrderEvents(List<OrderEvent> events) {
+        Set<Integer> failed = new TreeSet<>();
+        Set<String> seen = new HashSet<>(eventIdFilter.findExisting(candidateEventIds(events)));
+        List<Pending> fresh = new ArrayList<>(events.size() * 2);
+        Map<Integer, OrderStatusDigest> digests = new HashMap<>();
+        int duplicates = 0;
+        int coalesced = 0;
+        for (int i = 0; i < events.size(); i++) {
+            OrderEvent event = events.get(i);
+            try {
+                List<Pending> composed = new ArrayList<>(2);
+                if (event instanceof OrderStatusChangedEvent changed) {
+                    if (seen.contains(changed.eventId())) {
+                        duplicates++;
+                        continue;
+                    }
+                    Optional<OrderStatusDigest> digest = orderStatusCoalescer.offer(changed);
+                    if (digest.isEmpty()) {
+                        coalesced++;
+                        continue;
+                    }
+                    digests.put(i, digest.get());
+                    composed.add(new Pending(i, notificationComposer.orderStatusDigest(digest.get()),
+                            digest.get().eventIds()));
+                } else {
+                    for (Notification notification : notificationComposer.compose(event)) {
+                        composed.add(new Pending(i, notification, Set.of()));
+                    }
+                }
+                for (Pending pending : composed) {
+                    if (seen.add(pending.notification().getEventId())) {
+                        fresh.add(pending);
+                    } else {
+                        duplicates++;
+                    }
+                }
+            } catch (Exception e) {
+                logger.error("Failed to compose notifications for event: {}, error: {}",
+                        event.eventId(), e.getMessage(), e);
+                failed.add(i);
+            }
+        }
+
+        List<Notification> stored = store(fresh, failed);
+        List<OrderStatusDigest> unsent = failed.stream().map(digests::get).filter(Objects::nonNull).toList();
+        if (!unsent.isEmpty()) {
+            orderStatusCoalescer.restore(unsent);
+        }
+        logger.info("Processed {} order events: {} notifications queued, {} duplicates skipped, {} coalesced, {} events failed",
+                events.size(), stored.size(), duplicates, coalesced, failed.size());
+        return new NotificationBatchResult(stored.size(), duplicates, coalesced, List.copyOf(failed));
+    }
+
+    public List<OrderStatusDigest> deliverDigests(List<OrderStatusDigest> digests) {
+        Set<Integer> failed = new TreeSet<>();
+        Set<String> seen = new HashSet<>(eventIdFilter.findExisting(
+                digests.stream().map(digest -> digest.latest().eventId()).toList()));
+        List<Pending> fresh = new ArrayList<>(digests.size());
+        for (int i = 0; i < digests.size(); i++) {
+            OrderStatusDigest digest = digests.get(i);
+            try {
+                Notification notification = notificationComposer.orderStatusDigest(digest);
+                if (seen.add(notification.getEventId())) {
+                    fresh.add(new Pending(i, notification, digest.eventIds()));
+                }
+            } catch (Exception e) {
+                logger.error("Failed to compose status digest for order: {}, error: {}",
+                        digest.latest().orderId(), e.getMessage(), e);
+                failed.add(i);
+            }
+        }
+
+        List<Notification> stored = store(fresh, failed);
+        logger.info("Delivered {} order status digests, {} failed", stored.size(), failed.size());
+        return failed.stream().map(digests::get).toList();
+    }
+
+    private List<Notification> store(List<Pending> fresh, Set<Integer> failed) {
+        List<Notification> stored = persist(fresh, failed);
+        List<String> coalescedEventIds = fresh.stream()
+                .filter(pending -> !failed.contains(pending.index()))
+                .flatMap(pending -> pending.coalescedEventIds().stream())
+                .toList();
+        if (!coalescedEventIds.isEmpty()) {
+            eventIdFilter.recordAll(coalescedEventIds);
+        }
+        emailDispatcher.dispatchAll(stored);
+        return stored;
+    }
+
+    private static List<String> candidateEventIds(List<OrderEvent> events) {
+        List<String> eventIds = new ArrayList<>(events.size() * 2);
+        for (OrderEvent event : events) {
+            switch (event) {
+                case OrderPlacedEvent placed -> {
+                    eventIds.add(NotificationComposer.customerEventId(placed));
+                    eventIds.add(NotificationComposer.restaurantEventId(placed));
+                }
+                case OrderStatusChangedEvent changed -> eventIds.add(changed.eventId());
+            }
+        }
+        return eventIds;
+    }
+
+    private List<Notification> persist(List<Pending> fresh, Set<Integer> failed) {
+        if (fresh.isEmpty()) {
+            return List.of();
+        }
+        List<Notification> notifications = fresh.stream().map(Pending::notification).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> notificationRepository.saveAll(notifications));
+            eventIdFilter.recordAll(notifications.stream().map(Notification::getEventId).toList());
+            return notifications;
+        } catch (DataAccessException e) {
+            logger.warn("Batch insert of {} notifications failed, retrying individually: {}",
+                    notifications.size(), e.getMessage());
+        }
+
+        List<Notification> stored = new ArrayList<>(notifications.size());
+        for (Pending pending : fresh) {
+            Notification notification = pending.notification();
+            notification.setId(null);
+            try {
+                transactionTemplate.executeWithoutResult(status -> notificationRepository.save(notification));
+                eventIdFilter.record(notification.getEventId());
+                stored.add(notification);
+            } catch (DataIntegrityViolationException e) {
+                if (notificationRepository.findExistingEventIds(List.of(notification.getEventId())).isEmpty()) {
+                    logger.error("Failed to save notification: {}, error: {}", notification.getEventId(), e.getMessage());
+                    failed.add(pending.index());
+                } else {
+                    logger.warn("Notification already processed for event: {}", notification.getEventId());
+                }
+            } catch (DataAccessException e) {
+                logger.error("Failed to save notification: {}, error: {}", notification.getEventId(), e.getMessage());
+                failed.add(pending.index());
+            }
+        }
+        return stored;
+    }
+
+    private record Pending(int index, Notification notification, Set<String> coalescedEventIds) {}
+}
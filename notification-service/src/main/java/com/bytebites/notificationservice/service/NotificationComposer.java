@@ -0,0 +1,129 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.common.replica.RestaurantReplica;
+import com.bytebites.common.replica.RestaurantSnapshot;
+import com.bytebites.notificationservice.enums.NotificationType;
+import com.bytebites.notificationservice.event.OrderEvent;
+import com.bytebites.notificationservice.event.OrderPlacedEvent;
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.bytebites.notificationservice.event.RestaurantCreatedEvent;
+import com.bytebites.notificationservice.model.Notification;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class NotificationComposer {
+
+    private static final String FALLBACK_RESTAURANT_EMAIL = "restaurant@example.com";
+
+    private final TemplateService templateService;
+    private final RestaurantReplica restaurantReplica;
+
+    public NotificationComposer(TemplateService templateService, RestaurantReplica restaurantReplica) {
+        this.templateService = templateService;
+        this.restaurantReplica = restaurantReplica;
+    }
+
+    public List<Notification> compose(OrderEvent event) {
+        return switch (event) {
+            case OrderPlacedEvent placed -> List.of(orderPlacedCustomer(placed), orderPlacedRestaurant(placed));
+            case OrderStatusChangedEvent changed -> List.of(orderStatusChanged(changed));
+        };
+    }
+
+    public Notification orderPlacedCustomer(OrderPlacedEvent event) {
+        Notification notification = new Notification(
+                event.customerId(),
+                event.customerEmail(),
+                NotificationType.ORDER_PLACED_CUSTOMER,
+                templateService.generateOrderPlacedCustomerSubject(event),
+                templateService.generateOrderPlacedCustomerContent(event),
+                customerEventId(event)
+        );
+        notification.addMetadata("orderId", event.orderId().toString());
+        notification.addMetadata("restaurantId", event.restaurantId().toString());
+        notification.addMetadata("totalAmount", event.totalAmount().toString());
+        return notification;
+    }
+
+    public Notification orderPlacedRestaurant(OrderPlacedEvent event) {
+        Notification notification = new Notification(
+                event.restaurantId(),
+                restaurantEmail(event.restaurantId()),
+                NotificationType.ORDER_PLACED_RESTAURANT,
+                templateService.generateOrderPlacedRestaurantSubject(event),
+                templateService.generateOrderPlacedRestaurantContent(event),
+                restaurantEventId(event)
+        );
+        notification.addMetadata("orderId", event.orderId().toString());
+        notification.addMetadata("customerId", event.customerId().toString());
+        return notification;
+    }
+
+    public Notification orderStatusChanged(OrderStatusChangedEvent event) {
+        Notification notification = new Notification(
+                event.customerId(),
+                event.customerEmail(),
+                NotificationType.ORDER_STATUS_CHANGED,
+                templateService.generateOrderStatusChangedSubject(event),
+                templateService.generateOrderStatusChangedContent(event),
+                event.eventId()
+        );
+        notification.addMetadata("orderId", event.orderId().toString());
+        notification.addMetadata("previousStatus", event.previousStatus());
+        notification.addMetadata("newStatus", event.newStatus());
+        return notification;
+    }
+
+    public Notification orderStatusDigest(OrderStatusDigest digest) {
+        if (digest.isSingle()) {
+            return orderStatusChanged(digest.latest());
+        }
+        OrderStatusChangedEvent latest = digest.latest();
+        Notification notification = new Notification(
+                latest.customerId(),
+                latest.customerEmail(),
+                NotificationType.ORDER_STATUS_CHANGED,
+                templateService.generateOrderStatusChangedSubject(latest),
+                templateService.generateOrderStatusDigestContent(digest),
+                latest.eventId()
+        );
+        notification.addMetadata("orderId", latest.orderId().toString());
+        notification.addMetadata("previousStatus", digest.first().previousStatus());
+        notification.addMetadata("newStatus", latest.newStatus());
+        notification.addMetadata("coalescedChanges", String.valueOf(digest.timeline().size()));
+        return notification;
+    }
+
+    public Notification restaurantCreated(RestaurantCreatedEvent event) {
+        Notification notification = new Notification(
+                event.ownerId(),
+                event.ownerEmail(),
+                NotificationType.RESTAURANT_CREATED,
+                templateService.generateRestaurantCreatedSubject(event),
+                templateService.generateRestaurantCreatedContent(event),
+                event.eventId()
+        );
+        notification.addMetadata("restaurantId", event.restaurantId().toString());
+        notification.addMetadata("restaurantName", event.restaurantName());
+        notification.addMetadata("status", event.status());
+        return notification;
+    }
+
+    public static String customerEventId(OrderPlacedEvent event) {
+        return event.eventId() + "_customer";
+    }
+
+    public static String restaurantEventId(OrderPlacedEvent event) {
+        return event.eventId() + "_restaurant";
+    }
+
+    private String restaurantEmail(UUID restaurantId) {
+        return restaurantReplica.find(restaurantId)
+                .map(RestaurantSnapshot::email)
+                .filter(email -> !email.isBlank())
+                .orElse(FALLBACK_RESTAURANT_EMAIL);
+    }
+}
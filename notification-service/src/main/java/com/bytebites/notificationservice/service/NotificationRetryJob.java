@@ -0,0 +1,111 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.enums.NotificationStatus;
+import com.bytebites.notificationservice.model.Notification;
+import com.bytebites.notificationservice.repository.NotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class NotificationRetryJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetryJob.class);
+
+    private final NotificationRetryQueue retryQueue;
+    private final NotificationRepository notificationRepository;
+    private final EmailDispatcher emailDispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration pendingThreshold;
+    private final int pendingBatchSize;
+
+    public NotificationRetryJob(NotificationRetryQueue retryQueue,
+                                NotificationRepository notificationRepository,
+                                EmailDispatcher emailDispatcher,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${bytebites.notifications.pending-sweep.threshold:5m}") Duration pendingThreshold,
+                                @Value("${bytebites.notifications.pending-sweep.batch-size:500}") int pendingBatchSize) {
+        this.retryQueue = retryQueue;
+        this.notificationRepository = notificationRepository;
+        this.emailDispatcher = emailDispatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.pendingThreshold = pendingThreshold;
+        this.pendingBatchSize = pendingBatchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${bytebites.notifications.retry.poll-interval:5s}")
+    public void retryDueNotifications() {
+        try {
+            List<UUID> due = retryQueue.claimDue();
+            if (!due.isEmpty()) {
+                redispatch(due);
+            }
+            retryQueue.refreshMetrics();
+        } catch (Exception e) {
+            logger.error("Failed to drain notification retry queue: {}", e.getMessage(), e);
+        }
+    }
+
+    private void redispatch(List<UUID> due) {
+        List<Notification> notifications = notificationRepository.findAllById(due);
+        Set<UUID> settled = new HashSet<>(due);
+        List<UUID> deferred = new ArrayList<>();
+        int queued = 0;
+        for (Notification notification : notifications) {
+            if (notification.getStatus() == NotificationStatus.SENT) {
+                continue;
+            }
+            settled.remove(notification.getId());
+            if (emailDispatcher.offerRetry(notification)) {
+                queued++;
+            } else {
+                deferred.add(notification.getId());
+            }
+        }
+
+        if (!settled.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> retryQueue.clear(settled));
+        }
+        retryQueue.release(deferred);
+        logger.info("Retrying {} notifications, {} deferred until the email queue drains", queued, deferred.size());
+    }
+
+    // PENDING rows are only handed to the in-memory email queue after commit, so a crash or a slow shutdown leaves
+    // them behind; anything still PENDING past the threshold is queued again.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${bytebites.notifications.pending-sweep.interval:1m}",
+            initialDelayString = "${bytebites.notifications.pending-sweep.interval:1m}")
+    public void requeueStalePending() {
+        try {
+            List<Notification> stale = notificationRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAt(
+                    NotificationStatus.PENDING, LocalDateTime.now().minus(pendingThreshold),
+                    PageRequest.of(0, pendingBatchSize));
+            int queued = 0;
+            for (Notification notification : stale) {
+                if (!emailDispatcher.offerPending(notification)) {
+                    break;
+                }
+                queued++;
+            }
+            if (queued > 0) {
+                logger.warn("Re-queued {} notifications left PENDING for more than {}", queued, pendingThreshold);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to sweep stale PENDING notifications: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.model.NotificationRetry;
+import com.bytebites.notificationservice.repository.NotificationRetryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class NotificationRetryQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetryQueue.class);
+
+    private final NotificationRetryRepository retryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final Duration claimTimeout;
+    private final int batchSize;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestCreatedAtMillis = new AtomicLong();
+    private final Counter scheduled;
+    private final Counter exhausted;
+    private final Counter recovered;
+
+    public NotificationRetryQueue(NotificationRetryRepository retryRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${bytebites.notifications.retry.max-attempts:8}") int maxAttempts,
+                                  @Value("${bytebites.notifications.retry.initial-backoff:30s}") Duration initialBackoff,
+                                  @Value("${bytebites.notifications.retry.max-backoff:1h}") Duration maxBackoff,
+                                  @Value("${bytebites.notifications.retry.multiplier:2.0}") double multiplier,
+                                  @Value("${bytebites.notifications.retry.claim-timeout:5m}") Duration claimTimeout,
+                                  @Value("${bytebites.notifications.retry.batch-size:100}") int batchSize) {
+        this.retryRepository = retryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.multiplier = multiplier;
+        this.claimTimeout = claimTimeout;
+        this.batchSize = batchSize;
+
+        this.scheduled = Counter.builder("notification_retries_total")
+                .description("Failed notification deliveries handled by the retry queue")
+                .tag("outcome", "scheduled")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("notification_retries_total")
+                .description("Failed notification deliveries handled by the retry queue")
+                .tag("outcome", "exhausted")
+                .register(meterRegistry);
+        this.recovered = Counter.builder("notification_retries_total")
+                .description("Failed notification deliveries handled by the retry queue")
+                .tag("outcome", "recovered")
+                .register(meterRegistry);
+
+        Gauge.builder("notification_retry_backlog", backlog, AtomicLong::get)
+                .description("Notifications waiting in the retry queue")
+                .register(meterRegistry);
+        Gauge.builder("notification_retry_oldest_age_seconds", this, NotificationRetryQueue::oldestAgeSeconds)
+                .description("Age of the oldest notification waiting in the retry queue")
+                .register(meterRegistry);
+    }
+
+    void schedule(Map<UUID, String> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        Map<UUID, NotificationRetry> existing = retryRepository.findByNotificationIdIn(failures.keySet()).stream()
+                .collect(Collectors.toMap(NotificationRetry::getNotificationId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationRetry> pending = new ArrayList<>(failures.size());
+        List<NotificationRetry> abandoned = new ArrayList<>();
+
+        failures.forEach((notificationId, error) -> {
+            NotificationRetry retry = existing.getOrDefault(notificationId, new NotificationRetry(notificationId, now));
+            int attempts = retry.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                logger.warn("Giving up on notification: {} after {} attempts, last error: {}",
+                        notificationId, attempts, error);
+                if (retry.getId() != null) {
+                    abandoned.add(retry);
+                }
+                exhausted.increment();
+                return;
+            }
+            retry.setAttempts(attempts);
+            retry.setLastError(error);
+            retry.setNextAttemptAt(now.plus(backoff(attempts)));
+            pending.add(retry);
+            scheduled.increment();
+        });
+
+        retryRepository.saveAll(pending);
+        retryRepository.deleteAll(abandoned);
+    }
+
+    void clear(Collection<UUID> notificationIds) {
+        if (!notificationIds.isEmpty()) {
+            recovered.increment(retryRepository.deleteByNotificationIds(notificationIds));
+        }
+    }
+
+    List<UUID> claimDue() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationRetry> due = retryRepository.findDue(now, PageRequest.of(0, batchSize));
+            due.forEach(retry -> retry.setNextAttemptAt(now.plus(claimTimeout)));
+            return due.stream().map(NotificationRetry::getNotificationId).toList();
+        });
+    }
+
+    void release(Collection<UUID> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            retryRepository.findByNotificationIdIn(notificationIds).forEach(retry -> retry.setNextAttemptAt(now));
+        });
+    }
+
+    void refreshMetrics() {
+        backlog.set(retryRepository.count());
+        oldestCreatedAtMillis.set(retryRepository.findOldestCreatedAt()
+                .map(createdAt -> createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .orElse(0L));
+    }
+
+    Duration backoff(int attempts) {
+        double exponential = initialBackoff.toMillis() * Math.pow(multiplier, attempts - 1);
+        long capped = (long) Math.min(exponential, maxBackoff.toMillis());
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(capped - half + 1));
+    }
+
+    private double oldestAgeSeconds() {
+        long oldest = oldestCreatedAtMillis.get();
+        return oldest == 0 ? 0 : Math.max(0, System.currentTimeMillis() - oldest) / 1000.0;
+    }
+}
@@ -0,0 +1,178 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.common.timer.HierarchicalTimerWheel;
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderStatusCoalescer {
+
+    private final HierarchicalTimerWheel<UUID> timerWheel;
+    private final Map<UUID, Pending> pending = new HashMap<>();
+    private final boolean enabled;
+    private final Duration window;
+    private final Set<String> terminalStatuses;
+    private final boolean includeTimeline;
+    private final int maxPendingOrders;
+    private final Counter merged;
+    private final Counter overflow;
+
+    public OrderStatusCoalescer(MeterRegistry meterRegistry,
+                                @Value("${bytebites.notifications.coalescing.enabled:true}") boolean enabled,
+                                @Value("${bytebites.notifications.coalescing.window:2m}") Duration window,
+                                @Value("${bytebites.notifications.coalescing.tick:1s}") Duration tick,
+                                @Value("${bytebites.notifications.coalescing.terminal-statuses:DELIVERED,CANCELLED}") List<String> terminalStatuses,
+                                @Value("${bytebites.notifications.coalescing.include-timeline:true}") boolean includeTimeline,
+                                @Value("${bytebites.notifications.coalescing.max-pending-orders:100000}") int maxPendingOrders) {
+        this.timerWheel = new HierarchicalTimerWheel<>(tick, System.currentTimeMillis());
+        this.enabled = enabled;
+        this.window = window;
+        this.terminalStatuses = terminalStatuses.stream()
+                .map(status -> status.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.includeTimeline = includeTimeline;
+        this.maxPendingOrders = maxPendingOrders;
+        this.merged = Counter.builder("order_status_notifications_coalesced_total")
+                .description("Order status changes folded into another notification instead of sent on their own")
+                .register(meterRegistry);
+        this.overflow = Counter.builder("order_status_coalescing_overflow_total")
+                .description("Order status changes sent immediately because the coalescing buffer was full")
+                .register(meterRegistry);
+
+        Gauge.builder("order_status_coalescing_pending_orders", this, OrderStatusCoalescer::pendingOrders)
+                .description("Orders with status notifications waiting for their coalescing window to close")
+                .register(meterRegistry);
+    }
+
+    public synchronized Optional<OrderStatusDigest> offer(OrderStatusChangedEvent event) {
+        if (!enabled || event.orderId() == null) {
+            return Optional.of(digest(new Pending(event)));
+        }
+
+        Pending buffered = pending.get(event.orderId());
+        if (isTerminal(event.newStatus())) {
+            if (buffered == null) {
+                return Optional.of(digest(new Pending(event)));
+            }
+            pending.remove(event.orderId());
+            timerWheel.cancel(event.orderId());
+            merge(buffered, event);
+            return Optional.of(digest(buffered));
+        }
+
+        if (buffered != null) {
+            merge(buffered, event);
+            return Optional.empty();
+        }
+        if (pending.size() >= maxPendingOrders) {
+            overflow.increment();
+            return Optional.of(digest(new Pending(event)));
+        }
+        pending.put(event.orderId(), new Pending(event));
+        timerWheel.schedule(event.orderId(), System.currentTimeMillis() + window.toMillis());
+        return Optional.empty();
+    }
+
+    public synchronized List<OrderStatusDigest> pollExpired() {
+        List<OrderStatusDigest> expired = new ArrayList<>();
+        for (UUID orderId : timerWheel.advanceTo(System.currentTimeMillis())) {
+            Pending buffered = pending.remove(orderId);
+            if (buffered != null) {
+                expired.add(digest(buffered));
+            }
+        }
+        return expired;
+    }
+
+    public synchronized List<OrderStatusDigest> drainAll() {
+        List<OrderStatusDigest> drained = new ArrayList<>(pending.size());
+        pending.forEach((orderId, buffered) -> {
+            timerWheel.cancel(orderId);
+            drained.add(digest(buffered));
+        });
+        pending.clear();
+        return drained;
+    }
+
+    public synchronized void restore(List<OrderStatusDigest> digests) {
+        for (OrderStatusDigest digest : digests) {
+            UUID orderId = digest.latest().orderId();
+            Pending buffered = pending.computeIfAbsent(orderId, id -> {
+                timerWheel.schedule(id, System.currentTimeMillis() + window.toMillis());
+                return new Pending();
+            });
+            buffered.prepend(digest);
+        }
+    }
+
+    synchronized int pendingOrders() {
+        return pending.size();
+    }
+
+    private void merge(Pending buffered, OrderStatusChangedEvent event) {
+        if (buffered.add(event)) {
+            merged.increment();
+        }
+    }
+
+    private boolean isTerminal(String status) {
+        return status != null && terminalStatuses.contains(status.toUpperCase(Locale.ROOT));
+    }
+
+    private OrderStatusDigest digest(Pending buffered) {
+        if (includeTimeline || buffered.timeline.size() == 1) {
+            return new OrderStatusDigest(List.copyOf(buffered.timeline), Set.copyOf(buffered.eventIds));
+        }
+        OrderStatusChangedEvent first = buffered.timeline.get(0);
+        OrderStatusChangedEvent latest = buffered.timeline.get(buffered.timeline.size() - 1);
+        OrderStatusChangedEvent combined = new OrderStatusChangedEvent(latest.eventId(), latest.eventType(),
+                latest.timestamp(), latest.orderId(), latest.customerId(), latest.customerEmail(),
+                latest.restaurantId(), latest.restaurantName(), first.previousStatus(), latest.newStatus(),
+                latest.changedBy());
+        return new OrderStatusDigest(List.of(combined), Set.copyOf(buffered.eventIds));
+    }
+
+    private static final class Pending {
+
+        private final List<OrderStatusChangedEvent> timeline = new ArrayList<>(4);
+        private final Set<String> eventIds = new LinkedHashSet<>();
+
+        private Pending() {}
+
+        private Pending(OrderStatusChangedEvent event) {
+            add(event);
+        }
+
+        private boolean add(OrderStatusChangedEvent event) {
+            if (!eventIds.add(event.eventId())) {
+                return false;
+            }
+            timeline.add(event);
+            return true;
+        }
+
+        private void prepend(OrderStatusDigest digest) {
+            List<OrderStatusChangedEvent> later = new ArrayList<>(timeline);
+            timeline.clear();
+            timeline.addAll(digest.timeline());
+            timeline.addAll(later);
+            eventIds.addAll(digest.eventIds());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+
+import java.util.List;
+import java.util.Set;
+
+public record OrderStatusDigest(List<OrderStatusChangedEvent> timeline, Set<String> eventIds) {
+
+    public OrderStatusChangedEvent first() {
+        return timeline.get(0);
+    }
+
+    public OrderStatusChangedEvent latest() {
+        return timeline.get(timeline.size() - 1);
+    }
+
+    public boolean isSingle() {
+        return timeline.size() == 1;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bytebites.notificationservice.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class OrderStatusDigestJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatusDigestJob.class);
+
+    private final OrderStatusCoalescer orderStatusCoalescer;
+    private final NotificationBatchService notificationBatchService;
+
+    public OrderStatusDigestJob(OrderStatusCoalescer orderStatusCoalescer,
+                                NotificationBatchService notificationBatchService) {
+        this.orderStatusCoalescer = orderStatusCoalescer;
+        this.notificationBatchService = notificationBatchService;
+    }
+
+    @Scheduled(fixedDelayString = "${bytebites.notifications.coalescing.tick:1s}")
+    public void flushExpired() {
+        flush(orderStatusCoalescer.pollExpired());
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        List<OrderStatusDigest> pending = orderStatusCoalescer.drainAll();
+        if (!pending.isEmpty()) {
+            logger.info("Flushing {} pending order status digests before shutdown", pending.size());
+        }
+        flush(pending);
+    }
+
+    private void flush(List<OrderStatusDigest> digests) {
+        if (digests.isEmpty()) {
+            return;
+        }
+        try {
+            List<OrderStatusDigest> failed = notificationBatchService.deliverDigests(digests);
+            if (!failed.isEmpty()) {
+                logger.warn("Re-queueing {} order status digests that could not be stored", failed.size());
+                orderStatusCoalescer.restore(failed);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to deliver {} order status digests: {}", digests.size(), e.getMessage(), e);
+            orderStatusCoalescer.restore(digests);
+        }
+    }
+}
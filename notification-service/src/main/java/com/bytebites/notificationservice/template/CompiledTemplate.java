@@ -0,0 +1,41 @@
+package com.bytebites.notificationservice.template;
+
+import java.util.Locale;
+
+public final class CompiledTemplate {
+
+    private final String name;
+    private final Locale locale;
+    private final TemplateNode[] nodes;
+
+    CompiledTemplate(String name, Locale locale, TemplateNode[] nodes) {
+        this.name = name;
+        this.locale = locale;
+        this.nodes = nodes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public String render(Object model) {
+        StringBuilder out = RenderBuffers.acquire();
+        try {
+            renderTo(out, model);
+            return out.toString();
+        } finally {
+            RenderBuffers.release(out);
+        }
+    }
+
+    public void renderTo(StringBuilder out, Object model) {
+        TemplateNode.Scope scope = new TemplateNode.Scope(model, null);
+        for (TemplateNode node : nodes) {
+            node.render(out, scope);
+        }
+    }
+}
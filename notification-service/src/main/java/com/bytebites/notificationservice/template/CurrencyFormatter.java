@@ -0,0 +1,62 @@
+package com.bytebites.notificationservice.template;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.Locale;
+
+final class CurrencyFormatter {
+
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    private final int groupingSize;
+    private final int fractionDigits;
+
+    CurrencyFormatter(Locale locale, Currency currency) {
+        if (!(NumberFormat.getCurrencyInstance(locale) instanceof DecimalFormat format)) {
+            throw new IllegalArgumentException("No decimal currency format for locale: " + locale);
+        }
+        format.setCurrency(currency);
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+        this.positivePrefix = format.getPositivePrefix();
+        this.positiveSuffix = format.getPositiveSuffix();
+        this.negativePrefix = format.getNegativePrefix();
+        this.negativeSuffix = format.getNegativeSuffix();
+        this.groupingSeparator = symbols.getMonetaryGroupingSeparator();
+        this.decimalSeparator = symbols.getMonetaryDecimalSeparator();
+        this.groupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+        this.fractionDigits = currency.getDefaultFractionDigits() >= 0
+                ? currency.getDefaultFractionDigits()
+                : format.getMaximumFractionDigits();
+    }
+
+    void format(Object value, StringBuilder out) {
+        BigDecimal amount = value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+        amount = amount.setScale(fractionDigits, RoundingMode.HALF_EVEN);
+        boolean negative = amount.signum() < 0;
+        String digits = amount.unscaledValue().abs().toString();
+        if (digits.length() <= fractionDigits) {
+            digits = "0".repeat(fractionDigits - digits.length() + 1) + digits;
+        }
+
+        out.append(negative ? negativePrefix : positivePrefix);
+        int integerDigits = digits.length() - fractionDigits;
+        for (int i = 0; i < integerDigits; i++) {
+            if (i > 0 && groupingSize > 0 && (integerDigits - i) % groupingSize == 0) {
+                out.append(groupingSeparator);
+            }
+            out.append(digits.charAt(i));
+        }
+        if (fractionDigits > 0) {
+            out.append(decimalSeparator).append(digits, integerDigits, digits.length());
+        }
+        out.append(negative ? negativeSuffix : positiveSuffix);
+    }
+}
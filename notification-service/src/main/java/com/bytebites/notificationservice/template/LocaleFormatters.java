@@ -0,0 +1,75 @@
+package com.bytebites.notificationservice.template;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+final class LocaleFormatters {
+
+    private static final ValueFormatter PLAIN = (value, out) -> {
+        if (value instanceof String text) {
+            out.append(text);
+        } else if (value instanceof Integer number) {
+            out.append(number.intValue());
+        } else {
+            out.append(value);
+        }
+    };
+
+    private final CurrencyFormatter currency;
+    private final DateTimeFormatter time;
+    private final DateTimeFormatter date;
+    private final Map<String, String> messages;
+
+    LocaleFormatters(Locale locale, Currency currency, Map<String, String> messages) {
+        this.currency = new CurrencyFormatter(locale, currency);
+        this.time = DateTimeFormatter.ofPattern("HH:mm", locale);
+        this.date = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(locale);
+        this.messages = Map.copyOf(messages);
+    }
+
+    ValueFormatter resolve(String name, String argument) {
+        return switch (name) {
+            case "" -> PLAIN;
+            case "currency" -> currency::format;
+            case "time" -> (value, out) -> time.formatTo((TemporalAccessor) value, out);
+            case "date" -> (value, out) -> date.formatTo((TemporalAccessor) value, out);
+            case "upper" -> (value, out) -> out.append(value.toString().toUpperCase(Locale.ROOT));
+            case "lower" -> (value, out) -> out.append(value.toString().toLowerCase(Locale.ROOT));
+            case "shortId" -> LocaleFormatters::shortId;
+            case "message" -> message(argument);
+            default -> throw new IllegalArgumentException("Unknown formatter: " + name);
+        };
+    }
+
+    private ValueFormatter message(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Formatter message requires a key prefix, e.g. message:order.status");
+        }
+        String keyPrefix = prefix + ".";
+        Map<String, String> scoped = new HashMap<>();
+        messages.forEach((key, text) -> {
+            if (key.startsWith(keyPrefix)) {
+                scoped.put(key.substring(keyPrefix.length()), text);
+            }
+        });
+        Map<String, String> byValue = Map.copyOf(scoped);
+        String fallback = byValue.get("default");
+        return (value, out) -> {
+            String key = value.toString();
+            String text = byValue.get(key.toUpperCase(Locale.ROOT));
+            out.append(text != null ? text : fallback != null ? fallback : key);
+        };
+    }
+
+    private static void shortId(Object value, StringBuilder out) {
+        String id = value.toString();
+        for (int i = 0; i < Math.min(8, id.length()); i++) {
+            out.append(Character.toUpperCase(id.charAt(i)));
+        }
+    }
+}
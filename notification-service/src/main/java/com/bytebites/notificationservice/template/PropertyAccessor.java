@@ -0,0 +1,93 @@
+package com.bytebites.notificationservice.template;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+final class PropertyAccessor {
+
+    static final Object MISSING = new Object();
+
+    private static final int INLINE_CACHE_SIZE = 4;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Map<String, Function<Object, Object>>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Function<Object, Object>> computeValue(Class<?> type) {
+            Map<String, Function<Object, Object>> accessors = new HashMap<>();
+            for (Method method : type.getMethods()) {
+                if (method.getParameterCount() != 0 || method.getReturnType() == void.class
+                        || Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
+                    continue;
+                }
+                try {
+                    accessors.put(method.getName(), getter(method));
+                } catch (IllegalAccessException | LambdaConversionException e) {
+                    // not reachable from templates, e.g. a public method on a non-public type
+                }
+            }
+            return accessors;
+        }
+    };
+
+    private final String name;
+    private volatile Binding[] bindings = new Binding[0];
+
+    PropertyAccessor(String name) {
+        this.name = name;
+    }
+
+    Object get(Object target) {
+        Class<?> type = target.getClass();
+        for (Binding binding : bindings) {
+            if (binding.type() == type) {
+                return binding.read().apply(target);
+            }
+        }
+        Function<Object, Object> read = bind(type);
+        Binding[] current = bindings;
+        if (current.length < INLINE_CACHE_SIZE) {
+            Binding[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = new Binding(type, read);
+            bindings = next;
+        }
+        return read.apply(target);
+    }
+
+    private Function<Object, Object> bind(Class<?> type) {
+        if (Map.class.isAssignableFrom(type)) {
+            return target -> {
+                Map<?, ?> map = (Map<?, ?>) target;
+                return map.containsKey(name) ? map.get(name) : MISSING;
+            };
+        }
+        Function<Object, Object> accessor = ACCESSORS.get(type).get(name);
+        return accessor != null ? accessor : target -> MISSING;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Method method) throws IllegalAccessException, LambdaConversionException {
+        MethodHandle handle = LOOKUP.unreflect(method);
+        try {
+            return (Function<Object, Object>) LambdaMetafactory.metafactory(LOOKUP, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle, handle.type().wrap()).getTarget().invokeExact();
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to bind accessor " + method, e);
+        }
+    }
+
+    private record Binding(Class<?> type, Function<Object, Object> read) {}
+}
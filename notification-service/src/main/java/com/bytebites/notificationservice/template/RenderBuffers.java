@@ -0,0 +1,27 @@
+package com.bytebites.notificationservice.template;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+// A shared pool rather than a ThreadLocal: consumers run on virtual threads, which would never reuse a buffer.
+final class RenderBuffers {
+
+    private static final int POOL_SIZE = 64;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private static final ArrayBlockingQueue<StringBuilder> POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private RenderBuffers() {}
+
+    static StringBuilder acquire() {
+        StringBuilder buffer = POOL.poll();
+        return buffer != null ? buffer : new StringBuilder(INITIAL_CAPACITY);
+    }
+
+    static void release(StringBuilder buffer) {
+        if (buffer.capacity() <= MAX_RETAINED_CAPACITY) {
+            buffer.setLength(0);
+            POOL.offer(buffer);
+        }
+    }
+}
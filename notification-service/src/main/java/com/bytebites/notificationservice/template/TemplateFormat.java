@@ -0,0 +1,27 @@
+package com.bytebites.notificationservice.template;
+
+public enum TemplateFormat {
+    TEXT("txt", false),
+    HTML("html", true);
+
+    private final String extension;
+    private final boolean escaped;
+
+    TemplateFormat(String extension, boolean escaped) {
+        this.extension = extension;
+        this.escaped = escaped;
+    }
+
+    boolean isEscaped() {
+        return escaped;
+    }
+
+    static TemplateFormat fromExtension(String extension) {
+        for (TemplateFormat format : values()) {
+            if (format.extension.equals(extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
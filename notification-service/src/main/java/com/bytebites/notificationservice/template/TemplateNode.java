@@ -0,0 +1,149 @@
+package com.bytebites.notificationservice.template;
+
+import java.util.Collection;
+
+sealed interface TemplateNode {
+
+    void render(StringBuilder out, Scope scope);
+
+    record Text(String text) implements TemplateNode {
+
+        @Override
+        public void render(StringBuilder out, Scope scope) {
+            out.append(text);
+        }
+    }
+
+    record Value(Path path, ValueFormatter formatter, boolean escaped) implements TemplateNode {
+
+        @Override
+        public void render(StringBuilder out, Scope scope) {
+            Object value = path.resolve(scope);
+            if (value == null) {
+                return;
+            }
+            int start = out.length();
+            formatter.format(value, out);
+            if (escaped) {
+                escapeHtml(out, start);
+            }
+        }
+
+        private static void escapeHtml(StringBuilder out, int start) {
+            for (int i = start; i < out.length(); i++) {
+                String entity = switch (out.charAt(i)) {
+                    case '&' -> "&amp;";
+                    case '<' -> "&lt;";
+                    case '>' -> "&gt;";
+                    case '"' -> "&quot;";
+                    case '\'' -> "&#39;";
+                    default -> null;
+                };
+                if (entity != null) {
+                    out.replace(i, i + 1, entity);
+                    i += entity.length() - 1;
+                }
+            }
+        }
+    }
+
+    record Section(Path path, String expected, boolean inverted, TemplateNode[] body) implements TemplateNode {
+
+        @Override
+        public void render(StringBuilder out, Scope scope) {
+            Object value = path.resolve(scope);
+            if (expected != null) {
+                if ((value != null && expected.equals(value.toString())) != inverted) {
+                    renderBody(out, scope);
+                }
+                return;
+            }
+            if (inverted) {
+                if (!truthy(value)) {
+                    renderBody(out, scope);
+                }
+                return;
+            }
+            if (value instanceof Iterable<?> items) {
+                for (Object item : items) {
+                    renderBody(out, new Scope(item, scope));
+                }
+            } else if (value instanceof Boolean) {
+                if (truthy(value)) {
+                    renderBody(out, scope);
+                }
+            } else if (truthy(value)) {
+                renderBody(out, new Scope(value, scope));
+            }
+        }
+
+        private void renderBody(StringBuilder out, Scope scope) {
+            for (TemplateNode node : body) {
+                node.render(out, scope);
+            }
+        }
+
+        private static boolean truthy(Object value) {
+            if (value == null) {
+                return false;
+            }
+            if (value instanceof Boolean flag) {
+                return flag;
+            }
+            if (value instanceof CharSequence text) {
+                return !text.isEmpty();
+            }
+            if (value instanceof Collection<?> items) {
+                return !items.isEmpty();
+            }
+            return !(value instanceof Iterable<?> items) || items.iterator().hasNext();
+        }
+    }
+
+    record Path(String expression, PropertyAccessor[] segments) {
+
+        static Path of(String expression) {
+            if (".".equals(expression)) {
+                return new Path(expression, new PropertyAccessor[0]);
+            }
+            String[] names = expression.split("\\.", -1);
+            PropertyAccessor[] segments = new PropertyAccessor[names.length];
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].isBlank()) {
+                    throw new IllegalArgumentException("Invalid property path: " + expression);
+                }
+                segments[i] = new PropertyAccessor(names[i]);
+            }
+            return new Path(expression, segments);
+        }
+
+        Object resolve(Scope scope) {
+            if (segments.length == 0) {
+                return scope.value();
+            }
+            Object value = scope.lookup(segments[0]);
+            for (int i = 1; i < segments.length && value != null; i++) {
+                value = segments[i].get(value);
+                if (value == PropertyAccessor.MISSING) {
+                    return null;
+                }
+            }
+            return value;
+        }
+    }
+
+    record Scope(Object value, Scope parent) {
+
+        Object lookup(PropertyAccessor property) {
+            for (Scope scope = this; scope != null; scope = scope.parent) {
+                if (scope.value != null) {
+                    Object found = property.get(scope.value);
+                    if (found != PropertyAccessor.MISSING) {
+                        return found;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
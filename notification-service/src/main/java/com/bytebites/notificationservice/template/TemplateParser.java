@@ -0,0 +1,159 @@
+package com.bytebites.notificationservice.template;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+final class TemplateParser {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    private final String source;
+    private final TemplateFormat format;
+    private final LocaleFormatters formatters;
+
+    private TemplateParser(String name, String source, TemplateFormat format, LocaleFormatters formatters) {
+        this.name = name;
+        this.source = source;
+        this.format = format;
+        this.formatters = formatters;
+    }
+
+    static TemplateNode[] parse(String name, String source, TemplateFormat format, LocaleFormatters formatters) {
+        return new TemplateParser(name, source, format, formatters).parse();
+    }
+
+    private TemplateNode[] parse() {
+        Deque<Frame> frames = new ArrayDeque<>();
+        frames.push(new Frame(null, 0));
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                addText(frames.peek(), source.substring(position));
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw error(open, "Unclosed tag");
+            }
+            String tag = source.substring(open + OPEN.length(), close).trim();
+            if (tag.isEmpty()) {
+                throw error(open, "Empty tag");
+            }
+
+            char kind = tag.charAt(0);
+            int textEnd = open;
+            int next = close + CLOSE.length();
+            if (kind == '#' || kind == '^' || kind == '/' || kind == '!') {
+                int lineStart = source.lastIndexOf('\n', open - 1) + 1;
+                int lineEnd = source.indexOf('\n', next);
+                if (lineEnd < 0) {
+                    lineEnd = source.length();
+                }
+                if (lineStart >= position && isBlank(lineStart, open) && isBlank(next, lineEnd)) {
+                    textEnd = lineStart;
+                    next = Math.min(lineEnd + 1, source.length());
+                }
+            }
+            addText(frames.peek(), source.substring(position, textEnd));
+
+            switch (kind) {
+                case '!' -> { }
+                case '#', '^' -> frames.push(new Frame(tag, open));
+                case '/' -> {
+                    Frame frame = frames.pop();
+                    String key = tag.substring(1).trim();
+                    if (frame.tag == null) {
+                        throw error(open, "Unexpected closing tag: " + key);
+                    }
+                    if (!frame.key().equals(key)) {
+                        throw error(open, "Expected {{/" + frame.key() + "}} but found {{/" + key + "}}");
+                    }
+                    frames.peek().nodes.add(section(frame));
+                }
+                default -> frames.peek().nodes.add(value(tag, open));
+            }
+            position = next;
+        }
+
+        Frame root = frames.pop();
+        if (root.tag != null) {
+            throw error(root.offset, "Unclosed section: " + root.key());
+        }
+        return root.nodes.toArray(TemplateNode[]::new);
+    }
+
+    private TemplateNode section(Frame frame) {
+        String key = frame.key();
+        int equals = key.indexOf('=');
+        try {
+            TemplateNode.Path path = TemplateNode.Path.of(equals < 0 ? key : key.substring(0, equals).trim());
+            String expected = equals < 0 ? null : key.substring(equals + 1).trim();
+            return new TemplateNode.Section(path, expected, frame.tag.charAt(0) == '^',
+                    frame.nodes.toArray(TemplateNode[]::new));
+        } catch (IllegalArgumentException e) {
+            throw error(frame.offset, e.getMessage());
+        }
+    }
+
+    private TemplateNode value(String tag, int offset) {
+        int pipe = tag.indexOf('|');
+        String expression = pipe < 0 ? tag : tag.substring(0, pipe).trim();
+        String formatter = pipe < 0 ? "" : tag.substring(pipe + 1).trim();
+        int colon = formatter.indexOf(':');
+        try {
+            return new TemplateNode.Value(TemplateNode.Path.of(expression),
+                    colon < 0
+                            ? formatters.resolve(formatter, null)
+                            : formatters.resolve(formatter.substring(0, colon).trim(), formatter.substring(colon + 1).trim()),
+                    format.isEscaped());
+        } catch (IllegalArgumentException e) {
+            throw error(offset, e.getMessage());
+        }
+    }
+
+    private static void addText(Frame frame, String text) {
+        if (!text.isEmpty()) {
+            frame.nodes.add(new TemplateNode.Text(text));
+        }
+    }
+
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(source.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private IllegalArgumentException error(int offset, String message) {
+        int line = 1;
+        for (int i = 0; i < offset; i++) {
+            if (source.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return new IllegalArgumentException("Template " + name + " line " + line + ": " + message);
+    }
+
+    private static final class Frame {
+
+        private final String tag;
+        private final int offset;
+        private final List<TemplateNode> nodes = new ArrayList<>();
+
+        private Frame(String tag, int offset) {
+            this.tag = tag;
+            this.offset = offset;
+        }
+
+        String key() {
+            return tag.substring(1).trim();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.bytebites.notificationservice.template;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+@Component
+public class TemplateRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemplateRegistry.class);
+
+    private static final String MESSAGES = "messages";
+
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+    private final String location;
+    private final Locale defaultLocale;
+    private final Set<Locale> locales = new LinkedHashSet<>();
+    private final Currency currency;
+
+    private volatile Map<Locale, Map<String, CompiledTemplate>> templates = Map.of();
+
+    public TemplateRegistry(@Value("${bytebites.notifications.templates.location:classpath*:templates/notifications/}") String location,
+                            @Value("${bytebites.notifications.templates.default-locale:en-US}") String defaultLocale,
+                            @Value("${bytebites.notifications.templates.locales:en-US}") List<String> locales,
+                            @Value("${bytebites.notifications.templates.currency:USD}") String currency) {
+        this.location = location.endsWith("/") ? location : location + "/";
+        this.defaultLocale = Locale.forLanguageTag(defaultLocale);
+        this.locales.add(this.defaultLocale);
+        locales.forEach(tag -> this.locales.add(Locale.forLanguageTag(tag.trim())));
+        this.currency = Currency.getInstance(currency);
+        reload();
+    }
+
+    public synchronized int reload() {
+        Map<String, Map<Locale, String>> sources = new HashMap<>();
+        Map<Locale, String> messageSources = new HashMap<>();
+        for (Resource resource : resources()) {
+            String filename = resource.getFilename();
+            int dot = filename == null ? -1 : filename.lastIndexOf('.');
+            if (dot <= 0) {
+                continue;
+            }
+            String stem = filename.substring(0, dot);
+            String extension = filename.substring(dot + 1);
+            int underscore = stem.indexOf('_');
+            String baseName = underscore < 0 ? stem : stem.substring(0, underscore);
+            Locale variant = underscore < 0
+                    ? Locale.ROOT
+                    : Locale.forLanguageTag(stem.substring(underscore + 1).replace('_', '-'));
+
+            if (MESSAGES.equals(baseName) && "properties".equals(extension)) {
+                messageSources.put(variant, read(resource));
+            } else if (TemplateFormat.fromExtension(extension) != null) {
+                sources.computeIfAbsent(baseName + "." + extension, name -> new HashMap<>())
+                        .put(variant, stripTrailingNewline(read(resource)));
+            }
+        }
+
+        Map<Locale, Map<String, CompiledTemplate>> compiled = new HashMap<>();
+        for (Locale locale : locales) {
+            LocaleFormatters formatters = new LocaleFormatters(locale, currency, messages(messageSources, locale));
+            Map<String, CompiledTemplate> byName = new HashMap<>();
+            sources.forEach((name, variants) -> {
+                String source = bestMatch(variants, locale);
+                if (source != null) {
+                    TemplateFormat format = TemplateFormat.fromExtension(name.substring(name.lastIndexOf('.') + 1));
+                    byName.put(name, new CompiledTemplate(name, locale,
+                            TemplateParser.parse(name, source, format, formatters)));
+                }
+            });
+            compiled.put(locale, Map.copyOf(byName));
+        }
+        templates = Map.copyOf(compiled);
+        logger.info("Compiled {} notification templates from {} for locales {}", sources.size(), location, locales);
+        return sources.size();
+    }
+
+    public CompiledTemplate template(String name, Locale locale) {
+        Map<String, CompiledTemplate> byName = templates.get(locale);
+        if (byName == null) {
+            byName = templates.get(defaultLocale);
+        }
+        CompiledTemplate template = byName.get(name);
+        if (template == null) {
+            throw new IllegalStateException("Notification template not found: " + name);
+        }
+        return template;
+    }
+
+    public String render(String name, Object model) {
+        return template(name, defaultLocale).render(model);
+    }
+
+    public String render(String name, Locale locale, Object model) {
+        return template(name, locale).render(model);
+    }
+
+    private Resource[] resources() {
+        try {
+            return resourceResolver.getResources(location + "*.*");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list notification templates in " + location, e);
+        }
+    }
+
+    private Map<String, String> messages(Map<Locale, String> messageSources, Locale locale) {
+        Map<String, String> messages = new HashMap<>();
+        for (Locale candidate : List.of(Locale.ROOT, Locale.of(locale.getLanguage()), locale)) {
+            String source = messageSources.get(candidate);
+            if (source == null) {
+                continue;
+            }
+            Properties properties = new Properties();
+            try {
+                properties.load(new StringReader(source));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            properties.forEach((key, text) -> messages.put(key.toString(), text.toString()));
+        }
+        return messages;
+    }
+
+    private static String bestMatch(Map<Locale, String> variants, Locale locale) {
+        String source = variants.get(locale);
+        if (source == null) {
+            source = variants.get(Locale.of(locale.getLanguage()));
+        }
+        return source != null ? source : variants.get(Locale.ROOT);
+    }
+
+    private static String read(Resource resource) {
+        try {
+            return resource.getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read notification template " + resource.getFilename(), e);
+        }
+    }
+
+    private static String stripTrailingNewline(String source) {
+        if (source.endsWith("\r\n")) {
+            return source.substring(0, source.length() - 2);
+        }
+        return source.endsWith("\n") ? source.substring(0, source.length() - 1) : source;
+    }
+}
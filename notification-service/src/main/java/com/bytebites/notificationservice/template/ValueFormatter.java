@@ -0,0 +1,7 @@
+package com.bytebites.notificationservice.template;
+
+@FunctionalInterface
+interface ValueFormatter {
+
+    void format(Object value, StringBuilder out);
+}
@@ -0,0 +1,11 @@
+CREATE TABLE notification_retries (
+                                      id UUID PRIMARY KEY,
+                                      notification_id UUID NOT NULL UNIQUE REFERENCES notifications(id) ON DELETE CASCADE,
+                                      attempts INT NOT NULL,
+                                      next_attempt_at TIMESTAMP NOT NULL,
+                                      last_error TEXT,
+                                      created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_notification_retries_next_attempt_at ON notification_retries(next_attempt_at);
+CREATE INDEX idx_notification_retries_created_at ON notification_retries(created_at);
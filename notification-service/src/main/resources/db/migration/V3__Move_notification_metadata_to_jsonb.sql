@@ -0,0 +1,12 @@
+ALTER TABLE notifications ADD COLUMN metadata JSONB NOT NULL DEFAULT '{}'::jsonb;
+
+UPDATE notifications n
+SET metadata = m.metadata
+FROM (
+         SELECT notification_id, jsonb_object_agg(metadata_key, metadata_value) AS metadata
+         FROM notification_metadata
+         GROUP BY notification_id
+     ) m
+WHERE n.id = m.notification_id;
+
+DROP TABLE notification_metadata;
@@ -0,0 +1,56 @@
+package com.bytebites.notificationservice.consumer;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffsetTrackerTest {
+
+    private final TopicPartition partition = new TopicPartition("order-events", 0);
+
+    @Test
+    void committable_ShouldStopAtLowestIncompleteOffset() {
+        OffsetTracker tracker = new OffsetTracker();
+        Runnable first = tracker.track(partition, 10);
+        Runnable second = tracker.track(partition, 11);
+        Runnable third = tracker.track(partition, 12);
+
+        second.run();
+        third.run();
+        assertThat(tracker.committable()).containsEntry(partition, new OffsetAndMetadata(10));
+
+        first.run();
+        Map<TopicPartition, OffsetAndMetadata> offsets = tracker.committable();
+        assertThat(offsets).containsEntry(partition, new OffsetAndMetadata(13));
+        assertThat(tracker.inFlight()).isZero();
+
+        tracker.committed(offsets);
+        assertThat(tracker.committable()).isEmpty();
+    }
+
+    @Test
+    void keyedExecutor_ShouldRunTasksForTheSameKeyInOrder() throws InterruptedException {
+        List<Integer> seen = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(50);
+        try (KeyedExecutor executor = new KeyedExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                int value = i;
+                executor.submit("order-1", () -> {
+                    seen.add(value);
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(seen).isSorted().hasSize(50);
+    }
+}
@@ -0,0 +1,99 @@
+package com.bytebites.notificationservice.consumer;
+
+import com.bytebites.notificationservice.repository.NotificationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "bytebites.notifications.coalescing.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.bytebites=WARN",
+        "logging.level.com.bytebites.notificationservice.consumer.OrderEventBatchBenchmark=INFO",
+        "logging.level.org.springframework.kafka=WARN",
+        "logging.level.org.apache.kafka=WARN"
+})
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 3, topics = {"order-events", "restaurant-events"})
+@Tag("benchmark")
+class OrderEventBatchBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventBatchBenchmark.class);
+
+    private static final int EVENTS = 20_000;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Value("${bytebites.kafka.consumer.batch-size:500}")
+    private int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void throughputAgainstEmbeddedKafka() throws Exception {
+        long start = System.nanoTime();
+        publishStatusChanges();
+
+        long deadline = System.nanoTime() + Duration.ofMinutes(5).toNanos();
+        while (notificationRepository.count() < EVENTS && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        logger.info("max.poll.records={}: {} events persisted in {} s, {} events/s",
+                batchSize, notificationRepository.count(), String.format("%.2f", seconds), Math.round(EVENTS / seconds));
+        assertThat(notificationRepository.count()).isEqualTo(EVENTS);
+    }
+
+    private void publishStatusChanges() throws Exception {
+        Map<String, Object> config = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class,
+                ProducerConfig.LINGER_MS_CONFIG, 10
+        );
+        try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(config)) {
+            for (int i = 0; i < EVENTS; i++) {
+                UUID orderId = UUID.randomUUID();
+                Map<String, Object> event = new LinkedHashMap<>();
+                event.put("eventId", UUID.randomUUID().toString());
+                event.put("eventType", "OrderStatusChanged");
+                event.put("timestamp", "2025-01-01T12:00:00");
+                event.put("orderId", orderId.toString());
+                event.put("customerId", UUID.randomUUID().toString());
+                event.put("customerEmail", "customer" + i + "@example.com");
+                event.put("restaurantId", UUID.randomUUID().toString());
+                event.put("restaurantName", "Restaurant " + (i % 100));
+                event.put("previousStatus", "PENDING");
+                event.put("newStatus", "CONFIRMED");
+                event.put("changedBy", UUID.randomUUID().toString());
+                producer.send(new ProducerRecord<>("order-events", orderId.toString(), objectMapper.writeValueAsBytes(event)));
+            }
+            producer.flush();
+        }
+    }
+}
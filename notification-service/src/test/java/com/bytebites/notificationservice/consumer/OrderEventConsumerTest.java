@@ -0,0 +1,65 @@
+package com.bytebites.notificationservice.consumer;
+
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.bytebites.notificationservice.service.NotificationBatchResult;
+import com.bytebites.notificationservice.service.NotificationBatchService;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderEventConsumerTest {
+
+    private final NotificationBatchService notificationBatchService = mock(NotificationBatchService.class);
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer = mock(DeadLetterPublishingRecoverer.class);
+    private final OrderEventConsumer consumer = new OrderEventConsumer(notificationBatchService,
+            RetryRegistry.of(RetryConfig.custom().maxAttempts(2).waitDuration(Duration.ofMillis(1)).build()),
+            deadLetterRecoverer);
+
+    @Test
+    void handleOrderEvents_ShouldDeadLetterOnlyFailedRecords_AndAcknowledgeTheBatch() {
+        OrderStatusChangedEvent ok = statusChanged("evt-1");
+        OrderStatusChangedEvent broken = statusChanged("evt-2");
+        OrderStatusChangedEvent later = statusChanged("evt-3");
+        ConsumerRecord<String, Object> poison = record(0, Map.of("eventType", "Unknown"));
+        ConsumerRecord<String, Object> failing = record(2, broken);
+        when(notificationBatchService.processOrderEvents(List.of(ok, broken, later)))
+                .thenReturn(new NotificationBatchResult(2, 0, 0, List.of(1)));
+        when(notificationBatchService.processOrderEvents(List.of(broken)))
+                .thenReturn(new NotificationBatchResult(0, 0, 0, List.of(0)));
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        consumer.handleOrderEvents(List.of(poison, record(1, ok), failing, record(3, later)), acknowledgment);
+
+        verify(notificationBatchService, times(2)).processOrderEvents(List.of(broken));
+        verify(deadLetterRecoverer).accept(eq(poison), any(PoisonEventException.class));
+        verify(deadLetterRecoverer).accept(eq(failing), any(IllegalStateException.class));
+        verify(deadLetterRecoverer, times(2)).accept(any(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    private static ConsumerRecord<String, Object> record(long offset, Object value) {
+        return new ConsumerRecord<>("order-events", 0, offset, "key", value);
+    }
+
+    private static OrderStatusChangedEvent statusChanged(String eventId) {
+        return new OrderStatusChangedEvent(eventId, "OrderStatusChanged", LocalDateTime.now(), UUID.randomUUID(),
+                UUID.randomUUID(), eventId + "@example.com", UUID.randomUUID(), "Pasta Place",
+                "PENDING", "CONFIRMED", UUID.randomUUID());
+    }
+}
@@ -0,0 +1,118 @@
+package com.bytebites.notificationservice.consumer;
+
+import com.bytebites.notificationservice.repository.NotificationRepository;
+import com.bytebites.notificationservice.service.EmailDispatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = {
+        "bytebites.notifications.coalescing.enabled=false",
+        "bytebites.kafka.consumer.mode=${benchmark.mode:parallel}",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.bytebites=WARN",
+        "logging.level.com.bytebites.notificationservice.consumer.ParallelOrderEventBenchmark=INFO",
+        "logging.level.org.springframework.kafka=WARN",
+        "logging.level.org.apache.kafka=WARN"
+})
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 3, topics = {"order-events", "restaurant-events"})
+@Tag("benchmark")
+class ParallelOrderEventBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelOrderEventBenchmark.class);
+
+    private static final long HANDLER_LATENCY_MS = 200;
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 2_000);
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @MockitoBean
+    private EmailDispatcher emailDispatcher;
+
+    @Value("${bytebites.kafka.consumer.mode}")
+    private String mode;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void slowHandler() {
+        doAnswer(invocation -> {
+            Thread.sleep(HANDLER_LATENCY_MS);
+            return null;
+        }).when(emailDispatcher).dispatchAll(anyList());
+    }
+
+    @Test
+    void throughputWithSlowHandler() throws Exception {
+        long start = System.nanoTime();
+        publishStatusChanges();
+
+        long deadline = System.nanoTime() + Duration.ofMinutes(8).toNanos();
+        while (notificationRepository.count() < EVENTS && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        logger.info("mode={}, handler latency {} ms: {} events in {} s, {} events/s",
+                mode, HANDLER_LATENCY_MS, notificationRepository.count(), String.format("%.2f", seconds),
+                String.format("%.1f", EVENTS / seconds));
+        assertThat(notificationRepository.count()).isEqualTo(EVENTS);
+    }
+
+    private void publishStatusChanges() throws Exception {
+        Map<String, Object> config = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class,
+                ProducerConfig.LINGER_MS_CONFIG, 10
+        );
+        try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(config)) {
+            for (int i = 0; i < EVENTS; i++) {
+                UUID restaurantId = UUID.nameUUIDFromBytes(("restaurant-" + i % 50).getBytes());
+                Map<String, Object> event = new LinkedHashMap<>();
+                event.put("eventId", UUID.randomUUID().toString());
+                event.put("eventType", "OrderStatusChanged");
+                event.put("timestamp", "2025-01-01T12:00:00");
+                event.put("orderId", UUID.randomUUID().toString());
+                event.put("customerId", UUID.randomUUID().toString());
+                event.put("customerEmail", "customer" + i + "@example.com");
+                event.put("restaurantId", restaurantId.toString());
+                event.put("restaurantName", "Restaurant " + (i % 50));
+                event.put("previousStatus", "PENDING");
+                event.put("newStatus", "CONFIRMED");
+                event.put("changedBy", UUID.randomUUID().toString());
+                producer.send(new ProducerRecord<>("order-events", restaurantId.toString(), objectMapper.writeValueAsBytes(event)));
+            }
+            producer.flush();
+        }
+    }
+}
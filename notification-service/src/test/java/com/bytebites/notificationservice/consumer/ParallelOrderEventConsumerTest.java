@@ -0,0 +1,50 @@
+package com.bytebites.notificationservice.consumer;
+
+import com.bytebites.notificationservice.service.NotificationBatchService;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParallelOrderEventConsumerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRecreateConsumerAfterPollFailure() throws Exception {
+        MockConsumer<String, Object> failing = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        failing.setPollException(new KafkaException("broker connection lost"));
+        MockConsumer<String, Object> healthy = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        ConsumerFactory<String, Object> consumerFactory = mock(ConsumerFactory.class);
+        when(consumerFactory.createConsumer()).thenReturn(failing, healthy);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        ParallelOrderEventConsumer consumer = new ParallelOrderEventConsumer(consumerFactory,
+                mock(NotificationBatchService.class), RetryRegistry.ofDefaults(),
+                mock(DeadLetterPublishingRecoverer.class), meterRegistry, "parallel", "order-events", 100);
+        consumer.start();
+        try {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!consumer.isPolling() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+
+            assertThat(consumer.isPolling()).isTrue();
+            assertThat(failing.closed()).isTrue();
+            assertThat(meterRegistry.get("order_event_poller_restarts_total").counter().count()).isEqualTo(1);
+            verify(consumerFactory, times(2)).createConsumer();
+        } finally {
+            consumer.stop();
+        }
+        assertThat(consumer.isPolling()).isFalse();
+    }
+}
@@ -0,0 +1,56 @@
+package com.bytebites.notificationservice.consumer;
+
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.bytebites.notificationservice.event.RestaurantCreatedEvent;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypedEventDeserializerTest {
+
+    private final TypedEventDeserializer deserializer = new TypedEventDeserializer();
+
+    @Test
+    void deserialize_ShouldBindKnownEventTypesToRecords() {
+        UUID orderId = UUID.randomUUID();
+        String statusChanged = """
+                {"orderId":"%s","eventId":"evt-1",
+                 "eventType":"OrderStatusChanged","timestamp":"2025-07-01T12:30:00",
+                 "previousStatus":"PENDING","newStatus":"CONFIRMED","changedBy":"%s"}
+                """.formatted(orderId, UUID.randomUUID());
+
+        Object scanned = deserializer.deserialize("order-events", new RecordHeaders(), bytes(statusChanged));
+        assertThat(scanned).isInstanceOfSatisfying(OrderStatusChangedEvent.class, event -> {
+            assertThat(event.orderId()).isEqualTo(orderId);
+            assertThat(event.newStatus()).isEqualTo("CONFIRMED");
+        });
+
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("__TypeId__", bytes("com.bytebites.restaurantservice.event.RestaurantCreatedEvent"));
+        Object typed = deserializer.deserialize("restaurant-events", headers,
+                bytes("{\"eventId\":\"evt-2\",\"restaurantName\":\"Pizza Place\",\"status\":\"PENDING_APPROVAL\"}"));
+        assertThat(typed).isInstanceOfSatisfying(RestaurantCreatedEvent.class,
+                event -> assertThat(event.restaurantName()).isEqualTo("Pizza Place"));
+    }
+
+    @Test
+    void deserialize_ShouldFallBackToMapForUnknownEventTypes() {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("__TypeId__", bytes("com.bytebites.orderservice.event.OrderRefundedEvent"));
+
+        Object event = deserializer.deserialize("order-events", headers,
+                bytes("{\"eventId\":\"evt-3\",\"eventType\":\"OrderRefunded\"}"));
+
+        assertThat(event).isInstanceOfSatisfying(Map.class,
+                map -> assertThat(map.get("eventType")).isEqualTo("OrderRefunded"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
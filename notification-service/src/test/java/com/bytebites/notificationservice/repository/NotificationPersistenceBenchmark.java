@@ -0,0 +1,211 @@
+package com.bytebites.notificationservice.repository;
+
+import com.bytebites.notificationservice.enums.NotificationType;
+import com.bytebites.notificationservice.model.Notification;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/persistence-benchmark;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "bytebites.notifications.coalescing.enabled=false",
+        "logging.level.com.bytebites=WARN",
+        "logging.level.com.bytebites.notificationservice.repository.NotificationPersistenceBenchmark=INFO",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.springframework.kafka=WARN",
+        "logging.level.org.apache.kafka=WARN"
+})
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {"order-events", "restaurant-events"})
+@Tag("benchmark")
+class NotificationPersistenceBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPersistenceBenchmark.class);
+
+    private static final int NOTIFICATIONS = Integer.getInteger("benchmark.notifications", 1_000_000);
+    private static final int CHUNK = 1_000;
+    private static final int JDBC_BATCH = 100;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void metadataWriteAmplification() {
+        createScratchTables();
+
+        long rowPerKeyRows = 0;
+        long start = System.nanoTime();
+        for (int offset = 0; offset < NOTIFICATIONS; offset += CHUNK) {
+            List<Notification> chunk = chunk(offset);
+            rowPerKeyRows += transactionTemplate.execute(status -> insertRowPerKey(chunk));
+        }
+        double rowPerKeySeconds = (System.nanoTime() - start) / 1e9;
+
+        long jsonRows = 0;
+        start = System.nanoTime();
+        for (int offset = 0; offset < NOTIFICATIONS; offset += CHUNK) {
+            List<Notification> chunk = chunk(offset);
+            jsonRows += transactionTemplate.execute(status -> insertJson(chunk));
+        }
+        double jsonSeconds = (System.nanoTime() - start) / 1e9;
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        start = System.nanoTime();
+        for (int offset = 0; offset < NOTIFICATIONS; offset += CHUNK) {
+            List<Notification> chunk = chunk(offset);
+            transactionTemplate.executeWithoutResult(status -> notificationRepository.saveAll(chunk));
+        }
+        double entitySeconds = (System.nanoTime() - start) / 1e9;
+
+        logger.info("{} notifications with 3 metadata keys each", NOTIFICATIONS);
+        logger.info("row per key (JDBC): {} rows in {} s, {} notifications/s",
+                rowPerKeyRows, String.format("%.2f", rowPerKeySeconds), Math.round(NOTIFICATIONS / rowPerKeySeconds));
+        logger.info("json column (JDBC): {} rows in {} s, {} notifications/s",
+                jsonRows, String.format("%.2f", jsonSeconds), Math.round(NOTIFICATIONS / jsonSeconds));
+        logger.info("json column (JPA): {} entity inserts, {} collection inserts in {} s, {} notifications/s",
+                statistics.getEntityInsertCount(), statistics.getCollectionRecreateCount(),
+                String.format("%.2f", entitySeconds), Math.round(NOTIFICATIONS / entitySeconds));
+
+        assertThat(rowPerKeyRows).isEqualTo(4L * NOTIFICATIONS);
+        assertThat(jsonRows).isEqualTo(NOTIFICATIONS);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(NOTIFICATIONS);
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(notificationRepository.count()).isEqualTo(NOTIFICATIONS);
+        assertThat(notificationRepository.findAll(PageRequest.of(0, 1)).getContent().get(0).getMetadata())
+                .containsOnlyKeys("orderId", "previousStatus", "newStatus");
+    }
+
+    private void createScratchTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_notification_metadata");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_row_per_key_notifications");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_json_notifications");
+        String columns = "id UUID PRIMARY KEY, recipient_id UUID NOT NULL, recipient_email VARCHAR(255) NOT NULL, " +
+                "type VARCHAR(50) NOT NULL, subject VARCHAR(255) NOT NULL, content TEXT NOT NULL, " +
+                "status VARCHAR(50) NOT NULL, event_id VARCHAR(255) UNIQUE NOT NULL, created_at TIMESTAMP NOT NULL";
+        jdbcTemplate.execute("CREATE TABLE bench_row_per_key_notifications (" + columns + ")");
+        jdbcTemplate.execute("CREATE TABLE bench_notification_metadata (" +
+                "notification_id UUID NOT NULL REFERENCES bench_row_per_key_notifications(id) ON DELETE CASCADE, " +
+                "metadata_key VARCHAR(255) NOT NULL, metadata_value TEXT, PRIMARY KEY (notification_id, metadata_key))");
+        jdbcTemplate.execute("CREATE TABLE bench_json_notifications (" + columns + ", metadata JSON NOT NULL)");
+    }
+
+    private long insertRowPerKey(List<Notification> chunk) {
+        List<UUID> ids = new ArrayList<>(chunk.size());
+        long rows = insertNotifications("bench_row_per_key_notifications", "", chunk, ids, null);
+        List<Object[]> metadata = new ArrayList<>(chunk.size() * 3);
+        for (int i = 0; i < chunk.size(); i++) {
+            for (Map.Entry<String, String> entry : chunk.get(i).getMetadata().entrySet()) {
+                metadata.add(new Object[]{ids.get(i), entry.getKey(), entry.getValue()});
+            }
+        }
+        for (int[] batch : jdbcTemplate.batchUpdate(
+                "INSERT INTO bench_notification_metadata (notification_id, metadata_key, metadata_value) VALUES (?, ?, ?)",
+                metadata, JDBC_BATCH, (statement, row) -> {
+                    statement.setObject(1, row[0]);
+                    statement.setString(2, (String) row[1]);
+                    statement.setString(3, (String) row[2]);
+                })) {
+            rows += batch.length;
+        }
+        return rows;
+    }
+
+    private long insertJson(List<Notification> chunk) {
+        List<String> metadata = new ArrayList<>(chunk.size());
+        for (Notification notification : chunk) {
+            try {
+                metadata.add(objectMapper.writeValueAsString(notification.getMetadata()));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return insertNotifications("bench_json_notifications", ", metadata", chunk, new ArrayList<>(), metadata);
+    }
+
+    private long insertNotifications(String table, String extraColumn, List<Notification> chunk,
+                                     List<UUID> ids, List<String> metadata) {
+        chunk.forEach(notification -> ids.add(UUID.randomUUID()));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "INSERT INTO " + table + " (id, recipient_id, recipient_email, type, subject, content, status, " +
+                "event_id, created_at" + extraColumn + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?" +
+                (metadata != null ? ", ? FORMAT JSON" : "") + ")";
+        List<Integer> indexes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            indexes.add(i);
+        }
+        long rows = 0;
+        for (int[] batch : jdbcTemplate.batchUpdate(sql, indexes, JDBC_BATCH, (statement, i) -> {
+            Notification notification = chunk.get(i);
+            statement.setObject(1, ids.get(i));
+            statement.setObject(2, notification.getRecipientId());
+            statement.setString(3, notification.getRecipientEmail());
+            statement.setString(4, notification.getType().name());
+            statement.setString(5, notification.getSubject());
+            statement.setString(6, notification.getContent());
+            statement.setString(7, notification.getStatus().name());
+            statement.setString(8, notification.getEventId());
+            statement.setTimestamp(9, now);
+            if (metadata != null) {
+                statement.setString(10, metadata.get(i));
+            }
+        })) {
+            rows += batch.length;
+        }
+        return rows;
+    }
+
+    private static List<Notification> chunk(int offset) {
+        int size = Math.min(CHUNK, NOTIFICATIONS - offset);
+        List<Notification> notifications = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UUID orderId = UUID.randomUUID();
+            Notification notification = new Notification(UUID.randomUUID(), "customer@example.com",
+                    NotificationType.ORDER_STATUS_CHANGED,
+                    "Order Status Update - Order #" + orderId.toString().substring(0, 8).toUpperCase() + " is now confirmed",
+                    "Dear Customer,\n\nYour order status has been updated!\n\nOrder Details:\n- Order ID: " + orderId +
+                            "\n- Restaurant: Pizza Place\n- Previous Status: PENDING\n- New Status: CONFIRMED\n\n" +
+                            "Great news! Your order has been confirmed by the restaurant and is being prepared.",
+                    "evt-" + (offset + i) + "-" + orderId);
+            notification.addMetadata("orderId", orderId.toString());
+            notification.addMetadata("previousStatus", "PENDING");
+            notification.addMetadata("newStatus", "CONFIRMED");
+            notifications.add(notification);
+        }
+        return notifications;
+    }
+}
@@ -0,0 +1,104 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.dto.DeadLetterReplayJob;
+import com.bytebites.notificationservice.dto.DeadLetterReplayRequest;
+import com.bytebites.notificationservice.dto.DeadLetterReplayResult;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {"order-events", "restaurant-events"})
+class DeadLetterReplayServiceTest {
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private DeadLetterReplayService deadLetterReplayService;
+
+    @Test
+    void poisonEvents_ShouldBeDeadLetteredAndReplayableByEventType() throws Exception {
+        Map<String, Object> config = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class
+        );
+        try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(config)) {
+            ProducerRecord<String, byte[]> unknownType = new ProducerRecord<>("order-events", "order-1",
+                    "{\"eventId\":\"evt-1\",\"eventType\":\"OrderRefunded\"}".getBytes(StandardCharsets.UTF_8));
+            unknownType.headers().add("trace-id", "trace-1".getBytes(StandardCharsets.UTF_8));
+            producer.send(unknownType).get();
+            producer.send(new ProducerRecord<>("order-events", "order-2",
+                    "not json".getBytes(StandardCharsets.UTF_8))).get();
+        }
+
+        List<ConsumerRecord<String, byte[]>> deadLetters = readDeadLetters(2);
+        assertThat(deadLetters).hasSize(2);
+        ConsumerRecord<String, byte[]> first = deadLetters.get(0);
+        assertThat(first.key()).isEqualTo("order-1");
+        assertThat(first.headers().lastHeader("trace-id").value()).isEqualTo("trace-1".getBytes(StandardCharsets.UTF_8));
+        assertThat(new String(first.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_STACKTRACE).value(), StandardCharsets.UTF_8))
+                .contains("PoisonEventException: Unknown event type received: OrderRefunded");
+        assertThat(new String(deadLetters.get(1).value(), StandardCharsets.UTF_8)).isEqualTo("not json");
+
+        DeadLetterReplayJob job = deadLetterReplayService.submit(
+                new DeadLetterReplayRequest("order-events", Set.of("OrderRefunded"), null, null, 50, null));
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (deadLetterReplayService.findJob(job.jobId()).orElseThrow().status() == DeadLetterReplayJob.Status.RUNNING
+                && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        DeadLetterReplayJob finished = deadLetterReplayService.findJob(job.jobId()).orElseThrow();
+        assertThat(finished.status()).isEqualTo(DeadLetterReplayJob.Status.COMPLETED);
+        DeadLetterReplayResult result = finished.result();
+        assertThat(result.scanned()).isEqualTo(2);
+        assertThat(result.replayed()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+    }
+
+    private List<ConsumerRecord<String, byte[]>> readDeadLetters(int expected) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("dlt-reader", "false", broker);
+        props.put("auto.offset.reset", "earliest");
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        try (Consumer<String, byte[]> consumer = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new ByteArrayDeserializer()).createConsumer()) {
+            consumer.subscribe(List.of("order-events.DLT"));
+            long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+            while (records.size() < expected && System.nanoTime() < deadline) {
+                ConsumerRecords<String, byte[]> polled = consumer.poll(Duration.ofMillis(200));
+                polled.forEach(records::add);
+            }
+        }
+        records.sort((a, b) -> Long.compare(a.timestamp(), b.timestamp()));
+        return records;
+    }
+}
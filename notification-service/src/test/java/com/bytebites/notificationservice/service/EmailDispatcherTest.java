@@ -0,0 +1,91 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.enums.NotificationType;
+import com.bytebites.notificationservice.model.Notification;
+import com.bytebites.notificationservice.repository.NotificationRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private NotificationRepository notificationRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        notificationRepository = mock(NotificationRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new EmailDispatcher(mailSender, notificationRepository, mock(NotificationRetryQueue.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry,
+                "noreply@bytebites.com", true, 1, 10, 1000, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void dispatch_ShouldSendBatchesOverOneReusedConnection() {
+        for (int i = 0; i < 25; i++) {
+            dispatcher.dispatch(notification("customer" + i + "@example.com"));
+        }
+        dispatcher.start();
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 25)).isTrue();
+        dispatcher.stop();
+
+        assertThat(meterRegistry.get("email_smtp_connections_opened_total").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("email_smtp_connection_reuse_total").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("email_messages_total").tag("outcome", "sent").counter().count()).isEqualTo(25);
+        assertThat(meterRegistry.get("email_send_latency").timer().count()).isEqualTo(25);
+        verify(notificationRepository, atLeastOnce()).markSent(anyCollection(), any());
+    }
+
+    @Test
+    void offerPending_ShouldNotQueueNotificationTwice() {
+        Notification notification = notification("customer@example.com");
+        dispatcher.dispatch(notification);
+
+        assertThat(dispatcher.offerPending(notification)).isTrue();
+        assertThat(dispatcher.queueDepth()).isEqualTo(1);
+
+        dispatcher.start();
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        dispatcher.stop();
+        assertThat(dispatcher.offerPending(notification)).isTrue();
+        assertThat(dispatcher.queueDepth()).isEqualTo(1);
+    }
+
+    private static Notification notification(String email) {
+        Notification notification = new Notification(UUID.randomUUID(), email, NotificationType.ORDER_STATUS_CHANGED,
+                "Order Status Update", "Your order is ready", UUID.randomUUID().toString());
+        notification.setId(UUID.randomUUID());
+        return notification;
+    }
+}
@@ -0,0 +1,73 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventIdFilterTest {
+
+    private NotificationRepository notificationRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private EventIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new EventIdFilter(notificationRepository, meterRegistry, Duration.ofHours(1), 10_000, 0.01, 2);
+        when(notificationRepository.findEventIdsCreatedAfter(any(), any()))
+                .thenReturn(new SliceImpl<>(List.of("warm-1", "warm-2")));
+        filter.warmUp();
+    }
+
+    @Test
+    void findExisting_ShouldOnlyQueryDatabaseForProbableHits() {
+        when(notificationRepository.findExistingEventIds(any())).thenReturn(Set.of("warm-1"));
+
+        Set<String> existing = filter.findExisting(List.of("warm-1", UUID.randomUUID().toString()));
+
+        assertThat(existing).containsExactly("warm-1");
+        verify(notificationRepository).findExistingEventIds(List.of("warm-1"));
+        assertThat(avoided("filter_negative")).isEqualTo(1);
+    }
+
+    @Test
+    void isDuplicate_ShouldAnswerRecentIdsWithoutDatabase() {
+        filter.record("evt-1");
+
+        assertThat(filter.isDuplicate("evt-1")).isTrue();
+        assertThat(filter.isDuplicate(UUID.randomUUID().toString())).isFalse();
+        verify(notificationRepository, never()).findExistingEventIds(any());
+        assertThat(avoided("recent_hit")).isEqualTo(1);
+    }
+
+    @Test
+    void bloomFilter_ShouldStayNearTargetFalsePositiveRate() {
+        BloomFilter bloom = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloom.put("seen-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> bloom.mightContain("new-" + i)).count();
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> bloom.mightContain("seen-" + i))).isTrue();
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    private double avoided(String reason) {
+        return meterRegistry.get("notification_dedup_db_lookups_avoided_total").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,98 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.common.replica.RestaurantReplica;
+import com.bytebites.notificationservice.event.OrderEvent;
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.bytebites.notificationservice.model.Notification;
+import com.bytebites.notificationservice.repository.NotificationRepository;
+import com.bytebites.notificationservice.template.TemplateRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationBatchServiceTest {
+
+    private NotificationRepository notificationRepository;
+    private EmailDispatcher emailDispatcher;
+    private OrderStatusCoalescer orderStatusCoalescer;
+    private NotificationBatchService notificationBatchService;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        emailDispatcher = mock(EmailDispatcher.class);
+        orderStatusCoalescer = new OrderStatusCoalescer(new SimpleMeterRegistry(), false, Duration.ofMinutes(2),
+                Duration.ofSeconds(1), List.of("DELIVERED", "CANCELLED"), true, 1000);
+        NotificationComposer composer = new NotificationComposer(
+                new TemplateService(new TemplateRegistry("classpath*:templates/notifications/", "en-US", List.of("en-US"), "USD")),
+                new RestaurantReplica(new SimpleMeterRegistry(), false, "restaurant-snapshots", "localhost:9092",
+                        "notification-service-restaurant-replica"));
+        notificationBatchService = new NotificationBatchService(notificationRepository, composer, emailDispatcher,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new EventIdFilter(notificationRepository, new SimpleMeterRegistry(), Duration.ofHours(1), 1000, 0.01, 100),
+                orderStatusCoalescer);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void processOrderEvents_ShouldDedupeWithOneLookupAndSaveInOneBatch() {
+        OrderStatusChangedEvent known = statusChanged("evt-1");
+        OrderStatusChangedEvent fresh = statusChanged("evt-2");
+        when(notificationRepository.findExistingEventIds(any())).thenReturn(Set.of("evt-1"));
+
+        NotificationBatchResult result = notificationBatchService.processOrderEvents(List.of(known, fresh, fresh));
+
+        assertThat(result.queued()).isEqualTo(1);
+        assertThat(result.duplicates()).isEqualTo(2);
+        assertThat(result.hasFailures()).isFalse();
+        verify(notificationRepository, times(1)).findExistingEventIds(any());
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Notification::getEventId).containsExactly("evt-2");
+        verify(emailDispatcher).dispatchAll(saved.getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void processOrderEvents_ShouldReportOnlyFailedEvents() {
+        OrderStatusChangedEvent ok = statusChanged("evt-1");
+        OrderStatusChangedEvent broken = statusChanged("evt-2");
+        when(notificationRepository.findExistingEventIds(any())).thenReturn(Set.of());
+        when(notificationRepository.saveAll(any())).thenThrow(new QueryTimeoutException("batch insert timed out"));
+        when(notificationRepository.save(argThat(n -> n != null && "evt-2".equals(n.getEventId()))))
+                .thenThrow(new QueryTimeoutException("insert timed out"));
+
+        List<OrderEvent> events = List.of(ok, broken);
+        NotificationBatchResult result = notificationBatchService.processOrderEvents(events);
+
+        assertThat(result.failedIndexes()).containsExactly(1);
+        ArgumentCaptor<List<Notification>> dispatched = ArgumentCaptor.forClass(List.class);
+        verify(emailDispatcher).dispatchAll(dispatched.capture());
+        assertThat(dispatched.getValue()).extracting(Notification::getEventId).containsExactly("evt-1");
+        assertThat(orderStatusCoalescer.pendingOrders()).isEqualTo(1);
+    }
+
+    private static OrderStatusChangedEvent statusChanged(String eventId) {
+        return new OrderStatusChangedEvent(eventId, "OrderStatusChanged", LocalDateTime.now(), UUID.randomUUID(),
+                UUID.randomUUID(), eventId + "@example.com", UUID.randomUUID(), "Pasta Place",
+                "PENDING", "CONFIRMED", UUID.randomUUID());
+    }
+}
@@ -0,0 +1,71 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.model.NotificationRetry;
+import com.bytebites.notificationservice.repository.NotificationRetryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationRetryQueueTest {
+
+    private NotificationRetryRepository retryRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRetryQueue retryQueue;
+
+    @BeforeEach
+    void setUp() {
+        retryRepository = mock(NotificationRetryRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        retryQueue = new NotificationRetryQueue(retryRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry,
+                3, Duration.ofSeconds(10), Duration.ofSeconds(60), 2.0, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void backoff_ShouldGrowExponentiallyWithJitterUpToCap() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(retryQueue.backoff(1)).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+            assertThat(retryQueue.backoff(3)).isBetween(Duration.ofSeconds(20), Duration.ofSeconds(40));
+            assertThat(retryQueue.backoff(10)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(60));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void schedule_ShouldRescheduleUntilAttemptsAreExhausted() {
+        UUID first = UUID.randomUUID();
+        UUID retried = UUID.randomUUID();
+        NotificationRetry existing = new NotificationRetry(retried, LocalDateTime.now().minusMinutes(1));
+        existing.setId(UUID.randomUUID());
+        existing.setAttempts(2);
+        when(retryRepository.findByNotificationIdIn(any())).thenReturn(List.of(existing));
+
+        retryQueue.schedule(Map.of(first, "connection refused", retried, "connection refused"));
+
+        ArgumentCaptor<List<NotificationRetry>> saved = ArgumentCaptor.forClass(List.class);
+        verify(retryRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).singleElement().satisfies(retry -> {
+            assertThat(retry.getNotificationId()).isEqualTo(first);
+            assertThat(retry.getAttempts()).isEqualTo(1);
+            assertThat(retry.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        });
+        verify(retryRepository).deleteAll(List.of(existing));
+        assertThat(meterRegistry.get("notification_retries_total").tag("outcome", "exhausted").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,65 @@
+package com.bytebites.notificationservice.service;
+
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatusCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID orderId = UUID.randomUUID();
+
+    @Test
+    void offer_ShouldHoldChangesAndReleaseTimelineOnTerminalStatus() {
+        OrderStatusCoalescer coalescer = coalescer(Duration.ofMinutes(2));
+
+        assertThat(coalescer.offer(change("evt-1", "PENDING", "CONFIRMED"))).isEmpty();
+        assertThat(coalescer.offer(change("evt-2", "CONFIRMED", "PREPARING"))).isEmpty();
+        assertThat(coalescer.offer(change("evt-2", "CONFIRMED", "PREPARING"))).isEmpty();
+        Optional<OrderStatusDigest> digest = coalescer.offer(change("evt-3", "PREPARING", "CANCELLED"));
+
+        assertThat(digest).hasValueSatisfying(value -> {
+            assertThat(value.timeline()).extracting(OrderStatusChangedEvent::newStatus)
+                    .containsExactly("CONFIRMED", "PREPARING", "CANCELLED");
+            assertThat(value.eventIds()).containsExactlyInAnyOrder("evt-1", "evt-2", "evt-3");
+        });
+        assertThat(coalescer.pendingOrders()).isZero();
+        assertThat(meterRegistry.get("order_status_notifications_coalesced_total").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void pollExpired_ShouldEmitLatestStatusOnceWindowCloses() throws InterruptedException {
+        OrderStatusCoalescer coalescer = coalescer(Duration.ofMillis(50));
+        coalescer.offer(change("evt-1", "PENDING", "CONFIRMED"));
+        coalescer.offer(change("evt-2", "CONFIRMED", "READY"));
+
+        assertThat(coalescer.pollExpired()).isEmpty();
+        Thread.sleep(120);
+        List<OrderStatusDigest> expired = coalescer.pollExpired();
+
+        assertThat(expired).singleElement().satisfies(digest -> {
+            assertThat(digest.latest().newStatus()).isEqualTo("READY");
+            assertThat(digest.first().previousStatus()).isEqualTo("PENDING");
+        });
+        assertThat(coalescer.pendingOrders()).isZero();
+    }
+
+    private OrderStatusCoalescer coalescer(Duration window) {
+        return new OrderStatusCoalescer(meterRegistry, true, window, Duration.ofMillis(10),
+                List.of("DELIVERED", "CANCELLED"), true, 1000);
+    }
+
+    private OrderStatusChangedEvent change(String eventId, String previousStatus, String newStatus) {
+        return new OrderStatusChangedEvent(eventId, "OrderStatusChanged", LocalDateTime.now(), orderId,
+                UUID.randomUUID(), "customer@example.com", UUID.randomUUID(), "Pasta Place",
+                previousStatus, newStatus, UUID.randomUUID());
+    }
+}
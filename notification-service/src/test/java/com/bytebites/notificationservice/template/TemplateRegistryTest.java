@@ -0,0 +1,112 @@
+package com.bytebites.notificationservice.template;
+
+import com.bytebites.notificationservice.event.OrderStatusChangedEvent;
+import com.bytebites.notificationservice.service.OrderStatusDigest;
+import com.bytebites.notificationservice.service.TemplateService;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TemplateRegistryTest {
+
+    private final TemplateRegistry registry = new TemplateRegistry("classpath*:templates/test/", "en-US",
+            List.of("en-US", "fr-FR"), "USD");
+
+    @Test
+    void render_ShouldPickLocaleVariantAndFormatCurrencyPerLocale() {
+        Map<String, Object> model = Map.of("name", "Ada", "total", new BigDecimal("1234.5"), "status", "ready");
+        NumberFormat french = NumberFormat.getCurrencyInstance(Locale.FRANCE);
+        french.setCurrency(Currency.getInstance("USD"));
+
+        assertThat(registry.render("greeting.txt", model)).isEqualTo("Hello Ada, you owe $1,234.50. Ready!");
+        assertThat(registry.render("greeting.txt", Locale.FRANCE, model))
+                .isEqualTo("Bonjour Ada, vous devez " + french.format(new BigDecimal("1234.5")) + ". Prête !");
+        assertThat(registry.render("greeting.txt", Locale.GERMANY, Map.of("name", "Ada", "total", -3, "status", "LOST")))
+                .isEqualTo("Hello Ada, you owe -$3.00. Updated.");
+    }
+
+    @Test
+    void render_ShouldEscapeHtmlValuesAndHandleInvertedSections() {
+        assertThat(registry.render("receipt.html", Map.of("name", "<b>Tom & Jerry</b>", "items", List.of("a<b", "c"))))
+                .isEqualTo("<p>&lt;b&gt;Tom &amp; Jerry&lt;/b&gt;</p>\n<ul>\n<li>a&lt;b</li>\n<li>c</li>\n</ul>\n");
+        assertThat(registry.render("receipt.html", Map.of("name", "Empty", "items", List.of())))
+                .isEqualTo("<p>Empty</p>\n<ul>\n</ul>\n<p>No items</p>\n");
+    }
+
+    @Test
+    void reload_ShouldReportLineOfUnclosedSection() {
+        assertThatThrownBy(() -> new TemplateRegistry("classpath*:templates/broken/", "en-US", List.of(), "USD"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Template unclosed.txt line 2: Unclosed section: items");
+    }
+
+    @Test
+    void templateService_ShouldRenderStatusDigestTimeline() {
+        TemplateService templateService = new TemplateService(
+                new TemplateRegistry("classpath*:templates/notifications/", "en-US", List.of("en-US"), "USD"));
+        UUID orderId = UUID.fromString("3f2a9c1e-0000-4000-8000-000000000001");
+        OrderStatusDigest digest = new OrderStatusDigest(List.of(
+                statusChanged(orderId, "PENDING", "CONFIRMED", LocalDateTime.of(2025, 1, 1, 12, 5)),
+                statusChanged(orderId, "CONFIRMED", "PREPARING", null)), Set.of("evt-1", "evt-2"));
+
+        assertThat(templateService.generateOrderStatusDigestContent(digest)).isEqualTo("""
+                Dear Customer,
+
+                Your order status has been updated!
+
+                Order Details:
+                - Order ID: 3f2a9c1e-0000-4000-8000-000000000001
+                - Restaurant: Pizza Place
+                - Current Status: PREPARING
+
+                Status Timeline:
+                - 12:05 CONFIRMED
+                - --:-- PREPARING
+
+                Your order is currently being prepared. It should be ready soon!
+
+                Thank you for choosing ByteBites!
+                The ByteBites Team""");
+    }
+
+    @Test
+    void render_ShouldStayConsistentAcrossThreads() throws Exception {
+        Map<String, Object> model = Map.of("name", "Ada", "total", new BigDecimal("1234.5"), "status", "ready");
+        String expected = registry.render("greeting.txt", model);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Long>> mismatches = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                mismatches.add(executor.submit(() -> IntStream.range(0, 2_000)
+                        .filter(i -> !expected.equals(registry.render("greeting.txt", model)))
+                        .count()));
+            }
+            for (Future<Long> result : mismatches) {
+                assertThat(result.get()).isZero();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static OrderStatusChangedEvent statusChanged(UUID orderId, String previous, String next, LocalDateTime at) {
+        return new OrderStatusChangedEvent(UUID.randomUUID().toString(), "OrderStatusChanged", at, orderId,
+                UUID.randomUUID(), "customer@example.com", UUID.randomUUID(), "Pizza Place", previous, next, UUID.randomUUID());
+    }
+}
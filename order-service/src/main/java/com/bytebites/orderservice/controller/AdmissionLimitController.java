@@ -0,0 +1,47 @@
+package com.bytebites.orderservice.controller;
+
+import com.bytebites.orderservice.dto.AdmissionLimit;
+import com.bytebites.orderservice.service.RestaurantAdmissionLimiter;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/orders/admission/restaurants/{restaurantId}")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdmissionLimitController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionLimitController.class);
+
+    private final RestaurantAdmissionLimiter restaurantAdmissionLimiter;
+
+    public AdmissionLimitController(RestaurantAdmissionLimiter restaurantAdmissionLimiter) {
+        this.restaurantAdmissionLimiter = restaurantAdmissionLimiter;
+    }
+
+    @GetMapping
+    public ResponseEntity<AdmissionLimit> getLimit(@PathVariable UUID restaurantId) {
+        return ResponseEntity.ok(restaurantAdmissionLimiter.getLimit(restaurantId));
+    }
+
+    @PutMapping
+    public ResponseEntity<AdmissionLimit> updateLimit(
+            @PathVariable UUID restaurantId,
+            @Valid @RequestBody AdmissionLimit limit) {
+        logger.info("Update admission limit request for restaurant: {}", restaurantId);
+        restaurantAdmissionLimiter.updateLimit(restaurantId, limit);
+        return ResponseEntity.ok(limit);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> resetLimit(@PathVariable UUID restaurantId) {
+        logger.info("Reset admission limit request for restaurant: {}", restaurantId);
+        restaurantAdmissionLimiter.resetLimit(restaurantId);
+        return ResponseEntity.noContent().build();
+    }
+}
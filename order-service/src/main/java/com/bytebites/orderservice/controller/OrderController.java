@@ -1,9 +1,13 @@
 package com.bytebites.orderservice.controller;
 
 import com.bytebites.orderservice.dto.CreateOrderRequest;
+import com.bytebites.orderservice.dto.OrderQuoteResponse;
 import com.bytebites.orderservice.dto.OrderResponse;
+import com.bytebites.orderservice.dto.QuoteRequest;
 import com.bytebites.orderservice.dto.UpdateOrderStatusRequest;
+import com.bytebites.orderservice.service.OrderQuoteService;
 import com.bytebites.orderservice.service.OrderService;
+import com.bytebites.orderservice.service.RestaurantAdmissionLimiter;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,9 +28,15 @@ public class OrderController {
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
 
     private final OrderService orderService;
+    private final OrderQuoteService orderQuoteService;
+    private final RestaurantAdmissionLimiter restaurantAdmissionLimiter;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService,
+                           OrderQuoteService orderQuoteService,
+                           RestaurantAdmissionLimiter restaurantAdmissionLimiter) {
         this.orderService = orderService;
+        this.orderQuoteService = orderQuoteService;
+        this.restaurantAdmissionLimiter = restaurantAdmissionLimiter;
     }
 
     @PostMapping
@@ -34,8 +44,15 @@ public class OrderController {
             @Valid @RequestBody CreateOrderRequest request,
             @RequestHeader("X-User-Id") String userId) {
         logger.info("Create order request from customer: {}", userId);
-        OrderResponse response = orderService.createOrder(request, UUID.fromString(userId));
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        try (RestaurantAdmissionLimiter.Permit permit = restaurantAdmissionLimiter.admit(request.restaurantId())) {
+            OrderResponse response = orderService.createOrder(request, UUID.fromString(userId));
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+    }
+
+    @PostMapping("/quote")
+    public ResponseEntity<OrderQuoteResponse> quoteOrder(@Valid @RequestBody QuoteRequest request) {
+        return ResponseEntity.ok(orderQuoteService.quote(request));
     }
 
     @GetMapping
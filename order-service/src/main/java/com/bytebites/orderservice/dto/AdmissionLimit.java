@@ -0,0 +1,18 @@
+package com.bytebites.orderservice.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record AdmissionLimit(
+        @NotNull(message = "Rate per minute is required")
+        @Min(value = 1, message = "Rate per minute must be at least 1")
+        Integer ratePerMinute,
+
+        @NotNull(message = "Burst is required")
+        @Min(value = 1, message = "Burst must be at least 1")
+        Integer burst,
+
+        @NotNull(message = "Max concurrent is required")
+        @Min(value = 1, message = "Max concurrent must be at least 1")
+        Integer maxConcurrent
+) {}
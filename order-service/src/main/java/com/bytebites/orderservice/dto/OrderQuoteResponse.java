@@ -0,0 +1,14 @@
+package com.bytebites.orderservice.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public record OrderQuoteResponse(
+        UUID restaurantId,
+        String restaurantName,
+        List<QuoteLineResponse> items,
+        List<UnavailableItemResponse> unavailableItems,
+        BigDecimal totalAmount,
+        boolean orderable
+) {}
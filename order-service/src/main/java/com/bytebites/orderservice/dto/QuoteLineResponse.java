@@ -0,0 +1,12 @@
+package com.bytebites.orderservice.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record QuoteLineResponse(
+        UUID menuItemId,
+        String menuItemName,
+        BigDecimal unitPrice,
+        Integer quantity,
+        BigDecimal subtotal
+) {}
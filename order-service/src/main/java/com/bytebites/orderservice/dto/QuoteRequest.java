@@ -0,0 +1,17 @@
+package com.bytebites.orderservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record QuoteRequest(
+        @NotNull(message = "Restaurant ID is required")
+        UUID restaurantId,
+
+        @NotEmpty(message = "Quote must contain at least one item")
+        @Valid
+        List<OrderItemRequest> items
+) {}
@@ -0,0 +1,8 @@
+package com.bytebites.orderservice.dto;
+
+import java.util.UUID;
+
+public record UnavailableItemResponse(
+        UUID menuItemId,
+        String reason
+) {}
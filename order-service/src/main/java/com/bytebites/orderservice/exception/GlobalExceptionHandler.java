@@ -2,6 +2,7 @@ package com.bytebites.orderservice.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -55,6 +56,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(MenuUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleMenuUnavailable(MenuUnavailableException e) {
+        logger.warn("Menu unavailable: {}", e.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Menu unavailable",
+                e.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    @ExceptionHandler(OrderAdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleOrderAdmissionRejected(OrderAdmissionRejectedException e) {
+        logger.warn("Order admission rejected: {}", e.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too many orders",
+                e.getMessage(),
+                LocalDateTime.now()
+        );
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(error);
+    }
+
     @ExceptionHandler(UnauthorizedOperationException.class)
     public ResponseEntity<ErrorResponse> handleUnauthorizedOperation(UnauthorizedOperationException e) {
         logger.error("Unauthorized operation: {}", e.getMessage());
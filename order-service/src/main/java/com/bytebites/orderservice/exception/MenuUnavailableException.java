@@ -0,0 +1,7 @@
+package com.bytebites.orderservice.exception;
+
+public class MenuUnavailableException extends RuntimeException {
+    public MenuUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bytebites.orderservice.exception;
+
+import java.time.Duration;
+
+public class OrderAdmissionRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public OrderAdmissionRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -32,6 +32,7 @@ public abstract class OrderMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "confirmedAt", ignore = true)
     @Mapping(target = "deliveredAt", ignore = true)
+    @Mapping(target = "statusChangedAt", ignore = true)
     public abstract Order toEntity(CreateOrderRequest request, UUID customerId);
 
     @Mapping(target = "customerName", expression = "java(\"Customer\")")
@@ -62,6 +63,13 @@ public abstract class OrderMapper {
     @Mapping(target = "createdAt", ignore = true)
     public abstract OrderItem toOrderItem(OrderItemRequest request, Order order);
 
+    @Mapping(target = "menuItemId", source = "request.menuItemId")
+    @Mapping(target = "menuItemName", source = "menuItem.name")
+    @Mapping(target = "unitPrice", source = "menuItem.price")
+    @Mapping(target = "quantity", source = "request.quantity")
+    @Mapping(target = "subtotal", expression = "java(calculateSubtotal(menuItem.price(), request.quantity()))")
+    public abstract QuoteLineResponse toQuoteLine(OrderItemRequest request, MenuItemInfo menuItem);
+
     public abstract OrderItemResponse toOrderItemResponse(OrderItem orderItem);
 
     public abstract List<OrderItemResponse> toOrderItemResponseList(List<OrderItem> orderItems);
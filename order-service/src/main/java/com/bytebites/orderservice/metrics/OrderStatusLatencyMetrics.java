@@ -0,0 +1,84 @@
+package com.bytebites.orderservice.metrics;
+
+import com.bytebites.orderservice.enums.OrderStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class OrderStatusLatencyMetrics {
+
+    static final String OTHER_RESTAURANTS = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxTrackedRestaurants;
+    private final ConcurrentMap<TransitionKey, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<RestaurantTransitionKey, Timer> restaurantTimers = new ConcurrentHashMap<>();
+    private final Set<UUID> trackedRestaurants = ConcurrentHashMap.newKeySet();
+
+    public OrderStatusLatencyMetrics(MeterRegistry meterRegistry,
+                                     @Value("${bytebites.orders.metrics.max-tracked-restaurants:200}") int maxTrackedRestaurants) {
+        this.meterRegistry = meterRegistry;
+        this.maxTrackedRestaurants = maxTrackedRestaurants;
+    }
+
+    public void recordTimeInStatus(UUID restaurantId, OrderStatus fromStatus, OrderStatus toStatus, Duration timeInStatus) {
+        if (timeInStatus.isNegative()) {
+            return;
+        }
+        timers.computeIfAbsent(new TransitionKey(fromStatus, toStatus), this::registerTimer)
+                .record(timeInStatus);
+        restaurantTimers.computeIfAbsent(new RestaurantTransitionKey(restaurantTag(restaurantId), fromStatus, toStatus),
+                        this::registerRestaurantTimer)
+                .record(timeInStatus);
+    }
+
+    // Only the first maxTrackedRestaurants restaurants get their own series; the rest share "other".
+    private String restaurantTag(UUID restaurantId) {
+        if (restaurantId == null) {
+            return OTHER_RESTAURANTS;
+        }
+        if (trackedRestaurants.contains(restaurantId)) {
+            return restaurantId.toString();
+        }
+        synchronized (trackedRestaurants) {
+            if (trackedRestaurants.size() < maxTrackedRestaurants) {
+                trackedRestaurants.add(restaurantId);
+                return restaurantId.toString();
+            }
+        }
+        return OTHER_RESTAURANTS;
+    }
+
+    private Timer registerTimer(TransitionKey key) {
+        return Timer.builder("order_status_time_in_state")
+                .description("Time an order spent in a status before moving to the next one")
+                .tag("from", key.fromStatus().name())
+                .tag("to", key.toStatus().name())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofSeconds(1))
+                .maximumExpectedValue(Duration.ofHours(6))
+                .register(meterRegistry);
+    }
+
+    // Count, total and max only: no histogram buckets, so each restaurant costs a handful of series.
+    private Timer registerRestaurantTimer(RestaurantTransitionKey key) {
+        return Timer.builder("order_status_time_in_state_by_restaurant")
+                .description("Per-restaurant time an order spent in a status before moving to the next one")
+                .tag("restaurant", key.restaurant())
+                .tag("from", key.fromStatus().name())
+                .tag("to", key.toStatus().name())
+                .register(meterRegistry);
+    }
+
+    private record TransitionKey(OrderStatus fromStatus, OrderStatus toStatus) {}
+
+    private record RestaurantTransitionKey(String restaurant, OrderStatus fromStatus, OrderStatus toStatus) {}
+}
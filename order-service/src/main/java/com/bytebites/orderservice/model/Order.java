@@ -60,6 +60,9 @@ public class Order {
     @Column(name = "delivered_at")
     private LocalDateTime deliveredAt;
 
+    @Column(name = "status_changed_at", nullable = false)
+    private LocalDateTime statusChangedAt = LocalDateTime.now();
+
     
     public Order() {}
 
@@ -113,6 +116,9 @@ public class Order {
     public LocalDateTime getDeliveredAt() { return deliveredAt; }
     public void setDeliveredAt(LocalDateTime deliveredAt) { this.deliveredAt = deliveredAt; }
 
+    public LocalDateTime getStatusChangedAt() { return statusChangedAt; }
+    public void setStatusChangedAt(LocalDateTime statusChangedAt) { this.statusChangedAt = statusChangedAt; }
+
     
     public void addOrderItem(OrderItem orderItem) {
         orderItems.add(orderItem);
@@ -0,0 +1,79 @@
+package com.bytebites.orderservice.model;
+
+import com.bytebites.orderservice.enums.OrderStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "order_status_history")
+public class OrderStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private UUID orderId;
+
+    @Column(name = "restaurant_id", nullable = false, updatable = false)
+    private UUID restaurantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", updatable = false)
+    private OrderStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "new_status", nullable = false, updatable = false)
+    private OrderStatus newStatus;
+
+    @Column(name = "changed_by", updatable = false)
+    private UUID changedBy;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    @Column(name = "time_in_previous_status_ms", updatable = false)
+    private Long timeInPreviousStatusMs;
+
+
+    public OrderStatusHistory() {}
+
+    public OrderStatusHistory(UUID orderId, UUID restaurantId, OrderStatus previousStatus,
+                              OrderStatus newStatus, UUID changedBy, LocalDateTime changedAt,
+                              Long timeInPreviousStatusMs) {
+        this.orderId = orderId;
+        this.restaurantId = restaurantId;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.changedBy = changedBy;
+        this.changedAt = changedAt;
+        this.timeInPreviousStatusMs = timeInPreviousStatusMs;
+    }
+
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public UUID getOrderId() { return orderId; }
+    public void setOrderId(UUID orderId) { this.orderId = orderId; }
+
+    public UUID getRestaurantId() { return restaurantId; }
+    public void setRestaurantId(UUID restaurantId) { this.restaurantId = restaurantId; }
+
+    public OrderStatus getPreviousStatus() { return previousStatus; }
+    public void setPreviousStatus(OrderStatus previousStatus) { this.previousStatus = previousStatus; }
+
+    public OrderStatus getNewStatus() { return newStatus; }
+    public void setNewStatus(OrderStatus newStatus) { this.newStatus = newStatus; }
+
+    public UUID getChangedBy() { return changedBy; }
+    public void setChangedBy(UUID changedBy) { this.changedBy = changedBy; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+
+    public Long getTimeInPreviousStatusMs() { return timeInPreviousStatusMs; }
+    public void setTimeInPreviousStatusMs(Long timeInPreviousStatusMs) { this.timeInPreviousStatusMs = timeInPreviousStatusMs; }
+}
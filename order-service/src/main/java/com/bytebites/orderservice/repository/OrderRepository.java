@@ -4,7 +4,10 @@ import com.bytebites.orderservice.enums.OrderStatus;
 import com.bytebites.orderservice.model.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,9 +30,23 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
 
     List<Order> findByRestaurantIdAndStatus(UUID restaurantId, OrderStatus status);
 
+    List<StatusSince> findByStatus(OrderStatus status);
+
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id = :id")
     Optional<Order> findByIdWithItems(@Param("id") UUID id);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :newStatus, o.statusChangedAt = :changedAt, o.updatedAt = :changedAt " +
+           "WHERE o.id = :id AND o.status = :expectedStatus")
+    int updateStatusIfCurrent(@Param("id") UUID id,
+                              @Param("expectedStatus") OrderStatus expectedStatus,
+                              @Param("newStatus") OrderStatus newStatus,
+                              @Param("changedAt") LocalDateTime changedAt);
+
     @Query("SELECT o FROM Order o WHERE o.customerId = :customerId AND o.id = :id")
     Optional<Order> findByIdAndCustomerId(@Param("id") UUID id, @Param("customerId") UUID customerId);
 
@@ -42,4 +59,9 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     @Query("SELECT o FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate")
     List<Order> findOrdersBetweenDates(@Param("startDate") LocalDateTime startDate,
                                        @Param("endDate") LocalDateTime endDate);
+
+    interface StatusSince {
+        UUID getId();
+        LocalDateTime getStatusChangedAt();
+    }
 }
@@ -0,0 +1,14 @@
+package com.bytebites.orderservice.repository;
+
+import com.bytebites.orderservice.model.OrderStatusHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderStatusHistoryRepository extends JpaRepository<OrderStatusHistory, UUID> {
+
+    List<OrderStatusHistory> findByOrderIdOrderByChangedAtAsc(UUID orderId);
+}
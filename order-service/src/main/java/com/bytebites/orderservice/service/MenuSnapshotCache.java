@@ -0,0 +1,132 @@
+package com.bytebites.orderservice.service;
+
+import com.bytebites.orderservice.dto.MenuItemInfo;
+import com.bytebites.orderservice.dto.RestaurantInfo;
+import com.bytebites.orderservice.exception.MenuUnavailableException;
+import com.bytebites.orderservice.exception.RestaurantValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class MenuSnapshotCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuSnapshotCache.class);
+
+    private final RestaurantServiceClient restaurantServiceClient;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public MenuSnapshotCache(RestaurantServiceClient restaurantServiceClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${bytebites.orders.quote.menu-cache-ttl:10s}") Duration ttl,
+                             @Value("${bytebites.orders.quote.menu-cache-max-entries:1000}") int maxEntries) {
+        this.restaurantServiceClient = restaurantServiceClient;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("order_quote_menu_cache_total")
+                .description("Menu snapshot lookups served by the quote cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("order_quote_menu_cache_total")
+                .description("Menu snapshot lookups served by the quote cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public MenuSnapshot get(UUID restaurantId) {
+        long now = System.nanoTime();
+        Entry current = entries.get(restaurantId);
+        if (current != null && current.isFresh(now)) {
+            hits.increment();
+            return await(current);
+        }
+
+        Entry loading = new Entry(new CompletableFuture<>(), now + ttlNanos);
+        Entry winner = entries.compute(restaurantId,
+                (id, existing) -> existing != null && existing.isFresh(now) ? existing : loading);
+        if (winner != loading) {
+            hits.increment();
+            return await(winner);
+        }
+
+        misses.increment();
+        evictIfFull(now);
+        try {
+            loading.snapshot().complete(load(restaurantId));
+        } catch (RuntimeException e) {
+            entries.remove(restaurantId, loading);
+            loading.snapshot().completeExceptionally(e);
+        }
+        return await(loading);
+    }
+
+    public void invalidate(UUID restaurantId) {
+        entries.remove(restaurantId);
+    }
+
+    // Only answers from restaurant-service itself are cached; while it is unreachable quotes fail fast
+    // instead of pricing against placeholder or replicated menus for a whole TTL.
+    private MenuSnapshot load(UUID restaurantId) {
+        logger.info("Loading menu snapshot for restaurant: {}", restaurantId);
+        try {
+            RestaurantInfo restaurant = restaurantServiceClient.fetchRestaurant(restaurantId);
+            Map<UUID, MenuItemInfo> menuItems = restaurantServiceClient.fetchMenuItems(restaurantId).stream()
+                    .collect(Collectors.toMap(MenuItemInfo::id, Function.identity(), (first, second) -> first));
+            return new MenuSnapshot(restaurant, menuItems);
+        } catch (RestaurantValidationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            logger.warn("Menu for restaurant: {} is unavailable: {}", restaurantId, e.getMessage());
+            throw new MenuUnavailableException("Menu for restaurant " + restaurantId
+                    + " is temporarily unavailable, try again shortly", e);
+        }
+    }
+
+    private void evictIfFull(long now) {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        entries.values().removeIf(entry -> !entry.isFresh(now));
+        var iterator = entries.keySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private MenuSnapshot await(Entry entry) {
+        try {
+            return entry.snapshot().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public record MenuSnapshot(RestaurantInfo restaurant, Map<UUID, MenuItemInfo> menuItems) {}
+
+    private record Entry(CompletableFuture<MenuSnapshot> snapshot, long expiresAtNanos) {
+        boolean isFresh(long now) {
+            return now - expiresAtNanos < 0;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.bytebites.orderservice.service;
+
+import com.bytebites.orderservice.dto.MenuItemInfo;
+import com.bytebites.orderservice.dto.OrderItemRequest;
+import com.bytebites.orderservice.dto.OrderQuoteResponse;
+import com.bytebites.orderservice.dto.QuoteLineResponse;
+import com.bytebites.orderservice.dto.QuoteRequest;
+import com.bytebites.orderservice.dto.UnavailableItemResponse;
+import com.bytebites.orderservice.mapper.OrderMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class OrderQuoteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderQuoteService.class);
+
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final OrderValidationService orderValidationService;
+    private final OrderMapper orderMapper;
+
+    public OrderQuoteService(MenuSnapshotCache menuSnapshotCache,
+                             OrderValidationService orderValidationService,
+                             OrderMapper orderMapper) {
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.orderValidationService = orderValidationService;
+        this.orderMapper = orderMapper;
+    }
+
+    public OrderQuoteResponse quote(QuoteRequest request) {
+        logger.debug("Quoting {} items for restaurant: {}", request.items().size(), request.restaurantId());
+
+        MenuSnapshotCache.MenuSnapshot snapshot = menuSnapshotCache.get(request.restaurantId());
+        orderValidationService.validateRestaurantIsActive(snapshot.restaurant());
+
+        List<QuoteLineResponse> lines = new ArrayList<>();
+        List<UnavailableItemResponse> unavailableItems = new ArrayList<>();
+        BigDecimal totalAmount = BigDecimal.ZERO;
+
+        for (OrderItemRequest item : request.items()) {
+            MenuItemInfo menuItem = snapshot.menuItems().get(item.menuItemId());
+            Optional<String> problem = orderValidationService.checkMenuItem(item, menuItem);
+            if (problem.isPresent()) {
+                unavailableItems.add(new UnavailableItemResponse(item.menuItemId(), problem.get()));
+                continue;
+            }
+            QuoteLineResponse line = orderMapper.toQuoteLine(item, menuItem);
+            lines.add(line);
+            totalAmount = totalAmount.add(line.subtotal());
+        }
+
+        return new OrderQuoteResponse(
+                request.restaurantId(),
+                snapshot.restaurant().name(),
+                lines,
+                unavailableItems,
+                totalAmount,
+                unavailableItems.isEmpty()
+        );
+    }
+}
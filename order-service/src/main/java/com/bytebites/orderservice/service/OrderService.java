@@ -33,17 +33,23 @@ public class OrderService {
     private final OrderValidationService orderValidationService;
     private final RestaurantServiceClient restaurantServiceClient;
     private final OrderEventPublisher orderEventPublisher;
+    private final OrderStatusTimelineRecorder orderStatusTimelineRecorder;
+    private final PendingOrderTimeouts pendingOrderTimeouts;
 
     public OrderService(OrderRepository orderRepository,
                         OrderMapper orderMapper,
                         OrderValidationService orderValidationService,
                         RestaurantServiceClient restaurantServiceClient,
-                        OrderEventPublisher orderEventPublisher) {
+                        OrderEventPublisher orderEventPublisher,
+                        OrderStatusTimelineRecorder orderStatusTimelineRecorder,
+                        PendingOrderTimeouts pendingOrderTimeouts) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
         this.orderValidationService = orderValidationService;
         this.restaurantServiceClient = restaurantServiceClient;
         this.orderEventPublisher = orderEventPublisher;
+        this.orderStatusTimelineRecorder = orderStatusTimelineRecorder;
+        this.pendingOrderTimeouts = pendingOrderTimeouts;
     }
 
     @PreAuthorize("hasRole('CUSTOMER')")
@@ -61,9 +67,12 @@ public class OrderService {
             OrderItem orderItem = orderMapper.toOrderItem(itemRequest, order);
             order.addOrderItem(orderItem);
         }
+        order.setStatusChangedAt(LocalDateTime.now());
 
         
         Order savedOrder = orderRepository.save(order);
+        orderStatusTimelineRecorder.recordTransition(savedOrder, null, null, customerId);
+        pendingOrderTimeouts.track(savedOrder);
 
         
         orderEventPublisher.publishOrderPlacedEvent(savedOrder);
@@ -136,24 +145,31 @@ public class OrderService {
     public OrderResponse updateOrderStatus(UUID orderId, UpdateOrderStatusRequest request, UUID userId) {
         logger.info("Updating order status: {} to {} by user: {}", orderId, request.status(), userId);
 
-        Order order = orderRepository.findByIdWithItems(orderId)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderId));
 
         
         OrderStatus previousStatus = order.getStatus();
+        LocalDateTime previousStatusChangedAt = order.getStatusChangedAt();
         orderValidationService.canUpdateOrderStatus(order, request.status(), userId);
 
         
+        LocalDateTime now = LocalDateTime.now();
         order.setStatus(request.status());
+        order.setStatusChangedAt(now);
 
         
         if (request.status() == OrderStatus.CONFIRMED) {
-            order.setConfirmedAt(LocalDateTime.now());
+            order.setConfirmedAt(now);
         } else if (request.status() == OrderStatus.DELIVERED) {
-            order.setDeliveredAt(LocalDateTime.now());
+            order.setDeliveredAt(now);
         }
 
         Order updatedOrder = orderRepository.save(order);
+        orderStatusTimelineRecorder.recordTransition(updatedOrder, previousStatus, previousStatusChangedAt, userId);
+        if (previousStatus == OrderStatus.PENDING) {
+            pendingOrderTimeouts.untrack(orderId);
+        }
 
         
         orderEventPublisher.publishOrderStatusChangedEvent(updatedOrder, previousStatus, userId);
@@ -165,7 +181,7 @@ public class OrderService {
     public void cancelOrder(UUID orderId, UUID userId) {
         logger.info("Cancelling order: {} by user: {}", orderId, userId);
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderId));
 
         
@@ -179,14 +195,46 @@ public class OrderService {
             throw new InvalidOrderStateException("Order cannot be cancelled in current state: " + order.getStatus());
         }
 
+        applyCancellation(order, userId);
+
+        logger.info("Order cancelled successfully: {}", orderId);
+    }
+
+    public boolean expirePendingOrder(UUID orderId) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || order.getStatus() != OrderStatus.PENDING) {
+            return false;
+        }
+
+        LocalDateTime previousStatusChangedAt = order.getStatusChangedAt();
+        LocalDateTime now = LocalDateTime.now();
+        if (orderRepository.updateStatusIfCurrent(orderId, OrderStatus.PENDING, OrderStatus.CANCELLED, now) != 1) {
+            logger.info("Order {} left PENDING before it could be auto-cancelled", orderId);
+            return false;
+        }
+
+        logger.info("Auto-cancelled order {} left PENDING since {}", orderId, previousStatusChangedAt);
+        order.setStatus(OrderStatus.CANCELLED);
+        order.setStatusChangedAt(now);
+        orderStatusTimelineRecorder.recordTransition(order, OrderStatus.PENDING, previousStatusChangedAt, null);
+        pendingOrderTimeouts.untrack(orderId);
+
+        
+        orderEventPublisher.publishOrderStatusChangedEvent(order, OrderStatus.PENDING, null);
+        return true;
+    }
+
+    private void applyCancellation(Order order, UUID changedBy) {
         OrderStatus previousStatus = order.getStatus();
+        LocalDateTime previousStatusChangedAt = order.getStatusChangedAt();
         order.setStatus(OrderStatus.CANCELLED);
+        order.setStatusChangedAt(LocalDateTime.now());
         orderRepository.save(order);
+        orderStatusTimelineRecorder.recordTransition(order, previousStatus, previousStatusChangedAt, changedBy);
+        pendingOrderTimeouts.untrack(order.getId());
 
         
-        orderEventPublisher.publishOrderStatusChangedEvent(order, previousStatus, userId);
-
-        logger.info("Order cancelled successfully: {}", orderId);
+        orderEventPublisher.publishOrderStatusChangedEvent(order, previousStatus, changedBy);
     }
 
     @Transactional(readOnly = true)
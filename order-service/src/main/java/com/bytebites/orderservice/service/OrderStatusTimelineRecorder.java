@@ -0,0 +1,54 @@
+package com.bytebites.orderservice.service;
+
+import com.bytebites.common.transaction.TransactionCallbacks;
+import com.bytebites.orderservice.enums.OrderStatus;
+import com.bytebites.orderservice.metrics.OrderStatusLatencyMetrics;
+import com.bytebites.orderservice.model.Order;
+import com.bytebites.orderservice.model.OrderStatusHistory;
+import com.bytebites.orderservice.repository.OrderStatusHistoryRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Component
+public class OrderStatusTimelineRecorder {
+
+    private final OrderStatusHistoryRepository orderStatusHistoryRepository;
+    private final OrderStatusLatencyMetrics orderStatusLatencyMetrics;
+
+    public OrderStatusTimelineRecorder(OrderStatusHistoryRepository orderStatusHistoryRepository,
+                                       OrderStatusLatencyMetrics orderStatusLatencyMetrics) {
+        this.orderStatusHistoryRepository = orderStatusHistoryRepository;
+        this.orderStatusLatencyMetrics = orderStatusLatencyMetrics;
+    }
+
+    // Written in the caller's transaction so a status change and its history row commit or roll back together.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Order order, OrderStatus previousStatus,
+                                 LocalDateTime previousStatusChangedAt, UUID changedBy) {
+        OrderStatus newStatus = order.getStatus();
+        LocalDateTime changedAt = order.getStatusChangedAt();
+        Duration timeInPreviousStatus = previousStatus != null && previousStatusChangedAt != null
+                ? Duration.between(previousStatusChangedAt, changedAt)
+                : null;
+
+        orderStatusHistoryRepository.save(new OrderStatusHistory(
+                order.getId(),
+                order.getRestaurantId(),
+                previousStatus,
+                newStatus,
+                changedBy,
+                changedAt,
+                timeInPreviousStatus != null ? timeInPreviousStatus.toMillis() : null
+        ));
+
+        if (timeInPreviousStatus != null) {
+            TransactionCallbacks.afterCommit(() -> orderStatusLatencyMetrics.recordTimeInStatus(
+                    order.getRestaurantId(), previousStatus, newStatus, timeInPreviousStatus));
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -35,9 +36,7 @@ public class OrderValidationService {
 
         
         RestaurantInfo restaurant = restaurantServiceClient.getRestaurant(request.restaurantId());
-        if (!"ACTIVE".equals(restaurant.status())) {
-            throw new RestaurantValidationException("Restaurant is not active: " + restaurant.id());
-        }
+        validateRestaurantIsActive(restaurant);
 
         
         validateMenuItems(request.restaurantId(), request.items());
@@ -60,22 +59,29 @@ public class OrderValidationService {
 
         
         for (OrderItemRequest item : items) {
-            MenuItemInfo menuItem = menuItemMap.get(item.menuItemId());
+            checkMenuItem(item, menuItemMap.get(item.menuItemId()))
+                    .ifPresent(problem -> {
+                        throw new RestaurantValidationException(problem);
+                    });
+        }
 
-            if (menuItem == null) {
-                throw new RestaurantValidationException(
-                        "Menu item not found: " + item.menuItemId()
-                );
-            }
+        logger.info("Menu items validation successful");
+    }
 
-            if (!menuItem.available()) {
-                throw new RestaurantValidationException(
-                        "Menu item is not available: " + menuItem.name()
-                );
-            }
+    public void validateRestaurantIsActive(RestaurantInfo restaurant) {
+        if (!"ACTIVE".equals(restaurant.status())) {
+            throw new RestaurantValidationException("Restaurant is not active: " + restaurant.id());
         }
+    }
 
-        logger.info("Menu items validation successful");
+    public Optional<String> checkMenuItem(OrderItemRequest item, MenuItemInfo menuItem) {
+        if (menuItem == null) {
+            return Optional.of("Menu item not found: " + item.menuItemId());
+        }
+        if (!menuItem.available()) {
+            return Optional.of("Menu item is not available: " + menuItem.name());
+        }
+        return Optional.empty();
     }
 
     public boolean canUpdateOrderStatus(Order order, OrderStatus newStatus, UUID userId) {
@@ -0,0 +1,58 @@
+package com.bytebites.orderservice.service;
+
+import com.bytebites.orderservice.enums.OrderStatus;
+import com.bytebites.orderservice.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class PendingOrderExpiryJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PendingOrderExpiryJob.class);
+
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final PendingOrderTimeouts pendingOrderTimeouts;
+    private final Counter expiredCounter;
+
+    public PendingOrderExpiryJob(OrderRepository orderRepository,
+                                 OrderService orderService,
+                                 PendingOrderTimeouts pendingOrderTimeouts,
+                                 MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.pendingOrderTimeouts = pendingOrderTimeouts;
+        this.expiredCounter = Counter.builder("orders_auto_cancelled")
+                .description("PENDING orders cancelled after their confirmation deadline passed")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildTimeouts() {
+        List<OrderRepository.StatusSince> pendingOrders = orderRepository.findByStatus(OrderStatus.PENDING);
+        pendingOrders.forEach(order -> pendingOrderTimeouts.schedule(order.getId(), order.getStatusChangedAt()));
+        logger.info("Scheduled auto-cancellation for {} pending orders", pendingOrders.size());
+    }
+
+    @Scheduled(fixedDelayString = "${bytebites.orders.pending-timeout-tick:1s}")
+    public void cancelExpiredOrders() {
+        for (UUID orderId : pendingOrderTimeouts.pollExpired()) {
+            try {
+                if (orderService.expirePendingOrder(orderId)) {
+                    expiredCounter.increment();
+                }
+            } catch (Exception e) {
+                logger.error("Failed to auto-cancel pending order: {}, error: {}", orderId, e.getMessage(), e);
+            }
+        }
+    }
+}
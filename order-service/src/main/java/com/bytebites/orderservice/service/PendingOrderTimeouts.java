@@ -0,0 +1,53 @@
+package com.bytebites.orderservice.service;
+
+import com.bytebites.common.timer.HierarchicalTimerWheel;
+import com.bytebites.common.transaction.TransactionCallbacks;
+import com.bytebites.orderservice.model.Order;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class PendingOrderTimeouts {
+
+    private final HierarchicalTimerWheel<UUID> timerWheel;
+    private final Duration pendingTimeout;
+
+    public PendingOrderTimeouts(MeterRegistry meterRegistry,
+                                @Value("${bytebites.orders.pending-timeout:15m}") Duration pendingTimeout,
+                                @Value("${bytebites.orders.pending-timeout-tick:1s}") Duration tick) {
+        this.timerWheel = new HierarchicalTimerWheel<>(tick, System.currentTimeMillis());
+        this.pendingTimeout = pendingTimeout;
+
+        Gauge.builder("orders_pending_timeouts", timerWheel, HierarchicalTimerWheel::size)
+                .description("PENDING orders with an outstanding auto-cancellation deadline")
+                .register(meterRegistry);
+    }
+
+    public void track(Order order) {
+        TransactionCallbacks.afterCommit(() -> schedule(order.getId(), order.getStatusChangedAt()));
+    }
+
+    public void untrack(UUID orderId) {
+        TransactionCallbacks.afterCommit(() -> timerWheel.cancel(orderId));
+    }
+
+    void schedule(UUID orderId, LocalDateTime pendingSince) {
+        long deadline = pendingSince.plus(pendingTimeout)
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+        timerWheel.schedule(orderId, deadline);
+    }
+
+    List<UUID> pollExpired() {
+        return timerWheel.advanceTo(System.currentTimeMillis());
+    }
+}
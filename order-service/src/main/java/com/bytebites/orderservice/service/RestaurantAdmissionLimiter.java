@@ -0,0 +1,207 @@
+package com.bytebites.orderservice.service;
+
+import com.bytebites.orderservice.dto.AdmissionLimit;
+import com.bytebites.orderservice.exception.OrderAdmissionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class RestaurantAdmissionLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantAdmissionLimiter.class);
+    private static final Duration CONCURRENCY_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final MeterRegistry meterRegistry;
+    private final AdmissionLimit defaultLimit;
+    private final int maxTrackedRestaurants;
+    private final ConcurrentMap<UUID, AdmissionLimit> overrides = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, RestaurantGate> gates = new ConcurrentHashMap<>();
+    private final RestaurantGate untrackedGate;
+
+    public RestaurantAdmissionLimiter(MeterRegistry meterRegistry,
+                                      Environment environment,
+                                      @Value("${bytebites.orders.admission.rate-per-minute:600}") int ratePerMinute,
+                                      @Value("${bytebites.orders.admission.burst:100}") int burst,
+                                      @Value("${bytebites.orders.admission.max-concurrent:50}") int maxConcurrent,
+                                      @Value("${bytebites.orders.admission.max-tracked-restaurants:10000}") int maxTrackedRestaurants) {
+        this.meterRegistry = meterRegistry;
+        this.defaultLimit = new AdmissionLimit(ratePerMinute, burst, maxConcurrent);
+        this.maxTrackedRestaurants = maxTrackedRestaurants;
+        this.overrides.putAll(Binder.get(environment)
+                .bind("bytebites.orders.admission.restaurants", Bindable.mapOf(UUID.class, AdmissionLimit.class))
+                .orElse(Map.of()));
+        this.untrackedGate = new RestaurantGate("untracked", defaultLimit);
+    }
+
+    public Permit admit(UUID restaurantId) {
+        RestaurantGate gate = gates.get(restaurantId);
+        if (gate == null) {
+            gate = trackedGate(restaurantId);
+        }
+        return gate.admit();
+    }
+
+    public AdmissionLimit getLimit(UUID restaurantId) {
+        return overrides.getOrDefault(restaurantId, defaultLimit);
+    }
+
+    public void updateLimit(UUID restaurantId, AdmissionLimit limit) {
+        logger.info("Updating admission limit for restaurant: {} to {}", restaurantId, limit);
+        overrides.put(restaurantId, limit);
+        RestaurantGate gate = gates.get(restaurantId);
+        if (gate != null) {
+            gate.reconfigure(limit);
+        }
+    }
+
+    public void resetLimit(UUID restaurantId) {
+        logger.info("Resetting admission limit for restaurant: {} to default", restaurantId);
+        overrides.remove(restaurantId);
+        RestaurantGate gate = gates.get(restaurantId);
+        if (gate != null) {
+            gate.reconfigure(defaultLimit);
+        }
+    }
+
+    int trackedRestaurants() {
+        return gates.size();
+    }
+
+    // Admission is decided locally; createOrder validates the restaurant afterwards. The map is bounded by
+    // evicting idle gates, and ids that still do not fit share one untracked gate until room frees up.
+    private RestaurantGate trackedGate(UUID restaurantId) {
+        if (gates.size() >= maxTrackedRestaurants) {
+            evictIdleGates();
+            if (gates.size() >= maxTrackedRestaurants) {
+                return untrackedGate;
+            }
+        }
+        return gates.computeIfAbsent(restaurantId, this::newGate);
+    }
+
+    private void evictIdleGates() {
+        long now = System.nanoTime();
+        int before = gates.size();
+        gates.values().removeIf(gate -> {
+            if (!gate.isIdle(now)) {
+                return false;
+            }
+            gate.unregister();
+            return true;
+        });
+        logger.debug("Evicted {} idle admission gates", before - gates.size());
+    }
+
+    private RestaurantGate newGate(UUID restaurantId) {
+        return new RestaurantGate(restaurantId.toString(), getLimit(restaurantId));
+    }
+
+    private Counter outcomeCounter(String restaurant, String outcome) {
+        return Counter.builder("order_admission_total")
+                .description("Order intake admission decisions per restaurant")
+                .tag("restaurant", restaurant)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final class RestaurantGate {
+
+        private final String restaurant;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Counter accepted;
+        private final Counter rejectedRate;
+        private final Counter rejectedConcurrency;
+
+        private volatile AdmissionLimit limit;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private RestaurantGate(String restaurant, AdmissionLimit limit) {
+            this.restaurant = restaurant;
+            this.limit = limit;
+            this.tokens = limit.burst();
+            this.lastRefillNanos = System.nanoTime();
+            this.accepted = outcomeCounter(restaurant, "accepted");
+            this.rejectedRate = outcomeCounter(restaurant, "rejected_rate");
+            this.rejectedConcurrency = outcomeCounter(restaurant, "rejected_concurrency");
+        }
+
+        private Permit admit() {
+            if (inFlight.incrementAndGet() > limit.maxConcurrent()) {
+                inFlight.decrementAndGet();
+                rejectedConcurrency.increment();
+                throw new OrderAdmissionRejectedException(
+                        "Restaurant " + restaurant + " is handling too many orders, try again shortly",
+                        CONCURRENCY_RETRY_AFTER);
+            }
+
+            long waitNanos = tryTakeToken();
+            if (waitNanos > 0) {
+                inFlight.decrementAndGet();
+                rejectedRate.increment();
+                throw new OrderAdmissionRejectedException(
+                        "Restaurant " + restaurant + " is receiving too many orders, try again shortly",
+                        Duration.ofNanos(waitNanos));
+            }
+
+            accepted.increment();
+            AtomicBoolean released = new AtomicBoolean();
+            return () -> {
+                if (released.compareAndSet(false, true)) {
+                    inFlight.decrementAndGet();
+                }
+            };
+        }
+
+        private synchronized long tryTakeToken() {
+            long now = System.nanoTime();
+            double tokensPerNano = limit.ratePerMinute() / (double) TimeUnit.MINUTES.toNanos(1);
+            tokens = Math.min(limit.burst(), tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        // Idle once nothing is in flight and the bucket has refilled, so a recreated gate starts in the same state.
+        private synchronized boolean isIdle(long now) {
+            double tokensPerNano = limit.ratePerMinute() / (double) TimeUnit.MINUTES.toNanos(1);
+            return inFlight.get() == 0 && tokens + (now - lastRefillNanos) * tokensPerNano >= limit.burst();
+        }
+
+        private void unregister() {
+            meterRegistry.remove(accepted);
+            meterRegistry.remove(rejectedRate);
+            meterRegistry.remove(rejectedConcurrency);
+        }
+
+        private synchronized void reconfigure(AdmissionLimit newLimit) {
+            limit = newLimit;
+            tokens = Math.min(tokens, newLimit.burst());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.bytebites.orderservice.service;
 
+import com.bytebites.common.replica.RestaurantReplica;
+import com.bytebites.common.replica.RestaurantSnapshot;
 import com.bytebites.orderservice.dto.MenuItemInfo;
 import com.bytebites.orderservice.dto.RestaurantInfo;
 import com.bytebites.orderservice.exception.RestaurantValidationException;
@@ -13,10 +15,12 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -27,11 +31,14 @@ public class RestaurantServiceClient {
 
     private final RestTemplate restTemplate;
     private final String restaurantServiceUrl;
+    private final RestaurantReplica restaurantReplica;
 
     public RestaurantServiceClient(RestTemplate restTemplate,
-                                   @Value("${bytebites.services.restaurant.url}") String restaurantServiceUrl) {
+                                   @Value("${bytebites.services.restaurant.url}") String restaurantServiceUrl,
+                                   RestaurantReplica restaurantReplica) {
         this.restTemplate = restTemplate;
         this.restaurantServiceUrl = restaurantServiceUrl;
+        this.restaurantReplica = restaurantReplica;
     }
 
     @CircuitBreaker(name = "restaurant-service", fallbackMethod = "fallbackGetRestaurant")
@@ -74,17 +81,9 @@ public class RestaurantServiceClient {
         logger.info("Fetching menu items for restaurant: {} with circuit breaker", restaurantId);
 
         try {
-            String url = restaurantServiceUrl + "/api/restaurants/" + restaurantId + "/menu";
-            ResponseEntity<List<MenuItemInfo>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<List<MenuItemInfo>>() {}
-            );
-
-            List<MenuItemInfo> menuItems = response.getBody();
-            logger.info("Successfully fetched {} menu items", menuItems != null ? menuItems.size() : 0);
-            return menuItems != null ? menuItems : List.of();
+            List<MenuItemInfo> menuItems = requestMenuItems(restaurantId);
+            logger.info("Successfully fetched {} menu items", menuItems.size());
+            return menuItems;
 
         } catch (Exception e) {
             logger.error("Failed to fetch menu items for restaurant: {}, error: {}", restaurantId, e.getMessage());
@@ -92,6 +91,31 @@ public class RestaurantServiceClient {
         }
     }
 
+    // The fetch* methods have no fallback, so callers that cache the answer never store a replicated or
+    // placeholder menu; restaurant-service failures surface to them instead.
+    @CircuitBreaker(name = "restaurant-menu")
+    public RestaurantInfo fetchRestaurant(UUID restaurantId) {
+        try {
+            RestaurantInfo restaurant = restTemplate.getForObject(
+                    restaurantServiceUrl + "/api/restaurants/" + restaurantId, RestaurantInfo.class);
+            if (restaurant == null) {
+                throw new RestaurantValidationException("Restaurant not found: " + restaurantId);
+            }
+            return restaurant;
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new RestaurantValidationException("Restaurant not found: " + restaurantId);
+        }
+    }
+
+    @CircuitBreaker(name = "restaurant-menu")
+    public List<MenuItemInfo> fetchMenuItems(UUID restaurantId) {
+        try {
+            return requestMenuItems(restaurantId);
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new RestaurantValidationException("Restaurant not found: " + restaurantId);
+        }
+    }
+
     @CircuitBreaker(name = "restaurant-menu-item", fallbackMethod = "fallbackGetMenuItem")
     @Retry(name = "restaurant-menu-item")
     public MenuItemInfo getMenuItem(UUID restaurantId, UUID menuItemId) {
@@ -115,9 +139,27 @@ public class RestaurantServiceClient {
         }
     }
 
+    private List<MenuItemInfo> requestMenuItems(UUID restaurantId) {
+        String url = restaurantServiceUrl + "/api/restaurants/" + restaurantId + "/menu";
+        ResponseEntity<List<MenuItemInfo>> response = restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<MenuItemInfo>>() {}
+        );
+        return response.getBody() != null ? response.getBody() : List.of();
+    }
+
+    // The snapshot replica is only consulted once restaurant-service is unreachable: its topic can trail the
+    // database, so prices and availability come from the owning service whenever it answers.
     public RestaurantInfo fallbackGetRestaurant(UUID restaurantId, Exception ex) {
         logger.warn("Using fallback for restaurant: {}, reason: {}", restaurantId, ex.getMessage());
 
+        Optional<RestaurantSnapshot> snapshot = restaurantReplica.find(restaurantId);
+        if (snapshot.isPresent()) {
+            return toRestaurantInfo(snapshot.get());
+        }
+
         return new RestaurantInfo(
                 restaurantId,
                 "Not Available, try again later",
@@ -129,6 +171,13 @@ public class RestaurantServiceClient {
     public List<MenuItemInfo> fallbackGetMenuItems(UUID restaurantId, Exception ex) {
         logger.warn("Using fallback for menu items: {}, reason: {}", restaurantId, ex.getMessage());
 
+        Optional<RestaurantSnapshot> snapshot = restaurantReplica.find(restaurantId);
+        if (snapshot.isPresent()) {
+            return snapshot.get().menuItems() == null
+                    ? List.of()
+                    : snapshot.get().menuItems().stream().map(RestaurantServiceClient::toMenuItemInfo).toList();
+        }
+
         MenuItemInfo fallbackItem = new MenuItemInfo(
                 UUID.randomUUID(),
                 "Default Item",
@@ -143,6 +192,13 @@ public class RestaurantServiceClient {
         logger.warn("Using fallback for menu item: {} from restaurant: {}, reason: {}",
                 menuItemId, restaurantId, ex.getMessage());
 
+        Optional<MenuItemInfo> replicated = restaurantReplica.find(restaurantId)
+                .flatMap(snapshot -> snapshot.findMenuItem(menuItemId))
+                .map(RestaurantServiceClient::toMenuItemInfo);
+        if (replicated.isPresent()) {
+            return replicated.get();
+        }
+
         return new MenuItemInfo(
                 menuItemId,
                 "Default Item",
@@ -150,4 +206,12 @@ public class RestaurantServiceClient {
                 true
         );
     }
-}
\ No newline at end of file
+
+    private static RestaurantInfo toRestaurantInfo(RestaurantSnapshot snapshot) {
+        return new RestaurantInfo(snapshot.restaurantId(), snapshot.name(), snapshot.status(), snapshot.ownerId());
+    }
+
+    private static MenuItemInfo toMenuItemInfo(RestaurantSnapshot.MenuItem item) {
+        return new MenuItemInfo(item.menuItemId(), item.name(), item.price(), item.available());
+    }
+}
@@ -0,0 +1,17 @@
+ALTER TABLE orders ADD COLUMN status_changed_at TIMESTAMP;
+UPDATE orders SET status_changed_at = COALESCE(confirmed_at, updated_at, created_at);
+ALTER TABLE orders ALTER COLUMN status_changed_at SET NOT NULL;
+
+CREATE TABLE order_status_history (
+                                      id UUID PRIMARY KEY,
+                                      order_id UUID NOT NULL REFERENCES orders(id) ON DELETE CASCADE,
+                                      restaurant_id UUID NOT NULL,
+                                      previous_status VARCHAR(50),
+                                      new_status VARCHAR(50) NOT NULL,
+                                      changed_by UUID,
+                                      changed_at TIMESTAMP NOT NULL,
+                                      time_in_previous_status_ms BIGINT
+);
+
+CREATE INDEX idx_order_status_history_order_id ON order_status_history(order_id, changed_at);
+CREATE INDEX idx_order_status_history_restaurant_id ON order_status_history(restaurant_id, changed_at);
@@ -2,8 +2,12 @@ package com.bytebites.orderservice.controller;
 
 import com.bytebites.orderservice.dto.CreateOrderRequest;
 import com.bytebites.orderservice.dto.OrderItemRequest;
+import com.bytebites.orderservice.dto.OrderQuoteResponse;
 import com.bytebites.orderservice.dto.OrderResponse;
+import com.bytebites.orderservice.dto.QuoteRequest;
+import com.bytebites.orderservice.service.OrderQuoteService;
 import com.bytebites.orderservice.service.OrderService;
+import com.bytebites.orderservice.service.RestaurantAdmissionLimiter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -24,6 +29,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +41,12 @@ class OrderControllerTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private OrderQuoteService orderQuoteService;
+
+    @Mock
+    private RestaurantAdmissionLimiter restaurantAdmissionLimiter;
+
     @InjectMocks
     private OrderController orderController;
 
@@ -100,4 +112,27 @@ class OrderControllerTest {
                         .header("X-User-Id", USER_ID))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldQuoteOrder() throws Exception {
+        
+        UUID restaurantId = UUID.randomUUID();
+        QuoteRequest request = new QuoteRequest(
+                restaurantId,
+                List.of(new OrderItemRequest(UUID.randomUUID(), 2, null))
+        );
+
+        when(orderQuoteService.quote(any(QuoteRequest.class)))
+                .thenReturn(new OrderQuoteResponse(restaurantId, "Test Restaurant",
+                        List.of(), List.of(), BigDecimal.ZERO, true));
+
+        
+        mockMvc.perform(post("/api/orders/quote")
+                        .header("X-User-Id", USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderable").value(true));
+    }
+}
@@ -0,0 +1,103 @@
+package com.bytebites.orderservice.service;
+
+import com.bytebites.orderservice.dto.MenuItemInfo;
+import com.bytebites.orderservice.dto.OrderItemRequest;
+import com.bytebites.orderservice.dto.OrderQuoteResponse;
+import com.bytebites.orderservice.dto.QuoteRequest;
+import com.bytebites.orderservice.dto.RestaurantInfo;
+import com.bytebites.orderservice.exception.MenuUnavailableException;
+import com.bytebites.orderservice.exception.RestaurantValidationException;
+import com.bytebites.orderservice.mapper.OrderMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderQuoteServiceTest {
+
+    @Mock
+    private RestaurantServiceClient restaurantServiceClient;
+
+    private OrderQuoteService orderQuoteService;
+    private UUID restaurantId;
+    private MenuItemInfo burger;
+    private MenuItemInfo soldOut;
+
+    @BeforeEach
+    void setUp() {
+        MenuSnapshotCache cache = new MenuSnapshotCache(
+                restaurantServiceClient, new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+        orderQuoteService = new OrderQuoteService(
+                cache, new OrderValidationService(restaurantServiceClient), new OrderMapperImpl());
+
+        restaurantId = UUID.randomUUID();
+        burger = new MenuItemInfo(UUID.randomUUID(), "Burger", new BigDecimal("12.50"), true);
+        soldOut = new MenuItemInfo(UUID.randomUUID(), "Soup", new BigDecimal("6.00"), false);
+    }
+
+    @Test
+    void quote_ShouldPriceAvailableItemsAndListUnavailableOnes_FromCachedMenu() {
+        when(restaurantServiceClient.fetchRestaurant(restaurantId))
+                .thenReturn(new RestaurantInfo(restaurantId, "Test Restaurant", "ACTIVE", UUID.randomUUID()));
+        when(restaurantServiceClient.fetchMenuItems(restaurantId)).thenReturn(List.of(burger, soldOut));
+
+        UUID missingId = UUID.randomUUID();
+        QuoteRequest request = new QuoteRequest(restaurantId, List.of(
+                new OrderItemRequest(burger.id(), 2, null),
+                new OrderItemRequest(soldOut.id(), 1, null),
+                new OrderItemRequest(missingId, 1, null)));
+
+        OrderQuoteResponse first = orderQuoteService.quote(request);
+        OrderQuoteResponse second = orderQuoteService.quote(request);
+
+        assertThat(first.totalAmount()).isEqualByComparingTo("25.00");
+        assertThat(first.items()).singleElement()
+                .satisfies(line -> assertThat(line.subtotal()).isEqualByComparingTo("25.00"));
+        assertThat(first.unavailableItems()).extracting("menuItemId").containsExactly(soldOut.id(), missingId);
+        assertThat(first.orderable()).isFalse();
+        assertThat(second).isEqualTo(first);
+
+        verify(restaurantServiceClient, times(1)).fetchRestaurant(restaurantId);
+        verify(restaurantServiceClient, times(1)).fetchMenuItems(restaurantId);
+    }
+
+    @Test
+    void quote_ShouldRejectInactiveRestaurant() {
+        when(restaurantServiceClient.fetchRestaurant(restaurantId))
+                .thenReturn(new RestaurantInfo(restaurantId, "Closed", "INACTIVE", UUID.randomUUID()));
+        when(restaurantServiceClient.fetchMenuItems(restaurantId)).thenReturn(List.of(burger));
+
+        assertThatThrownBy(() -> orderQuoteService.quote(
+                new QuoteRequest(restaurantId, List.of(new OrderItemRequest(burger.id(), 1, null)))))
+                .isInstanceOf(RestaurantValidationException.class);
+    }
+
+    @Test
+    void quote_ShouldReportMenuUnavailable_AndNotCacheTheFailure() {
+        when(restaurantServiceClient.fetchRestaurant(restaurantId))
+                .thenThrow(new ResourceAccessException("Connection refused"))
+                .thenReturn(new RestaurantInfo(restaurantId, "Test Restaurant", "ACTIVE", UUID.randomUUID()));
+        when(restaurantServiceClient.fetchMenuItems(restaurantId)).thenReturn(List.of(burger));
+        QuoteRequest request = new QuoteRequest(restaurantId, List.of(new OrderItemRequest(burger.id(), 1, null)));
+
+        assertThatThrownBy(() -> orderQuoteService.quote(request)).isInstanceOf(MenuUnavailableException.class);
+
+        assertThat(orderQuoteService.quote(request).totalAmount()).isEqualByComparingTo("12.50");
+        verify(restaurantServiceClient, times(2)).fetchRestaurant(restaurantId);
+    }
+}
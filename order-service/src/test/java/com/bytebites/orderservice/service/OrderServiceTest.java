@@ -26,6 +26,10 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +50,12 @@ class OrderServiceTest {
     @Mock
     private OrderEventPublisher orderEventPublisher;
 
+    @Mock
+    private OrderStatusTimelineRecorder orderStatusTimelineRecorder;
+
+    @Mock
+    private PendingOrderTimeouts pendingOrderTimeouts;
+
     private OrderService orderService;
 
     private UUID customerId;
@@ -59,7 +69,7 @@ class OrderServiceTest {
         restaurantId = UUID.randomUUID();
         orderId = UUID.randomUUID();
         orderService = new OrderService(orderRepository, orderMapper, orderValidationService,
-                restaurantServiceClient,orderEventPublisher);
+                restaurantServiceClient,orderEventPublisher, orderStatusTimelineRecorder, pendingOrderTimeouts);
     }
 
 
@@ -107,7 +117,7 @@ class OrderServiceTest {
         UUID restaurantOwnerId = UUID.randomUUID();
         OrderResponse mockResponse = createMockOrderResponse();
 
-        when(orderRepository.findByIdWithItems(orderId)).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(mockOrder));
         when(orderValidationService.canUpdateOrderStatus(mockOrder, request.status(), restaurantOwnerId)).thenReturn(true);
         when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
         when(orderMapper.toResponse(mockOrder)).thenReturn(mockResponse);
@@ -135,6 +145,50 @@ class OrderServiceTest {
         assertEquals("Order not found: " + orderId, exception.getMessage());
     }
 
+    @Test
+    void shouldAutoCancelOrderStillPending() {
+        
+        Order mockOrder = createMockOrder();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.updateStatusIfCurrent(eq(orderId), eq(OrderStatus.PENDING), eq(OrderStatus.CANCELLED),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        
+        boolean expired = orderService.expirePendingOrder(orderId);
+
+        
+        assertTrue(expired);
+        assertEquals(OrderStatus.CANCELLED, mockOrder.getStatus());
+        verify(pendingOrderTimeouts).untrack(orderId);
+        verify(orderEventPublisher).publishOrderStatusChangedEvent(mockOrder, OrderStatus.PENDING, null);
+    }
+
+    @Test
+    void shouldSkipAutoCancelWhenOrderAlreadyConfirmed() {
+        
+        Order mockOrder = createMockOrder();
+        mockOrder.setStatus(OrderStatus.CONFIRMED);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(mockOrder));
+
+        
+        assertFalse(orderService.expirePendingOrder(orderId));
+        verifyNoInteractions(orderEventPublisher);
+    }
+
+    @Test
+    void shouldSkipAutoCancelWhenOrderConfirmedConcurrently() {
+        
+        Order mockOrder = createMockOrder();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.updateStatusIfCurrent(eq(orderId), eq(OrderStatus.PENDING), eq(OrderStatus.CANCELLED),
+                any(LocalDateTime.class))).thenReturn(0);
+
+        
+        assertFalse(orderService.expirePendingOrder(orderId));
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(orderEventPublisher, orderStatusTimelineRecorder);
+    }
+
     private Order createMockOrder() {
         Order order = new Order();
         order.setId(orderId);
@@ -0,0 +1,102 @@
+package com.bytebites.orderservice.service;
+
+import com.bytebites.orderservice.enums.OrderStatus;
+import com.bytebites.orderservice.metrics.OrderStatusLatencyMetrics;
+import com.bytebites.orderservice.model.Order;
+import com.bytebites.orderservice.model.OrderStatusHistory;
+import com.bytebites.orderservice.repository.OrderStatusHistoryRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatusTimelineRecorderTest {
+
+    @Mock
+    private OrderStatusHistoryRepository orderStatusHistoryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderStatusTimelineRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new OrderStatusTimelineRecorder(orderStatusHistoryRepository,
+                new OrderStatusLatencyMetrics(meterRegistry, 1));
+    }
+
+    @Test
+    void shouldWriteHistoryEntryForEachTransition() {
+        Order order = createOrder(OrderStatus.CONFIRMED);
+
+        recorder.recordTransition(order, null, null, order.getCustomerId());
+        recorder.recordTransition(order, OrderStatus.PENDING, order.getStatusChangedAt().minusMinutes(3), UUID.randomUUID());
+
+        ArgumentCaptor<OrderStatusHistory> captor = ArgumentCaptor.forClass(OrderStatusHistory.class);
+        verify(orderStatusHistoryRepository, times(2)).save(captor.capture());
+        assertNull(captor.getAllValues().get(0).getTimeInPreviousStatusMs());
+        assertEquals(OrderStatus.PENDING, captor.getAllValues().get(1).getPreviousStatus());
+        assertEquals(OrderStatus.CONFIRMED, captor.getAllValues().get(1).getNewStatus());
+        assertEquals(180_000L, captor.getAllValues().get(1).getTimeInPreviousStatusMs());
+    }
+
+    @Test
+    void shouldRecordTimeInStatusPerTransition() {
+        Order order = createOrder(OrderStatus.READY);
+
+        recorder.recordTransition(order, OrderStatus.PREPARING, order.getStatusChangedAt().minusMinutes(12), UUID.randomUUID());
+
+        Timer timer = meterRegistry.get("order_status_time_in_state")
+                .tag("from", "PREPARING")
+                .tag("to", "READY")
+                .timer();
+        assertEquals(1, timer.count());
+        assertEquals(12, timer.totalTime(TimeUnit.MINUTES), 0.001);
+        assertTrue(timer.getId().getTags().stream().noneMatch(tag -> tag.getKey().equals("restaurant")));
+
+        Timer restaurantTimer = meterRegistry.get("order_status_time_in_state_by_restaurant")
+                .tag("restaurant", order.getRestaurantId().toString())
+                .tag("from", "PREPARING")
+                .tag("to", "READY")
+                .timer();
+        assertEquals(1, restaurantTimer.count());
+    }
+
+    @Test
+    void shouldFoldRestaurantsBeyondLimitIntoOther() {
+        Order tracked = createOrder(OrderStatus.READY);
+        Order overflow = createOrder(OrderStatus.READY);
+
+        recorder.recordTransition(tracked, OrderStatus.PREPARING, tracked.getStatusChangedAt().minusMinutes(5), null);
+        recorder.recordTransition(overflow, OrderStatus.PREPARING, overflow.getStatusChangedAt().minusMinutes(7), null);
+
+        assertEquals(2, meterRegistry.find("order_status_time_in_state_by_restaurant").timers().size());
+        Timer other = meterRegistry.get("order_status_time_in_state_by_restaurant")
+                .tag("restaurant", "other")
+                .timer();
+        assertEquals(7, other.totalTime(TimeUnit.MINUTES), 0.001);
+    }
+
+    private Order createOrder(OrderStatus status) {
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setCustomerId(UUID.randomUUID());
+        order.setRestaurantId(UUID.randomUUID());
+        order.setStatus(status);
+        order.setStatusChangedAt(LocalDateTime.now());
+        return order;
+    }
+}
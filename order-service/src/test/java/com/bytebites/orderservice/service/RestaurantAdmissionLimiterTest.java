@@ -0,0 +1,107 @@
+package com.bytebites.orderservice.service;
+
+import com.bytebites.orderservice.dto.AdmissionLimit;
+import com.bytebites.orderservice.exception.OrderAdmissionRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestaurantAdmissionLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RestaurantAdmissionLimiter limiter;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new RestaurantAdmissionLimiter(meterRegistry, new MockEnvironment(), 60, 2, 5, 2);
+        restaurantId = UUID.randomUUID();
+    }
+
+    @Test
+    void admit_ShouldRejectWithRetryAfter_WhenBurstIsExhausted() {
+        limiter.admit(restaurantId).close();
+        limiter.admit(restaurantId).close();
+
+        assertThatThrownBy(() -> limiter.admit(restaurantId))
+                .isInstanceOf(OrderAdmissionRejectedException.class)
+                .satisfies(e -> assertThat(((OrderAdmissionRejectedException) e).getRetryAfter()).isPositive());
+
+        assertThat(counter("accepted")).isEqualTo(2);
+        assertThat(counter("rejected_rate")).isEqualTo(1);
+    }
+
+    @Test
+    void admit_ShouldRejectWhenConcurrencyLimitReached_AndReleaseOnClose() {
+        limiter.updateLimit(restaurantId, new AdmissionLimit(600, 10, 1));
+
+        RestaurantAdmissionLimiter.Permit permit = limiter.admit(restaurantId);
+        assertThatThrownBy(() -> limiter.admit(restaurantId))
+                .isInstanceOf(OrderAdmissionRejectedException.class);
+
+        permit.close();
+        permit.close();
+        limiter.admit(restaurantId).close();
+
+        assertThat(counter("rejected_concurrency")).isEqualTo(1);
+        assertThat(counter("accepted")).isEqualTo(2);
+    }
+
+    @Test
+    void updateLimit_ShouldApplyOnlyToThatRestaurant_UntilReset() {
+        AdmissionLimit custom = new AdmissionLimit(1200, 20, 10);
+        limiter.updateLimit(restaurantId, custom);
+
+        assertThat(limiter.getLimit(restaurantId)).isEqualTo(custom);
+        assertThat(limiter.getLimit(UUID.randomUUID())).isEqualTo(new AdmissionLimit(60, 2, 5));
+
+        limiter.resetLimit(restaurantId);
+        assertThat(limiter.getLimit(restaurantId)).isEqualTo(new AdmissionLimit(60, 2, 5));
+    }
+
+    @Test
+    void admit_ShouldShareUntrackedGate_WhenNoTrackedGateIsIdle() {
+        RestaurantAdmissionLimiter.Permit first = limiter.admit(restaurantId);
+        RestaurantAdmissionLimiter.Permit second = limiter.admit(UUID.randomUUID());
+        UUID overflow = UUID.randomUUID();
+
+        limiter.admit(overflow).close();
+
+        assertThat(limiter.trackedRestaurants()).isEqualTo(2);
+        assertThat(meterRegistry.find("order_admission_total").tag("restaurant", overflow.toString()).counters()).isEmpty();
+        assertThat(meterRegistry.get("order_admission_total").tag("restaurant", "untracked").tag("outcome", "accepted")
+                .counter().count()).isEqualTo(1);
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void admit_ShouldEvictIdleGates_WhenTrackingLimitReached() {
+        RestaurantAdmissionLimiter.Permit busy = limiter.admit(restaurantId);
+        UUID idle = UUID.randomUUID();
+        limiter.admit(idle).close();
+        limiter.updateLimit(idle, new AdmissionLimit(600, 1, 5));
+
+        limiter.admit(UUID.randomUUID()).close();
+
+        assertThat(limiter.trackedRestaurants()).isEqualTo(2);
+        assertThat(meterRegistry.find("order_admission_total").tag("restaurant", idle.toString()).counters()).isEmpty();
+        assertThat(counter("accepted")).isEqualTo(1);
+        busy.close();
+    }
+
+    private double counter(String outcome) {
+        return meterRegistry.get("order_admission_total")
+                .tag("restaurant", restaurantId.toString())
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
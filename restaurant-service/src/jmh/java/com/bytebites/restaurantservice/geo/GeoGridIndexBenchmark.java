@@ -0,0 +1,69 @@
+package com.bytebites.restaurantservice.geo;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Radius and nearest-k latency over 100k restaurants around Accra.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeoGridIndexBenchmark {
+
+    private static final int RESTAURANTS = 100_000;
+    private static final int POINTS = 1 << 12;
+    private static final double CENTER_LAT = 5.6037;
+    private static final double CENTER_LNG = -0.1870;
+    private static final double SPREAD_DEGREES = 0.4;
+
+    private GeoGridIndex index;
+    private GeoPoint[] points;
+    private int next;
+
+    @Setup
+    public void buildIndex() {
+        Random random = new Random(7);
+        index = new GeoGridIndex(0.02);
+        for (int i = 0; i < RESTAURANTS; i++) {
+            index.put(new RestaurantLocation(UUID.randomUUID(), "Restaurant " + i, "Address " + i,
+                    CENTER_LAT + (random.nextDouble() * 2 - 1) * SPREAD_DEGREES,
+                    CENTER_LNG + (random.nextDouble() * 2 - 1) * SPREAD_DEGREES,
+                    random.nextInt(10) == 0 ? RestaurantStatus.INACTIVE : RestaurantStatus.ACTIVE));
+        }
+        points = new GeoPoint[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = new GeoPoint(CENTER_LAT + (random.nextDouble() * 2 - 1) * SPREAD_DEGREES,
+                    CENTER_LNG + (random.nextDouble() * 2 - 1) * SPREAD_DEGREES);
+        }
+    }
+
+    @Benchmark
+    public List<NearbyHit> withinThreeKilometres() {
+        return index.withinRadius(nextPoint(), 3, 50);
+    }
+
+    @Benchmark
+    public List<NearbyHit> nearestTen() {
+        return index.nearest(nextPoint(), 10, 50);
+    }
+
+    private GeoPoint nextPoint() {
+        return points[next++ & (POINTS - 1)];
+    }
+}
@@ -0,0 +1,92 @@
+package com.bytebites.restaurantservice.search;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Search latency over 1M menu items; read p0.99 from the SampleTime output (target: under 20 ms).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MenuSearchIndexBenchmark {
+
+    private static final int RESTAURANTS = 20_000;
+    private static final int MENU_ITEMS = 1_000_000;
+    private static final int QUERIES = 1 << 12;
+
+    private static final String[] DISHES = {"pizza", "burger", "salad", "pasta", "curry", "taco", "burrito", "ramen",
+            "sushi", "noodles", "soup", "sandwich", "wrap", "kebab", "risotto", "lasagna", "dumplings", "pho",
+            "biryani", "paella", "steak", "wings", "nachos", "falafel", "shawarma", "omelette", "pancakes"};
+    private static final String[] INGREDIENTS = {"chicken", "beef", "lamb", "pork", "tofu", "prawn", "salmon",
+            "mushroom", "spinach", "cheese", "garlic", "chilli", "basil", "tomato", "avocado", "bacon", "egg",
+            "paneer", "chickpea", "pepperoni", "pineapple", "truffle", "pesto", "teriyaki", "coconut", "lemon"};
+    private static final String[] CATEGORIES = {"Mains", "Starters", "Sides", "Desserts", "Drinks", "Specials"};
+    private static final String[] QUERIES_TEXT = {"chicken pizza", "garlic", "marg", "chiken", "beef burg", "sushi",
+            "truffle pasta", "lamb biryani", "spinach", "paneer curry", "teriyaky", "coconut", "bac", "pho"};
+
+    private MenuSearchIndex index;
+    private SearchQuery[] queries;
+    private int next;
+
+    @Setup
+    public void buildIndex() {
+        Random random = new Random(42);
+        index = new MenuSearchIndex();
+
+        UUID[] restaurantIds = new UUID[RESTAURANTS];
+        for (int i = 0; i < RESTAURANTS; i++) {
+            restaurantIds[i] = UUID.randomUUID();
+            index.indexRestaurant(new RestaurantDocument(restaurantIds[i],
+                    pick(random, INGREDIENTS) + " " + pick(random, DISHES) + " House " + i,
+                    "Serving " + pick(random, DISHES) + " since " + (1950 + random.nextInt(70)),
+                    random.nextInt(10) == 0 ? RestaurantStatus.INACTIVE : RestaurantStatus.ACTIVE));
+        }
+        for (int i = 0; i < MENU_ITEMS; i++) {
+            index.indexMenuItem(new MenuItemDocument(UUID.randomUUID(), restaurantIds[random.nextInt(RESTAURANTS)],
+                    pick(random, INGREDIENTS) + " " + pick(random, DISHES),
+                    "With " + pick(random, INGREDIENTS) + " and " + pick(random, INGREDIENTS),
+                    pick(random, CATEGORIES),
+                    BigDecimal.valueOf(300 + random.nextInt(3000), 2),
+                    random.nextInt(5) != 0));
+        }
+
+        queries = new SearchQuery[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = randomQuery(random);
+        }
+    }
+
+    @Benchmark
+    public SearchResults search() {
+        return index.search(queries[next++ & (QUERIES - 1)]);
+    }
+
+    private static SearchQuery randomQuery(Random random) {
+        String text = pick(random, QUERIES_TEXT);
+        return switch (random.nextInt(3)) {
+            case 0 -> new SearchQuery(text, null, false, null, null, 20);
+            case 1 -> new SearchQuery(text, null, true, null, BigDecimal.valueOf(15), 20);
+            default -> new SearchQuery(text, pick(random, CATEGORIES), true, null, null, 20);
+        };
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,94 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Cost of serializing a 500-item menu per request against writing the pre-rendered payload.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MenuPayloadBenchmark {
+
+    private static final int MENU_ITEMS = 500;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private List<MenuItemResponse> menu;
+    private RenderedPayload rendered;
+    private ByteArrayOutputStream sink;
+
+    @Setup
+    public void render() {
+        menu = largeMenu();
+        rendered = new PayloadRenderer(objectMapper, 1024).render(menu);
+        sink = new ByteArrayOutputStream(rendered.json().length);
+    }
+
+    @Benchmark
+    public int serializePerRequest() throws IOException {
+        sink.reset();
+        if (gzip) {
+            try (GZIPOutputStream out = new GZIPOutputStream(sink)) {
+                objectMapper.writeValue(out, menu);
+            }
+        } else {
+            objectMapper.writeValue(sink, menu);
+        }
+        return sink.size();
+    }
+
+    @Benchmark
+    public int writeRendered() {
+        sink.reset();
+        sink.writeBytes(rendered.bytes(gzip));
+        return sink.size();
+    }
+
+    private static List<MenuItemResponse> largeMenu() {
+        String[] categories = {"Starters", "Mains", "Sides", "Desserts", "Drinks"};
+        List<MenuItemResponse> items = new ArrayList<>(MENU_ITEMS);
+        for (int i = 0; i < MENU_ITEMS; i++) {
+            items.add(new MenuItemResponse(
+                    UUID.randomUUID(),
+                    "Menu item " + i,
+                    "House special number " + i + " served with fresh pepper sauce, fried plantain and salad",
+                    BigDecimal.valueOf(500 + i, 2),
+                    categories[i % categories.length],
+                    i % 7 != 0,
+                    "https://cdn.bytebites.example/menu/" + i + ".jpg",
+                    LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i)));
+        }
+        return items;
+    }
+}
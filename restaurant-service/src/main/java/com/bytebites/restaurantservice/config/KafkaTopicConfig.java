@@ -0,0 +1,23 @@
+package com.bytebites.restaurantservice.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic restaurantSnapshotsTopic(@Value("${bytebites.kafka.topics.restaurant-snapshots}") String topic,
+                                             @Value("${bytebites.kafka.snapshots.partitions:6}") int partitions) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .compact()
+                .config(TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG, "60000")
+                .config(TopicConfig.SEGMENT_MS_CONFIG, "3600000")
+                .build();
+    }
+}
@@ -29,6 +29,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/restaurants").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/restaurants/nearby").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/search").permitAll()
                         .requestMatchers("/api/restaurants/*/menu").permitAll() 
                         .requestMatchers("/api/restaurants/*/menu/*").permitAll()
                         .requestMatchers("/api/restaurants/*/status").hasRole("ADMIN")
@@ -1,17 +1,32 @@
 package com.bytebites.restaurantservice.controller;
 
+import com.bytebites.restaurantservice.dto.AvailabilityRequest;
+import com.bytebites.restaurantservice.dto.AvailabilityUpdateResponse;
+import com.bytebites.restaurantservice.dto.BulkAvailabilityRequest;
 import com.bytebites.restaurantservice.dto.CreateMenuItemRequest;
+import com.bytebites.restaurantservice.dto.MenuImportResponse;
+import com.bytebites.restaurantservice.dto.MenuItemImportRow;
 import com.bytebites.restaurantservice.dto.MenuItemResponse;
 import com.bytebites.restaurantservice.dto.UpdateMenuItemRequest;
+import com.bytebites.restaurantservice.service.MenuAvailabilityIndex;
+import com.bytebites.restaurantservice.service.MenuCache;
+import com.bytebites.restaurantservice.service.MenuCsvParser;
 import com.bytebites.restaurantservice.service.MenuItemService;
+import com.bytebites.restaurantservice.service.MenuSnapshot;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -22,17 +37,48 @@ public class MenuItemController {
     private static final Logger logger = LoggerFactory.getLogger(MenuItemController.class);
 
     private final MenuItemService menuItemService;
-
-    public MenuItemController(MenuItemService menuItemService) {
+    private final MenuCache menuCache;
+    private final MenuAvailabilityIndex menuAvailabilityIndex;
+    private final CacheControl menuCacheControl;
+
+    public MenuItemController(MenuItemService menuItemService,
+                              MenuCache menuCache,
+                              MenuAvailabilityIndex menuAvailabilityIndex,
+                              @Value("${bytebites.menu.http-max-age:30s}") Duration menuMaxAge) {
         this.menuItemService = menuItemService;
+        this.menuCache = menuCache;
+        this.menuAvailabilityIndex = menuAvailabilityIndex;
+        this.menuCacheControl = CacheControl.maxAge(menuMaxAge).cachePublic().mustRevalidate();
     }
 
     @GetMapping
-    public ResponseEntity<List<MenuItemResponse>> getMenu(@PathVariable UUID restaurantId) {
+    public ResponseEntity<byte[]> getMenu(
+            @PathVariable UUID restaurantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         logger.info("Get menu request for restaurant: {}", restaurantId);
 
-        List<MenuItemResponse> menu = menuItemService.getMenuByRestaurantId(restaurantId);
-        return ResponseEntity.ok(menu);
+        MenuSnapshot menu = menuCache.get(restaurantId, menuItemService::loadMenuSnapshot);
+        boolean notModified = menu.matches(ifNoneMatch);
+        boolean gzipped = menu.body().servesGzip(acceptEncoding);
+        menuCache.recordResponse(notModified, gzipped);
+
+        if (notModified) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(menu.etag(gzipped))
+                    .cacheControl(menuCacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(menu.etag(gzipped))
+                .cacheControl(menuCacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(menu.body().bytes(gzipped));
     }
 
     @PostMapping
@@ -46,6 +92,55 @@ public class MenuItemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MenuImportResponse> importMenu(
+            @PathVariable UUID restaurantId,
+            @RequestBody List<MenuItemImportRow> rows,
+            @RequestHeader("X-User-Id") String userId) {
+        logger.info("Bulk menu import request for restaurant: {} from user: {}", restaurantId, userId);
+
+        return ResponseEntity.ok(menuItemService.importMenu(restaurantId, rows, UUID.fromString(userId)));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<MenuImportResponse> importMenuCsv(
+            @PathVariable UUID restaurantId,
+            @RequestBody String csv,
+            @RequestHeader("X-User-Id") String userId) {
+        logger.info("Bulk CSV menu import request for restaurant: {} from user: {}", restaurantId, userId);
+
+        List<MenuItemImportRow> rows = MenuCsvParser.parse(csv);
+        return ResponseEntity.ok(menuItemService.importMenu(restaurantId, rows, UUID.fromString(userId)));
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<Map<UUID, Boolean>> getAvailability(@PathVariable UUID restaurantId) {
+        logger.info("Get menu availability request for restaurant: {}", restaurantId);
+
+        return ResponseEntity.ok(menuAvailabilityIndex.availability(restaurantId));
+    }
+
+    @PatchMapping("/availability")
+    public ResponseEntity<AvailabilityUpdateResponse> updateAvailability(
+            @PathVariable UUID restaurantId,
+            @Valid @RequestBody BulkAvailabilityRequest request,
+            @RequestHeader("X-User-Id") String userId) {
+        logger.info("Bulk availability request for restaurant: {} from user: {}", restaurantId, userId);
+
+        return ResponseEntity.ok(menuItemService.updateAvailability(restaurantId, request.items(), UUID.fromString(userId)));
+    }
+
+    @PatchMapping("/{itemId}/availability")
+    public ResponseEntity<AvailabilityUpdateResponse> setAvailability(
+            @PathVariable UUID restaurantId,
+            @PathVariable UUID itemId,
+            @Valid @RequestBody AvailabilityRequest request,
+            @RequestHeader("X-User-Id") String userId) {
+        logger.info("Availability request for menu item: {} in restaurant: {} from user: {}", itemId, restaurantId, userId);
+
+        return ResponseEntity.ok(menuItemService.setAvailability(restaurantId, itemId, request.available(), UUID.fromString(userId)));
+    }
+
     @GetMapping("/{itemId}")
     public ResponseEntity<MenuItemResponse> getMenuItem(
             @PathVariable UUID restaurantId,
@@ -1,16 +1,24 @@
 package com.bytebites.restaurantservice.controller;
 
 import com.bytebites.restaurantservice.dto.CreateRestaurantRequest;
+import com.bytebites.restaurantservice.dto.NearbyRestaurantResponse;
 import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.dto.RestaurantSummaryPage;
 import com.bytebites.restaurantservice.dto.UpdateRestaurantRequest;
 
+import com.bytebites.restaurantservice.service.NearbyRestaurantService;
+import com.bytebites.restaurantservice.service.PayloadRenderer;
+import com.bytebites.restaurantservice.service.RenderedPayload;
+import com.bytebites.restaurantservice.service.RestaurantDetailCache;
 import com.bytebites.restaurantservice.service.RestaurantService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,10 +32,21 @@ public class RestaurantController {
 
     private static final Logger logger = LoggerFactory.getLogger(RestaurantController.class);
 
-    private final RestaurantService restaurantService;
+    private static final int MAX_NEARBY_LIMIT = 100;
 
-    public RestaurantController(RestaurantService restaurantService) {
+    private final RestaurantService restaurantService;
+    private final NearbyRestaurantService nearbyRestaurantService;
+    private final RestaurantDetailCache restaurantDetailCache;
+    private final PayloadRenderer payloadRenderer;
+
+    public RestaurantController(RestaurantService restaurantService,
+                                NearbyRestaurantService nearbyRestaurantService,
+                                RestaurantDetailCache restaurantDetailCache,
+                                PayloadRenderer payloadRenderer) {
         this.restaurantService = restaurantService;
+        this.nearbyRestaurantService = nearbyRestaurantService;
+        this.restaurantDetailCache = restaurantDetailCache;
+        this.payloadRenderer = payloadRenderer;
     }
 
     @PostMapping
@@ -41,10 +60,12 @@ public class RestaurantController {
     }
 
     @GetMapping
-    public ResponseEntity<List<RestaurantResponse>> getAllRestaurants() {
-        logger.info("Get all active restaurants request");
+    public ResponseEntity<RestaurantSummaryPage> getAllRestaurants(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("Get active restaurants request");
 
-        List<RestaurantResponse> restaurants = restaurantService.getAllActiveRestaurants();
+        RestaurantSummaryPage restaurants = restaurantService.getActiveRestaurantSummaries(cursor, size);
         return ResponseEntity.ok(restaurants);
     }
 
@@ -56,12 +77,36 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurants);
     }
 
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyRestaurantResponse>> getNearbyRestaurants(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lng") double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(defaultValue = "10") int limit) {
+        logger.debug("Get nearby restaurants request at: {}, {}", latitude, longitude);
+
+        List<NearbyRestaurantResponse> restaurants = nearbyRestaurantService.findNearby(
+                latitude, longitude, radiusKm, Math.clamp(limit, 1, MAX_NEARBY_LIMIT));
+        return ResponseEntity.ok(restaurants);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<RestaurantResponse> getRestaurantById(@PathVariable UUID id) {
+    public ResponseEntity<byte[]> getRestaurantById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         logger.info("Get restaurant by ID request: {}", id);
 
-        RestaurantResponse restaurant = restaurantService.getRestaurantById(id);
-        return ResponseEntity.ok(restaurant);
+        RenderedPayload restaurant = restaurantDetailCache.get(id,
+                key -> payloadRenderer.render(restaurantService.getRestaurantById(key)));
+        boolean gzipped = restaurant.servesGzip(acceptEncoding);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(restaurant.bytes(gzipped));
     }
 
     @GetMapping("/my")
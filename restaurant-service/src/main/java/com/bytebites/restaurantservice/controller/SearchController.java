@@ -0,0 +1,41 @@
+package com.bytebites.restaurantservice.controller;
+
+import com.bytebites.restaurantservice.dto.SearchResponse;
+import com.bytebites.restaurantservice.search.SearchQuery;
+import com.bytebites.restaurantservice.service.MenuSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SearchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchController.class);
+    private static final int MAX_LIMIT = 100;
+
+    private final MenuSearchService menuSearchService;
+
+    public SearchController(MenuSearchService menuSearchService) {
+        this.menuSearchService = menuSearchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam("q") String text,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "false") boolean availableOnly,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "20") int limit) {
+        logger.debug("Search request: {}", text);
+
+        SearchQuery query = new SearchQuery(text, category, availableOnly, minPrice, maxPrice,
+                Math.clamp(limit, 1, MAX_LIMIT));
+        return ResponseEntity.ok(menuSearchService.search(query));
+    }
+}
@@ -0,0 +1,8 @@
+package com.bytebites.restaurantservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record AvailabilityRequest(
+        @NotNull(message = "Availability is required")
+        Boolean available
+) {}
@@ -0,0 +1,10 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record AvailabilityUpdateResponse(
+        UUID restaurantId,
+        int changed,
+        List<UUID> unknownMenuItemIds
+) {}
@@ -0,0 +1,13 @@
+package com.bytebites.restaurantservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkAvailabilityRequest(
+        @NotEmpty(message = "At least one menu item is required")
+        @Size(max = 500, message = "At most 500 menu items can be updated at once")
+        List<@Valid MenuItemAvailability> items
+) {}
@@ -0,0 +1,7 @@
+package com.bytebites.restaurantservice.dto;
+
+public record MenuImportError(
+        int row,
+        String field,
+        String message
+) {}
@@ -0,0 +1,10 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.util.UUID;
+
+public record MenuImportResponse(
+        UUID restaurantId,
+        int created,
+        int updated,
+        int unchanged
+) {}
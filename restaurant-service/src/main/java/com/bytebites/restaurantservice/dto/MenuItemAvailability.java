@@ -0,0 +1,13 @@
+package com.bytebites.restaurantservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record MenuItemAvailability(
+        @NotNull(message = "Menu item ID is required")
+        UUID menuItemId,
+
+        @NotNull(message = "Availability is required")
+        Boolean available
+) {}
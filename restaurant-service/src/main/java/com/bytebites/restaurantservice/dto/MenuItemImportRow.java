@@ -0,0 +1,33 @@
+package com.bytebites.restaurantservice.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record MenuItemImportRow(
+        UUID id,
+
+        @NotBlank(message = "Menu item name is required")
+        @Size(max = 255, message = "Menu item name must be at most 255 characters")
+        String name,
+
+        @NotBlank(message = "Description is required")
+        String description,
+
+        @NotNull(message = "Price is required")
+        @DecimalMin(value = "0.0", message = "Price must be positive")
+        BigDecimal price,
+
+        @NotBlank(message = "Category is required")
+        @Size(max = 50, message = "Category must be at most 50 characters")
+        String category,
+
+        Boolean available,
+
+        @Size(max = 500, message = "Image URL must be at most 500 characters")
+        String imageUrl
+) {}
@@ -0,0 +1,15 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record MenuItemSearchHit(
+        UUID id,
+        UUID restaurantId,
+        String name,
+        String description,
+        String category,
+        BigDecimal price,
+        Boolean available,
+        double score
+) {}
@@ -0,0 +1,12 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.util.UUID;
+
+public record NearbyRestaurantResponse(
+        UUID id,
+        String name,
+        String address,
+        Double latitude,
+        Double longitude,
+        double distanceKm
+) {}
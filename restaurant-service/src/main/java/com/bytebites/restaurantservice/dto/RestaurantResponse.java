@@ -13,6 +13,8 @@ public record RestaurantResponse(
         String address,
         String phone,
         String email,
+        Double latitude,
+        Double longitude,
         RestaurantStatus status,
         String ownerName,
         LocalDateTime createdAt,
@@ -0,0 +1,10 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.util.UUID;
+
+public record RestaurantSearchHit(
+        UUID id,
+        String name,
+        String description,
+        double score
+) {}
@@ -0,0 +1,8 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.util.List;
+
+public record RestaurantSummaryPage(
+        List<RestaurantSummaryResponse> restaurants,
+        String nextCursor
+) {}
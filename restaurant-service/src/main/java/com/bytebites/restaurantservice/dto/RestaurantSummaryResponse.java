@@ -0,0 +1,15 @@
+package com.bytebites.restaurantservice.dto;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record RestaurantSummaryResponse(
+        UUID id,
+        String name,
+        String description,
+        String address,
+        RestaurantStatus status,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,8 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.util.List;
+
+public record SearchResponse(
+        List<RestaurantSearchHit> restaurants,
+        List<MenuItemSearchHit> menuItems
+) {}
@@ -0,0 +1,25 @@
+package com.bytebites.restaurantservice.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record MenuAvailabilityChangedEvent(
+        @JsonProperty("eventId") String eventId,
+        @JsonProperty("eventType") String eventType,
+        @JsonProperty("timestamp") LocalDateTime timestamp,
+        @JsonProperty("restaurantId") UUID restaurantId,
+        @JsonProperty("available") List<UUID> available,
+        @JsonProperty("unavailable") List<UUID> unavailable
+) {
+    public static MenuAvailabilityChangedEvent create(UUID restaurantId, List<UUID> available, List<UUID> unavailable) {
+        return new MenuAvailabilityChangedEvent(
+                UUID.randomUUID().toString(),
+                "MenuAvailabilityChanged",
+                LocalDateTime.now(),
+                restaurantId, List.copyOf(available), List.copyOf(unavailable)
+        );
+    }
+}
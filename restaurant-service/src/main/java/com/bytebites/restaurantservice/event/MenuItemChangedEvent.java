@@ -0,0 +1,33 @@
+package com.bytebites.restaurantservice.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record MenuItemChangedEvent(
+        @JsonProperty("eventId") String eventId,
+        @JsonProperty("eventType") String eventType,
+        @JsonProperty("timestamp") LocalDateTime timestamp,
+        @JsonProperty("restaurantId") UUID restaurantId,
+        @JsonProperty("menuItemId") UUID menuItemId,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("price") BigDecimal price,
+        @JsonProperty("category") String category,
+        @JsonProperty("available") Boolean available,
+        @JsonProperty("imageUrl") String imageUrl
+) {
+    public static MenuItemChangedEvent create(
+            UUID restaurantId, UUID menuItemId, String name, String description,
+            BigDecimal price, String category, Boolean available, String imageUrl) {
+        return new MenuItemChangedEvent(
+                UUID.randomUUID().toString(),
+                "MenuItemChanged",
+                LocalDateTime.now(),
+                restaurantId, menuItemId, name, description,
+                price, category, available, imageUrl
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.bytebites.restaurantservice.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record MenuItemDeletedEvent(
+        @JsonProperty("eventId") String eventId,
+        @JsonProperty("eventType") String eventType,
+        @JsonProperty("timestamp") LocalDateTime timestamp,
+        @JsonProperty("restaurantId") UUID restaurantId,
+        @JsonProperty("menuItemId") UUID menuItemId
+) {
+    public static MenuItemDeletedEvent create(UUID restaurantId, UUID menuItemId) {
+        return new MenuItemDeletedEvent(
+                UUID.randomUUID().toString(),
+                "MenuItemDeleted",
+                LocalDateTime.now(),
+                restaurantId, menuItemId
+        );
+    }
+}
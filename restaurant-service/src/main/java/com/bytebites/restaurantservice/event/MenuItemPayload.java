@@ -0,0 +1,16 @@
+package com.bytebites.restaurantservice.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record MenuItemPayload(
+        @JsonProperty("menuItemId") UUID menuItemId,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("price") BigDecimal price,
+        @JsonProperty("category") String category,
+        @JsonProperty("available") Boolean available,
+        @JsonProperty("imageUrl") String imageUrl
+) {}
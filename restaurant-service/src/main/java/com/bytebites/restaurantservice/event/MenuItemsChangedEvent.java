@@ -0,0 +1,24 @@
+package com.bytebites.restaurantservice.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record MenuItemsChangedEvent(
+        @JsonProperty("eventId") String eventId,
+        @JsonProperty("eventType") String eventType,
+        @JsonProperty("timestamp") LocalDateTime timestamp,
+        @JsonProperty("restaurantId") UUID restaurantId,
+        @JsonProperty("items") List<MenuItemPayload> items
+) {
+    public static MenuItemsChangedEvent create(UUID restaurantId, List<MenuItemPayload> items) {
+        return new MenuItemsChangedEvent(
+                UUID.randomUUID().toString(),
+                "MenuItemsChanged",
+                LocalDateTime.now(),
+                restaurantId, List.copyOf(items)
+        );
+    }
+}
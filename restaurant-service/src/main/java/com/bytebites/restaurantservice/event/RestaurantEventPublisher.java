@@ -1,5 +1,7 @@
 package com.bytebites.restaurantservice.event;
 
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+import com.bytebites.restaurantservice.model.MenuItem;
 import com.bytebites.restaurantservice.model.Restaurant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -7,7 +9,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 @Service
@@ -17,15 +25,22 @@ public class RestaurantEventPublisher {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final String restaurantEventsTopic;
+    private final String menuEventsTopic;
+    private final RestaurantSnapshotPublisher restaurantSnapshotPublisher;
 
     public RestaurantEventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
-                                    @Value("${bytebites.kafka.topics.restaurant-events}") String restaurantEventsTopic) {
+                                    @Value("${bytebites.kafka.topics.restaurant-events}") String restaurantEventsTopic,
+                                    @Value("${bytebites.kafka.topics.menu-events}") String menuEventsTopic,
+                                    RestaurantSnapshotPublisher restaurantSnapshotPublisher) {
         this.kafkaTemplate = kafkaTemplate;
         this.restaurantEventsTopic = restaurantEventsTopic;
+        this.menuEventsTopic = menuEventsTopic;
+        this.restaurantSnapshotPublisher = restaurantSnapshotPublisher;
     }
 
     public void publishRestaurantCreatedEvent(Restaurant restaurant) {
         logger.info("Publishing RestaurantCreatedEvent for restaurant: {}", restaurant.getId());
+        restaurantSnapshotPublisher.markDirty(restaurant.getId());
         
         try {
             RestaurantCreatedEvent event = RestaurantCreatedEvent.create(
@@ -59,4 +74,126 @@ public class RestaurantEventPublisher {
             throw new RuntimeException("Failed to publish RestaurantCreatedEvent", e);
         }
     }
+
+    public void publishMenuItemChanged(MenuItem menuItem) {
+        UUID restaurantId = menuItem.getRestaurant().getId();
+        enqueue(restaurantId, "menu-item:" + menuItem.getId(), MenuItemChangedEvent.create(
+                restaurantId,
+                menuItem.getId(),
+                menuItem.getName(),
+                menuItem.getDescription(),
+                menuItem.getPrice(),
+                menuItem.getCategory(),
+                menuItem.getAvailable(),
+                menuItem.getImageUrl()
+        ));
+    }
+
+    public void publishMenuItemsChanged(UUID restaurantId, List<MenuItem> menuItems) {
+        List<MenuItemPayload> items = menuItems.stream()
+                .map(item -> new MenuItemPayload(
+                        item.getId(),
+                        item.getName(),
+                        item.getDescription(),
+                        item.getPrice(),
+                        item.getCategory(),
+                        item.getAvailable(),
+                        item.getImageUrl()))
+                .toList();
+        enqueue(restaurantId, "menu-items:" + restaurantId, MenuItemsChangedEvent.create(restaurantId, items));
+    }
+
+    public void publishMenuAvailabilityChanged(UUID restaurantId, List<UUID> available, List<UUID> unavailable) {
+        enqueue(restaurantId, "menu-availability:" + restaurantId,
+                MenuAvailabilityChangedEvent.create(restaurantId, available, unavailable));
+    }
+
+    public void publishMenuItemDeleted(UUID restaurantId, UUID menuItemId) {
+        enqueue(restaurantId, "menu-item:" + menuItemId, MenuItemDeletedEvent.create(restaurantId, menuItemId));
+    }
+
+    public void publishRestaurantUpdated(Restaurant restaurant) {
+        enqueue(restaurant.getId(), "restaurant:" + restaurant.getId(), RestaurantUpdatedEvent.create(
+                restaurant.getId(),
+                restaurant.getOwnerId(),
+                restaurant.getName(),
+                restaurant.getDescription(),
+                restaurant.getAddress(),
+                restaurant.getPhone(),
+                restaurant.getEmail(),
+                restaurant.getLatitude(),
+                restaurant.getLongitude(),
+                restaurant.getStatus().toString()
+        ));
+    }
+
+    public void publishRestaurantStatusChanged(Restaurant restaurant, RestaurantStatus previousStatus) {
+        if (restaurant.getStatus() == previousStatus) {
+            return;
+        }
+        enqueue(restaurant.getId(), "restaurant-status:" + restaurant.getId(), RestaurantStatusChangedEvent.create(
+                restaurant.getId(),
+                previousStatus.toString(),
+                restaurant.getStatus().toString()
+        ));
+    }
+
+    private void enqueue(UUID restaurantId, String entityKey, Object event) {
+        restaurantSnapshotPublisher.markDirty(restaurantId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(restaurantId.toString(), event);
+            return;
+        }
+
+        ChangeBatch batch = (ChangeBatch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            batch = new ChangeBatch();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(batch);
+        }
+        batch.add(restaurantId.toString(), entityKey, event);
+    }
+
+    private void send(String partitionKey, Object event) {
+        CompletableFuture<SendResult<String, Object>> future =
+                kafkaTemplate.send(menuEventsTopic, partitionKey, event);
+
+        future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                logger.error("Failed to send {} for restaurant: {}, error: {}",
+                        event.getClass().getSimpleName(), partitionKey, ex.getMessage(), ex);
+            }
+        });
+    }
+
+    private record PendingEvent(String partitionKey, Object event) {}
+
+    private class ChangeBatch implements TransactionSynchronization {
+
+        private final Map<String, PendingEvent> events = new LinkedHashMap<>();
+
+        void add(String partitionKey, String entityKey, Object event) {
+            PendingEvent previous = events.remove(entityKey);
+            if (previous != null
+                    && previous.event() instanceof RestaurantStatusChangedEvent earlier
+                    && event instanceof RestaurantStatusChangedEvent later) {
+                if (earlier.previousStatus().equals(later.status())) {
+                    return;
+                }
+                event = RestaurantStatusChangedEvent.create(later.restaurantId(), earlier.previousStatus(), later.status());
+            }
+            events.put(entityKey, new PendingEvent(partitionKey, event));
+        }
+
+        @Override
+        public void afterCommit() {
+            logger.info("Publishing {} change events after commit", events.size());
+            events.values().forEach(pending -> send(pending.partitionKey(), pending.event()));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(RestaurantEventPublisher.this);
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package com.bytebites.restaurantservice.event;
+
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+public record RestaurantSnapshot(
+        @JsonProperty("restaurantId") UUID restaurantId,
+        @JsonProperty("ownerId") UUID ownerId,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("address") String address,
+        @JsonProperty("phone") String phone,
+        @JsonProperty("email") String email,
+        @JsonProperty("latitude") Double latitude,
+        @JsonProperty("longitude") Double longitude,
+        @JsonProperty("status") String status,
+        @JsonProperty("menuVersion") long menuVersion,
+        @JsonProperty("menuItems") List<MenuItemPayload> menuItems,
+        @JsonProperty("snapshotAt") LocalDateTime snapshotAt
+) {
+    public static RestaurantSnapshot of(Restaurant restaurant) {
+        List<MenuItemPayload> items = restaurant.getMenuItems().stream()
+                .sorted(Comparator.comparing(item -> item.getId().toString()))
+                .map(item -> new MenuItemPayload(
+                        item.getId(),
+                        item.getName(),
+                        item.getDescription(),
+                        item.getPrice(),
+                        item.getCategory(),
+                        item.getAvailable(),
+                        item.getImageUrl()))
+                .toList();
+        return new RestaurantSnapshot(
+                restaurant.getId(),
+                restaurant.getOwnerId(),
+                restaurant.getName(),
+                restaurant.getDescription(),
+                restaurant.getAddress(),
+                restaurant.getPhone(),
+                restaurant.getEmail(),
+                restaurant.getLatitude(),
+                restaurant.getLongitude(),
+                restaurant.getStatus().toString(),
+                restaurant.getMenuVersion(),
+                items,
+                LocalDateTime.now()
+        );
+    }
+}
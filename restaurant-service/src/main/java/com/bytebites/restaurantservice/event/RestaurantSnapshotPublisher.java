@@ -0,0 +1,154 @@
+package com.bytebites.restaurantservice.event;
+
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class RestaurantSnapshotPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantSnapshotPublisher.class);
+    private static final int LOAD_BATCH_SIZE = 200;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final RestaurantRepository restaurantRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final String snapshotsTopic;
+    private final boolean republishOnStartup;
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+    private final Counter published;
+    private final Counter failed;
+
+    public RestaurantSnapshotPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+                                       RestaurantRepository restaurantRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${bytebites.kafka.topics.restaurant-snapshots}") String snapshotsTopic,
+                                       @Value("${bytebites.kafka.snapshots.republish-on-startup:true}") boolean republishOnStartup) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.restaurantRepository = restaurantRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.snapshotsTopic = snapshotsTopic;
+        this.republishOnStartup = republishOnStartup;
+        this.published = Counter.builder("restaurant_snapshots_published_total")
+                .description("Restaurant snapshots sent to the compacted snapshot topic")
+                .tag("outcome", "sent")
+                .register(meterRegistry);
+        this.failed = Counter.builder("restaurant_snapshots_published_total")
+                .description("Restaurant snapshots sent to the compacted snapshot topic")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+
+        Gauge.builder("restaurant_snapshots_pending", dirty, Set::size)
+                .description("Restaurants changed since the last snapshot flush")
+                .register(meterRegistry);
+    }
+
+    public void markDirty(UUID restaurantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirty.add(restaurantId);
+                }
+            });
+        } else {
+            dirty.add(restaurantId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void republishOnStartup() {
+        if (republishOnStartup) {
+            republishAll();
+        }
+    }
+
+    // The dirty set lives in memory, so changes committed just before a crash are only recovered by a full pass.
+    @Scheduled(fixedDelayString = "${bytebites.kafka.snapshots.reconcile-interval:15m}",
+            initialDelayString = "${bytebites.kafka.snapshots.reconcile-interval:15m}")
+    public void republishAll() {
+        List<UUID> ids = restaurantRepository.findAllIds();
+        logger.info("Scheduling snapshots for all {} restaurants", ids.size());
+        dirty.addAll(ids);
+    }
+
+    @Scheduled(fixedDelayString = "${bytebites.kafka.snapshots.flush-interval:1s}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<UUID> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+        Iterator<UUID> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+            if (batch.size() == LOAD_BATCH_SIZE || !iterator.hasNext()) {
+                publish(batch);
+                batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            }
+        }
+    }
+
+    private void publish(List<UUID> restaurantIds) {
+        List<RestaurantSnapshot> snapshots;
+        try {
+            snapshots = readOnlyTransaction.execute(status ->
+                    restaurantRepository.findAllWithMenuItemsByIdIn(restaurantIds).stream()
+                            .map(RestaurantSnapshot::of)
+                            .toList());
+        } catch (RuntimeException e) {
+            logger.error("Failed to load {} restaurant snapshots, will retry: {}", restaurantIds.size(), e.getMessage(), e);
+            dirty.addAll(restaurantIds);
+            return;
+        }
+
+        Map<UUID, RestaurantSnapshot> byId = snapshots.stream()
+                .collect(Collectors.toMap(RestaurantSnapshot::restaurantId, Function.identity()));
+        Set<UUID> missing = new HashSet<>(restaurantIds);
+        missing.removeAll(byId.keySet());
+
+        byId.values().forEach(snapshot -> send(snapshot.restaurantId(), snapshot));
+        missing.forEach(restaurantId -> send(restaurantId, null));
+        logger.debug("Published {} restaurant snapshots and {} tombstones", byId.size(), missing.size());
+    }
+
+    private void send(UUID restaurantId, RestaurantSnapshot snapshot) {
+        kafkaTemplate.send(snapshotsTopic, restaurantId.toString(), snapshot).whenComplete((result, ex) -> {
+            if (ex == null) {
+                published.increment();
+            } else {
+                failed.increment();
+                dirty.add(restaurantId);
+                logger.error("Failed to publish snapshot for restaurant: {}, error: {}", restaurantId, ex.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.bytebites.restaurantservice.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record RestaurantStatusChangedEvent(
+        @JsonProperty("eventId") String eventId,
+        @JsonProperty("eventType") String eventType,
+        @JsonProperty("timestamp") LocalDateTime timestamp,
+        @JsonProperty("restaurantId") UUID restaurantId,
+        @JsonProperty("previousStatus") String previousStatus,
+        @JsonProperty("status") String status
+) {
+    public static RestaurantStatusChangedEvent create(UUID restaurantId, String previousStatus, String status) {
+        return new RestaurantStatusChangedEvent(
+                UUID.randomUUID().toString(),
+                "RestaurantStatusChanged",
+                LocalDateTime.now(),
+                restaurantId, previousStatus, status
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.bytebites.restaurantservice.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record RestaurantUpdatedEvent(
+        @JsonProperty("eventId") String eventId,
+        @JsonProperty("eventType") String eventType,
+        @JsonProperty("timestamp") LocalDateTime timestamp,
+        @JsonProperty("restaurantId") UUID restaurantId,
+        @JsonProperty("ownerId") UUID ownerId,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("address") String address,
+        @JsonProperty("phone") String phone,
+        @JsonProperty("email") String email,
+        @JsonProperty("latitude") Double latitude,
+        @JsonProperty("longitude") Double longitude,
+        @JsonProperty("status") String status
+) {
+    public static RestaurantUpdatedEvent create(
+            UUID restaurantId, UUID ownerId, String name, String description, String address,
+            String phone, String email, Double latitude, Double longitude, String status) {
+        return new RestaurantUpdatedEvent(
+                UUID.randomUUID().toString(),
+                "RestaurantUpdated",
+                LocalDateTime.now(),
+                restaurantId, ownerId, name, description, address,
+                phone, email, latitude, longitude, status
+        );
+    }
+}
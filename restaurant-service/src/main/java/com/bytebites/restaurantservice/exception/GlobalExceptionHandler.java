@@ -1,5 +1,6 @@
 package com.bytebites.restaurantservice.exception;
 
+import com.bytebites.restaurantservice.dto.MenuImportError;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestControllerAdvice
@@ -43,6 +45,43 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException e) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                e.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(MenuImportException.class)
+    public ResponseEntity<MenuImportErrorResponse> handleMenuImport(MenuImportException e) {
+        logger.error("Menu import rejected: {}", e.getMessage());
+        MenuImportErrorResponse error = new MenuImportErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                e.getMessage(),
+                e.getErrors(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(InvalidLocationException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidLocation(InvalidLocationException e) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                e.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(MenuItemNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleMenuItemNotFound(MenuItemNotFoundException e) {
         logger.error("Menu item not found: {}", e.getMessage());
@@ -125,4 +164,11 @@ public class GlobalExceptionHandler {
             Map<String, String> validationErrors,
             LocalDateTime timestamp
     ) {}
-}
\ No newline at end of file
+
+    public record MenuImportErrorResponse(
+            int status,
+            String error,
+            List<MenuImportError> errors,
+            LocalDateTime timestamp
+    ) {}
+}
@@ -0,0 +1,7 @@
+package com.bytebites.restaurantservice.exception;
+
+public class InvalidLocationException extends RuntimeException {
+    public InvalidLocationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bytebites.restaurantservice.exception;
+
+import com.bytebites.restaurantservice.dto.MenuImportError;
+
+import java.util.List;
+
+public class MenuImportException extends RuntimeException {
+
+    private final List<MenuImportError> errors;
+
+    public MenuImportException(String message, List<MenuImportError> errors) {
+        super(message);
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<MenuImportError> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,21 @@
+package com.bytebites.restaurantservice.geo;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "bytebites.geocoder.provider", havingValue = "none", matchIfMissing = true)
+public class DisabledGeocoder implements Geocoder {
+
+    @Override
+    public Optional<GeoPoint> geocode(String address) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
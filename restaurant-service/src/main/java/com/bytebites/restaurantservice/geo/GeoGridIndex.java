@@ -0,0 +1,152 @@
+package com.bytebites.restaurantservice.geo;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class GeoGridIndex {
+
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double INITIAL_KNN_RADIUS_KM = 2;
+
+    private final double cellDegrees;
+    private final int longitudeCells;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, List<RestaurantLocation>> cells = new HashMap<>();
+    private final Map<UUID, RestaurantLocation> locations = new HashMap<>();
+
+    public GeoGridIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.longitudeCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    public void put(RestaurantLocation location) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(location.id());
+            if (location.status() != RestaurantStatus.ACTIVE
+                    || location.latitude() == null || location.longitude() == null) {
+                return;
+            }
+            locations.put(location.id(), location);
+            cells.computeIfAbsent(cellOf(location.latitude(), location.longitude()), key -> new ArrayList<>())
+                    .add(location);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID restaurantId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(restaurantId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return locations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<NearbyHit> withinRadius(GeoPoint center, double radiusKm, int limit) {
+        lock.readLock().lock();
+        try {
+            List<NearbyHit> hits = scan(center, radiusKm);
+            hits.sort(Comparator.comparingDouble(NearbyHit::distanceKm));
+            return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<NearbyHit> nearest(GeoPoint center, int k, double maxRadiusKm) {
+        lock.readLock().lock();
+        try {
+            double radiusKm = Math.min(INITIAL_KNN_RADIUS_KM, maxRadiusKm);
+            List<NearbyHit> hits = scan(center, radiusKm);
+            while (hits.size() < k && radiusKm < maxRadiusKm && hits.size() < locations.size()) {
+                radiusKm = Math.min(radiusKm * 2, maxRadiusKm);
+                hits = scan(center, radiusKm);
+            }
+            hits.sort(Comparator.comparingDouble(NearbyHit::distanceKm));
+            return hits.size() > k ? List.copyOf(hits.subList(0, k)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<NearbyHit> scan(GeoPoint center, double radiusKm) {
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90, center.latitude() - latSpan);
+        double maxLat = Math.min(90, center.latitude() + latSpan);
+
+        double widestLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double kmPerLngDegree = KM_PER_DEGREE * Math.cos(Math.toRadians(widestLat));
+        double lngReach = Math.ceil(radiusKm / kmPerLngDegree / cellDegrees);
+        int lngSpan = (int) Math.min(2 * lngReach + 1, longitudeCells);
+        int firstLngCell = longitudeCell(center.longitude()) - (int) Math.min(lngReach, longitudeCells);
+
+        int minLatCell = latitudeCell(minLat);
+        int maxLatCell = latitudeCell(maxLat);
+
+        List<NearbyHit> hits = new ArrayList<>();
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int i = 0; i < lngSpan; i++) {
+                int lngCell = Math.floorMod(firstLngCell + i, longitudeCells);
+                List<RestaurantLocation> cell = cells.get(key(latCell, lngCell));
+                if (cell == null) {
+                    continue;
+                }
+                for (RestaurantLocation location : cell) {
+                    double distance = center.distanceKm(location.latitude(), location.longitude());
+                    if (distance <= radiusKm) {
+                        hits.add(new NearbyHit(location, distance));
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+
+    private void removeLocked(UUID restaurantId) {
+        RestaurantLocation existing = locations.remove(restaurantId);
+        if (existing == null) {
+            return;
+        }
+        long key = cellOf(existing.latitude(), existing.longitude());
+        List<RestaurantLocation> cell = cells.get(key);
+        cell.removeIf(location -> location.id().equals(restaurantId));
+        if (cell.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return key(latitudeCell(latitude), longitudeCell(longitude));
+    }
+
+    private int latitudeCell(double latitude) {
+        return (int) Math.floor((latitude + 90) / cellDegrees);
+    }
+
+    private int longitudeCell(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), longitudeCells);
+    }
+
+    private static long key(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+}
@@ -0,0 +1,12 @@
+package com.bytebites.restaurantservice.geo;
+
+import java.util.Optional;
+
+public interface Geocoder {
+
+    Optional<GeoPoint> geocode(String address);
+
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,3 @@
+package com.bytebites.restaurantservice.geo;
+
+public record NearbyHit(RestaurantLocation location, double distanceKm) {}
@@ -0,0 +1,14 @@
+package com.bytebites.restaurantservice.geo;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+
+import java.util.UUID;
+
+public record RestaurantLocation(
+        UUID id,
+        String name,
+        String address,
+        Double latitude,
+        Double longitude,
+        RestaurantStatus status
+) {}
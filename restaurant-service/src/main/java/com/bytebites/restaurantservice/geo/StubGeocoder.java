@@ -0,0 +1,47 @@
+package com.bytebites.restaurantservice.geo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "bytebites.geocoder.provider", havingValue = "stub")
+public class StubGeocoder implements Geocoder {
+
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final double centerLatitude;
+    private final double centerLongitude;
+    private final double spreadKm;
+
+    public StubGeocoder(@Value("${bytebites.geocoder.stub.center-latitude:5.6037}") double centerLatitude,
+                        @Value("${bytebites.geocoder.stub.center-longitude:-0.1870}") double centerLongitude,
+                        @Value("${bytebites.geocoder.stub.spread-km:20}") double spreadKm) {
+        this.centerLatitude = centerLatitude;
+        this.centerLongitude = centerLongitude;
+        this.spreadKm = spreadKm;
+    }
+
+    @Override
+    public Optional<GeoPoint> geocode(String address) {
+        if (address == null || address.isBlank()) {
+            return Optional.empty();
+        }
+        UUID hash = UUID.nameUUIDFromBytes(address.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+        double northKm = unit(hash.getMostSignificantBits()) * spreadKm;
+        double eastKm = unit(hash.getLeastSignificantBits()) * spreadKm;
+
+        double latitude = centerLatitude + northKm / KM_PER_DEGREE;
+        double longitude = centerLongitude + eastKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(centerLatitude)));
+        return Optional.of(new GeoPoint(latitude, longitude));
+    }
+
+    private static double unit(long bits) {
+        return ((bits >>> 11) * 0x1.0p-53) * 2 - 1;
+    }
+}
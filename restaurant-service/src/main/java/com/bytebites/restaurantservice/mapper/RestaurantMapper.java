@@ -16,6 +16,9 @@ public interface RestaurantMapper {
     @Mapping(target = "ownerId", source = "ownerId")
     @Mapping(target = "status", constant = "PENDING_APPROVAL")
     @Mapping(target = "menuItems", ignore = true)
+    @Mapping(target = "menuVersion", ignore = true)
+    @Mapping(target = "latitude", ignore = true)
+    @Mapping(target = "longitude", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Restaurant toEntity(CreateRestaurantRequest request, UUID ownerId);
@@ -40,6 +43,9 @@ public interface RestaurantMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "ownerId", ignore = true)
     @Mapping(target = "menuItems", ignore = true)
+    @Mapping(target = "menuVersion", ignore = true)
+    @Mapping(target = "latitude", ignore = true)
+    @Mapping(target = "longitude", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntityFromRequest(UpdateRestaurantRequest request, @MappingTarget Restaurant restaurant);
@@ -1,16 +1,23 @@
 package com.bytebites.restaurantservice.repository;
 
+import com.bytebites.restaurantservice.dto.MenuItemAvailability;
 import com.bytebites.restaurantservice.model.MenuItem;
-
-
+import com.bytebites.restaurantservice.search.MenuItemDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface MenuItemRepository extends JpaRepository<MenuItem, UUID> {
@@ -24,4 +31,31 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, UUID> {
                                                  @Param("category") String category);
 
     Optional<MenuItem> findByIdAndRestaurantId(UUID id, UUID restaurantId);
-}
\ No newline at end of file
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.bytebites.restaurantservice.search.MenuItemDocument(" +
+            "m.id, m.restaurant.id, m.name, m.description, m.category, m.price, m.available) FROM MenuItem m")
+    Stream<MenuItemDocument> streamSearchDocuments();
+
+    @Query("SELECT new com.bytebites.restaurantservice.search.MenuItemDocument(" +
+            "m.id, m.restaurant.id, m.name, m.description, m.category, m.price, m.available) " +
+            "FROM MenuItem m WHERE m.updatedAt >= :since")
+    List<MenuItemDocument> findSearchDocumentsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT new com.bytebites.restaurantservice.dto.MenuItemAvailability(m.id, m.available) " +
+            "FROM MenuItem m WHERE m.restaurant.id = :restaurantId")
+    List<MenuItemAvailability> findAvailabilityByRestaurantId(@Param("restaurantId") UUID restaurantId);
+
+    @Query("SELECT new com.bytebites.restaurantservice.dto.MenuItemAvailability(m.id, m.available) " +
+            "FROM MenuItem m WHERE m.restaurant.id = :restaurantId AND m.id IN :ids")
+    List<MenuItemAvailability> findAvailabilityByRestaurantIdAndIdIn(@Param("restaurantId") UUID restaurantId,
+                                                                     @Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE MenuItem m SET m.available = :available, m.updatedAt = :updatedAt " +
+            "WHERE m.restaurant.id = :restaurantId AND m.id IN :ids AND m.available <> :available")
+    int updateAvailability(@Param("restaurantId") UUID restaurantId,
+                           @Param("ids") Collection<UUID> ids,
+                           @Param("available") boolean available,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -1,18 +1,28 @@
 package com.bytebites.restaurantservice.repository;
 
+import com.bytebites.restaurantservice.dto.RestaurantSummaryResponse;
+import com.bytebites.restaurantservice.geo.RestaurantLocation;
 import com.bytebites.restaurantservice.model.Restaurant;
+import com.bytebites.restaurantservice.search.RestaurantDocument;
 import com.bytebites.restaurantservice.enums.RestaurantStatus;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, UUID> {
@@ -21,11 +31,71 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, UUID> {
 
     Page<Restaurant> findByStatus(RestaurantStatus status, Pageable pageable);
 
-    @Query("SELECT r FROM Restaurant r WHERE r.status = :status ORDER BY r.createdAt DESC")
-    List<Restaurant> findActiveRestaurantsOrderByCreatedAt(@Param("status") RestaurantStatus status);
+    @Query("SELECT new com.bytebites.restaurantservice.dto.RestaurantSummaryResponse(" +
+            "r.id, r.name, r.description, r.address, r.status, r.createdAt) " +
+            "FROM Restaurant r WHERE r.status = :status ORDER BY r.createdAt DESC, r.id DESC")
+    List<RestaurantSummaryResponse> findSummariesByStatus(@Param("status") RestaurantStatus status,
+                                                          Pageable pageable);
+
+    @Query("SELECT new com.bytebites.restaurantservice.dto.RestaurantSummaryResponse(" +
+            "r.id, r.name, r.description, r.address, r.status, r.createdAt) " +
+            "FROM Restaurant r WHERE r.status = :status " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RestaurantSummaryResponse> findSummariesByStatusAfter(@Param("status") RestaurantStatus status,
+                                                               @Param("createdAt") LocalDateTime createdAt,
+                                                               @Param("id") UUID id,
+                                                               Pageable pageable);
 
     @Query("SELECT r FROM Restaurant r LEFT JOIN FETCH r.menuItems WHERE r.id = :id")
     Optional<Restaurant> findByIdWithMenuItems(@Param("id") UUID id);
 
+    @Query("SELECT DISTINCT r FROM Restaurant r LEFT JOIN FETCH r.menuItems WHERE r.id IN :ids")
+    List<Restaurant> findAllWithMenuItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT r.id FROM Restaurant r")
+    List<UUID> findAllIds();
+
     boolean existsByOwnerIdAndName(UUID ownerId, String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.bytebites.restaurantservice.search.RestaurantDocument(" +
+            "r.id, r.name, r.description, r.status) FROM Restaurant r")
+    Stream<RestaurantDocument> streamSearchDocuments();
+
+    @Query("SELECT new com.bytebites.restaurantservice.search.RestaurantDocument(" +
+            "r.id, r.name, r.description, r.status) FROM Restaurant r WHERE r.updatedAt >= :since")
+    List<RestaurantDocument> findSearchDocumentsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.bytebites.restaurantservice.geo.RestaurantLocation(" +
+            "r.id, r.name, r.address, r.latitude, r.longitude, r.status) " +
+            "FROM Restaurant r WHERE r.status = :status AND r.latitude IS NOT NULL AND r.longitude IS NOT NULL")
+    Stream<RestaurantLocation> streamLocationsByStatus(@Param("status") RestaurantStatus status);
+
+    @Query("SELECT new com.bytebites.restaurantservice.geo.RestaurantLocation(" +
+            "r.id, r.name, r.address, r.latitude, r.longitude, r.status) " +
+            "FROM Restaurant r WHERE r.updatedAt >= :since")
+    List<RestaurantLocation> findLocationsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT new com.bytebites.restaurantservice.geo.RestaurantLocation(" +
+            "r.id, r.name, r.address, r.latitude, r.longitude, r.status) " +
+            "FROM Restaurant r WHERE (r.latitude IS NULL OR r.longitude IS NULL) AND r.id > :after ORDER BY r.id")
+    List<RestaurantLocation> findLocationsMissingCoordinatesAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.latitude = :latitude, r.longitude = :longitude, r.updatedAt = :updatedAt " +
+            "WHERE r.id = :id AND (r.latitude IS NULL OR r.longitude IS NULL)")
+    int fillMissingCoordinates(@Param("id") UUID id, @Param("latitude") double latitude,
+                               @Param("longitude") double longitude, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT r.menuVersion FROM Restaurant r WHERE r.id = :id")
+    Optional<Long> findMenuVersionById(@Param("id") UUID id);
+
+    @Query("SELECT r.ownerId FROM Restaurant r WHERE r.id = :id")
+    Optional<UUID> findOwnerIdById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.menuVersion = r.menuVersion + 1 WHERE r.id = :id")
+    int incrementMenuVersion(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.bytebites.restaurantservice.search;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record MenuItemDocument(
+        UUID id,
+        UUID restaurantId,
+        String name,
+        String description,
+        String category,
+        BigDecimal price,
+        Boolean available
+) {}
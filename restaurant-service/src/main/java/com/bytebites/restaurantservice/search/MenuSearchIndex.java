@@ -0,0 +1,419 @@
+package com.bytebites.restaurantservice.search;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class MenuSearchIndex {
+
+    private static final float NAME_BOOST = 3.0f;
+    private static final float CATEGORY_BOOST = 2.0f;
+    private static final float DESCRIPTION_BOOST = 1.0f;
+
+    private static final float EXACT_MATCH = 1.0f;
+    private static final float PREFIX_MATCH = 0.7f;
+    private static final float FUZZY_MATCH = 0.5f;
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MAX_EXPANSIONS = 64;
+    private static final int MAX_QUERY_TOKENS = 8;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Object> documents = new ArrayList<>();
+    private final Map<UUID, Integer> restaurantOrdinals = new HashMap<>();
+    private final Map<UUID, Integer> menuItemOrdinals = new HashMap<>();
+    private final NavigableMap<String, Postings> postings = new TreeMap<>();
+    private final Map<String, List<String>> deletions = new HashMap<>();
+    private final Queue<Scratch> scratchPool = new ConcurrentLinkedQueue<>();
+    private int deadDocuments;
+
+    public void indexRestaurant(RestaurantDocument restaurant) {
+        lock.writeLock().lock();
+        try {
+            remove(restaurantOrdinals.remove(restaurant.id()));
+            int ordinal = add(restaurant);
+            restaurantOrdinals.put(restaurant.id(), ordinal);
+            indexField(ordinal, restaurant.name(), NAME_BOOST);
+            indexField(ordinal, restaurant.description(), DESCRIPTION_BOOST);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexMenuItem(MenuItemDocument menuItem) {
+        lock.writeLock().lock();
+        try {
+            remove(menuItemOrdinals.remove(menuItem.id()));
+            int ordinal = add(menuItem);
+            menuItemOrdinals.put(menuItem.id(), ordinal);
+            indexField(ordinal, menuItem.name(), NAME_BOOST);
+            indexField(ordinal, menuItem.category(), CATEGORY_BOOST);
+            indexField(ordinal, menuItem.description(), DESCRIPTION_BOOST);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeMenuItem(UUID menuItemId) {
+        lock.writeLock().lock();
+        try {
+            remove(menuItemOrdinals.remove(menuItemId));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return restaurantOrdinals.size() + menuItemOrdinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SearchResults search(SearchQuery query) {
+        List<String> tokens = tokenize(query.text());
+        if (tokens.isEmpty()) {
+            return new SearchResults(List.of(), List.of());
+        }
+
+        lock.readLock().lock();
+        Scratch scratch = borrowScratch();
+        try {
+            List<Map<String, Float>> expansions = tokens.stream()
+                    .limit(MAX_QUERY_TOKENS)
+                    .map(this::expand)
+                    .sorted(Comparator.comparingLong(this::postingCount))
+                    .toList();
+            for (int k = 0; k < expansions.size(); k++) {
+                if (!scoreToken(expansions.get(k), k, scratch)) {
+                    return new SearchResults(List.of(), List.of());
+                }
+            }
+            return collect(scratch, expansions.size(), query);
+        } finally {
+            scratchPool.offer(scratch);
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean scoreToken(Map<String, Float> expansions, int k, Scratch scratch) {
+        int liveDocuments = documents.size() - deadDocuments;
+        int generation = scratch.generation;
+        byte matchedAfter = (byte) (k + 1);
+
+        for (Map.Entry<String, Float> expansion : expansions.entrySet()) {
+            Postings termPostings = postings.get(expansion.getKey());
+            float weight = expansion.getValue() * (float) Math.log(1 + (double) liveDocuments / termPostings.size);
+            for (int i = 0; i < termPostings.size; i++) {
+                int ordinal = termPostings.ordinals[i];
+                if (scratch.seen[ordinal] != generation) {
+                    if (k > 0 || documents.get(ordinal) == null) {
+                        continue;
+                    }
+                    scratch.admit(ordinal);
+                }
+                if (scratch.matched[ordinal] < k) {
+                    continue;
+                }
+                float score = weight * termPostings.boosts[i];
+                if (scratch.matched[ordinal] == k || scratch.pending[ordinal] < score) {
+                    scratch.pending[ordinal] = score;
+                }
+                scratch.matched[ordinal] = matchedAfter;
+            }
+        }
+
+        boolean any = false;
+        for (int i = 0; i < scratch.touched; i++) {
+            int ordinal = scratch.candidates[i];
+            if (scratch.matched[ordinal] == matchedAfter) {
+                scratch.score[ordinal] += scratch.pending[ordinal];
+                any = true;
+            }
+        }
+        return any;
+    }
+
+    private long postingCount(Map<String, Float> expansions) {
+        long count = 0;
+        for (String term : expansions.keySet()) {
+            count += postings.get(term).size;
+        }
+        return count;
+    }
+
+    private Scratch borrowScratch() {
+        Scratch scratch = scratchPool.poll();
+        if (scratch == null) {
+            scratch = new Scratch();
+        }
+        scratch.reset(documents.size());
+        return scratch;
+    }
+
+    private Map<String, Float> expand(String token) {
+        Map<String, Float> expansions = new HashMap<>();
+        if (postings.containsKey(token)) {
+            expansions.put(token, EXACT_MATCH);
+        }
+
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            for (String term : postings.subMap(token, false, token + Character.MAX_VALUE, false).keySet()) {
+                if (expansions.size() >= MAX_EXPANSIONS) {
+                    break;
+                }
+                expansions.putIfAbsent(term, PREFIX_MATCH);
+            }
+        }
+
+        if (token.length() >= MIN_FUZZY_LENGTH) {
+            for (String term : fuzzyCandidates(token)) {
+                if (expansions.size() >= MAX_EXPANSIONS) {
+                    break;
+                }
+                if (withinOneEdit(token, term)) {
+                    expansions.putIfAbsent(term, FUZZY_MATCH);
+                }
+            }
+        }
+        return expansions;
+    }
+
+    private Set<String> fuzzyCandidates(String token) {
+        Set<String> candidates = new HashSet<>(deletions.getOrDefault(token, List.of()));
+        for (String deleted : deletionsOf(token)) {
+            if (postings.containsKey(deleted)) {
+                candidates.add(deleted);
+            }
+            candidates.addAll(deletions.getOrDefault(deleted, List.of()));
+        }
+        return candidates;
+    }
+
+    private SearchResults collect(Scratch scratch, int tokenCount, SearchQuery query) {
+        Comparator<SearchHit<?>> byScore = Comparator.comparingDouble(SearchHit::score);
+        PriorityQueue<SearchHit<RestaurantDocument>> restaurants = new PriorityQueue<>(byScore);
+        PriorityQueue<SearchHit<MenuItemDocument>> menuItems = new PriorityQueue<>(byScore);
+
+        for (int i = 0; i < scratch.touched; i++) {
+            int ordinal = scratch.candidates[i];
+            if (scratch.matched[ordinal] != tokenCount) {
+                continue;
+            }
+            float score = scratch.score[ordinal];
+            Object document = documents.get(ordinal);
+            if (document instanceof RestaurantDocument restaurant) {
+                if (competes(restaurants, score, query.limit()) && restaurant.status() == RestaurantStatus.ACTIVE) {
+                    offer(restaurants, new SearchHit<>(restaurant, score), query.limit());
+                }
+            } else if (document instanceof MenuItemDocument menuItem
+                    && competes(menuItems, score, query.limit())
+                    && query.accepts(menuItem) && isActive(menuItem.restaurantId())) {
+                offer(menuItems, new SearchHit<>(menuItem, score), query.limit());
+            }
+        }
+        return new SearchResults(drain(restaurants), drain(menuItems));
+    }
+
+    private static boolean competes(PriorityQueue<? extends SearchHit<?>> queue, float score, int limit) {
+        return queue.size() < limit || queue.peek().score() < score;
+    }
+
+    private boolean isActive(UUID restaurantId) {
+        Integer ordinal = restaurantOrdinals.get(restaurantId);
+        return ordinal != null
+                && documents.get(ordinal) instanceof RestaurantDocument restaurant
+                && restaurant.status() == RestaurantStatus.ACTIVE;
+    }
+
+    private static <T> void offer(PriorityQueue<SearchHit<T>> queue, SearchHit<T> hit, int limit) {
+        if (queue.size() < limit) {
+            queue.add(hit);
+        } else if (queue.peek().score() < hit.score()) {
+            queue.poll();
+            queue.add(hit);
+        }
+    }
+
+    private static <T> List<SearchHit<T>> drain(PriorityQueue<SearchHit<T>> queue) {
+        List<SearchHit<T>> hits = new ArrayList<>(queue);
+        hits.sort(Comparator.comparingDouble((SearchHit<T> hit) -> hit.score()).reversed());
+        return hits;
+    }
+
+    private int add(Object document) {
+        documents.add(document);
+        return documents.size() - 1;
+    }
+
+    private void remove(Integer ordinal) {
+        if (ordinal != null) {
+            documents.set(ordinal, null);
+            deadDocuments++;
+        }
+    }
+
+    private void indexField(int ordinal, String text, float boost) {
+        for (String token : tokenize(text)) {
+            Postings termPostings = postings.get(token);
+            if (termPostings == null) {
+                termPostings = new Postings();
+                postings.put(token, termPostings);
+                if (token.length() >= MIN_FUZZY_LENGTH) {
+                    for (String deleted : deletionsOf(token)) {
+                        deletions.computeIfAbsent(deleted, key -> new ArrayList<>(1)).add(token);
+                    }
+                }
+            }
+            termPostings.add(ordinal, boost);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadDocuments < 1024 || deadDocuments * 2 < documents.size()) {
+            return;
+        }
+        List<Object> live = documents.stream().filter(document -> document != null).toList();
+        documents.clear();
+        restaurantOrdinals.clear();
+        menuItemOrdinals.clear();
+        postings.clear();
+        deletions.clear();
+        deadDocuments = 0;
+        for (Object document : live) {
+            if (document instanceof RestaurantDocument restaurant) {
+                int ordinal = add(restaurant);
+                restaurantOrdinals.put(restaurant.id(), ordinal);
+                indexField(ordinal, restaurant.name(), NAME_BOOST);
+                indexField(ordinal, restaurant.description(), DESCRIPTION_BOOST);
+            } else if (document instanceof MenuItemDocument menuItem) {
+                int ordinal = add(menuItem);
+                menuItemOrdinals.put(menuItem.id(), ordinal);
+                indexField(ordinal, menuItem.name(), NAME_BOOST);
+                indexField(ordinal, menuItem.category(), CATEGORY_BOOST);
+                indexField(ordinal, menuItem.description(), DESCRIPTION_BOOST);
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static List<String> deletionsOf(String token) {
+        List<String> result = new ArrayList<>(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            result.add(token.substring(0, i) + token.substring(i + 1));
+        }
+        return result;
+    }
+
+    static boolean withinOneEdit(String a, String b) {
+        if (Math.abs(a.length() - b.length()) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < a.length() && i < b.length() && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (a.length() == b.length()) {
+            if (i == a.length()) {
+                return true;
+            }
+            if (a.substring(i + 1).equals(b.substring(i + 1))) {
+                return true;
+            }
+            return i + 1 < a.length()
+                    && a.charAt(i) == b.charAt(i + 1)
+                    && a.charAt(i + 1) == b.charAt(i)
+                    && a.substring(i + 2).equals(b.substring(i + 2));
+        }
+        return a.length() > b.length()
+                ? a.substring(i + 1).equals(b.substring(i))
+                : b.substring(i + 1).equals(a.substring(i));
+    }
+
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private float[] boosts = new float[4];
+        private int size;
+
+        private void add(int ordinal, float boost) {
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                boosts[size - 1] = Math.max(boosts[size - 1], boost);
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                boosts = Arrays.copyOf(boosts, size * 2);
+            }
+            ordinals[size] = ordinal;
+            boosts[size] = boost;
+            size++;
+        }
+    }
+
+    private static final class Scratch {
+        private int[] seen = new int[0];
+        private byte[] matched = new byte[0];
+        private float[] score = new float[0];
+        private float[] pending = new float[0];
+        private int[] candidates = new int[64];
+        private int touched;
+        private int generation;
+
+        private void reset(int documentCount) {
+            if (seen.length < documentCount) {
+                int capacity = Math.max(documentCount, seen.length + (seen.length >> 1));
+                seen = new int[capacity];
+                matched = new byte[capacity];
+                score = new float[capacity];
+                pending = new float[capacity];
+                generation = 0;
+            }
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(seen, 0);
+                generation = 1;
+            }
+            touched = 0;
+        }
+
+        private void admit(int ordinal) {
+            seen[ordinal] = generation;
+            matched[ordinal] = 0;
+            score[ordinal] = 0;
+            if (touched == candidates.length) {
+                candidates = Arrays.copyOf(candidates, touched * 2);
+            }
+            candidates[touched++] = ordinal;
+        }
+    }
+}
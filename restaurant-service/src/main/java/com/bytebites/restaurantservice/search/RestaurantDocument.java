@@ -0,0 +1,12 @@
+package com.bytebites.restaurantservice.search;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+
+import java.util.UUID;
+
+public record RestaurantDocument(
+        UUID id,
+        String name,
+        String description,
+        RestaurantStatus status
+) {}
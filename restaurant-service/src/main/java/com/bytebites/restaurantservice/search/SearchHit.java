@@ -0,0 +1,3 @@
+package com.bytebites.restaurantservice.search;
+
+public record SearchHit<T>(T document, double score) {}
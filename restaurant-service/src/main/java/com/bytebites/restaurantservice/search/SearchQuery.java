@@ -0,0 +1,26 @@
+package com.bytebites.restaurantservice.search;
+
+import java.math.BigDecimal;
+
+public record SearchQuery(
+        String text,
+        String category,
+        boolean availableOnly,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        int limit
+) {
+
+    public boolean accepts(MenuItemDocument item) {
+        if (availableOnly && !Boolean.TRUE.equals(item.available())) {
+            return false;
+        }
+        if (category != null && !category.equalsIgnoreCase(item.category())) {
+            return false;
+        }
+        if (minPrice != null && item.price().compareTo(minPrice) < 0) {
+            return false;
+        }
+        return maxPrice == null || item.price().compareTo(maxPrice) <= 0;
+    }
+}
@@ -0,0 +1,8 @@
+package com.bytebites.restaurantservice.search;
+
+import java.util.List;
+
+public record SearchResults(
+        List<SearchHit<RestaurantDocument>> restaurants,
+        List<SearchHit<MenuItemDocument>> menuItems
+) {}
@@ -0,0 +1,93 @@
+package com.bytebites.restaurantservice.security;
+
+import com.bytebites.restaurantservice.client.UserServiceClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class RoleDirectory {
+
+    private final UserServiceClient userServiceClient;
+    private final long ttlNanos;
+    private final Map<UUID, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public RoleDirectory(UserServiceClient userServiceClient,
+                         MeterRegistry meterRegistry,
+                         @Value("${bytebites.security.role-cache.ttl:60s}") Duration ttl,
+                         @Value("${bytebites.security.role-cache.max-entries:10000}") int maxEntries) {
+        this.userServiceClient = userServiceClient;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.hits = Counter.builder("role_cache_requests_total")
+                .description("Remote role lookups answered by the role cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("role_cache_requests_total")
+                .description("Remote role lookups answered by the role cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        Gauge.builder("role_cache_hit_ratio", this, RoleDirectory::hitRatio)
+                .description("Fraction of remote role lookups served from the cache")
+                .register(meterRegistry);
+        Gauge.builder("role_cache_size", this, RoleDirectory::size)
+                .description("Number of users whose roles are cached")
+                .register(meterRegistry);
+    }
+
+    public List<String> getRoles(UUID userId) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && now - entry.expiresAtNanos() < 0) {
+                hits.increment();
+                return entry.roles();
+            }
+        }
+
+        misses.increment();
+        List<String> fetched = userServiceClient.getUserRoles(userId);
+        List<String> roles = fetched == null ? List.of() : List.copyOf(fetched);
+
+        synchronized (entries) {
+            entries.put(userId, new Entry(roles, now + ttlNanos));
+        }
+        return roles;
+    }
+
+    public void evict(UUID userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private record Entry(List<String> roles, long expiresAtNanos) {}
+}
@@ -1,7 +1,11 @@
 package com.bytebites.restaurantservice.security;
 
-import com.bytebites.restaurantservice.client.UserServiceClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.UUID;
@@ -9,11 +13,21 @@ import java.util.UUID;
 @Service
 public class SecurityService {
 
-    private final UserServiceClient userServiceClient;
+    private final RoleDirectory roleDirectory;
+    private final Counter headerDecisions;
+    private final Counter directoryDecisions;
 
     @Autowired
-    public SecurityService(UserServiceClient userServiceClient) {
-        this.userServiceClient = userServiceClient;
+    public SecurityService(RoleDirectory roleDirectory, MeterRegistry meterRegistry) {
+        this.roleDirectory = roleDirectory;
+        this.headerDecisions = Counter.builder("role_decisions_total")
+                .description("Role checks by where the caller's roles came from")
+                .tag("source", "header")
+                .register(meterRegistry);
+        this.directoryDecisions = Counter.builder("role_decisions_total")
+                .description("Role checks by where the caller's roles came from")
+                .tag("source", "directory")
+                .register(meterRegistry);
     }
 
     public boolean isOwnerOrAdmin(UUID currentUserId, UUID resourceOwnerId) {
@@ -28,11 +42,29 @@ public class SecurityService {
     }
 
     public boolean isAdmin(UUID userId) {
-        List<String> userRoles = userServiceClient.getUserRoles(userId);
+        List<String> userRoles = authenticatedRoles(userId);
+        if (userRoles != null) {
+            headerDecisions.increment();
+        } else {
+            directoryDecisions.increment();
+            userRoles = roleDirectory.getRoles(userId);
+        }
         return hasRole(userRoles, "ROLE_ADMIN");
     }
 
     public boolean isRestaurantOwner(List<String> userRoles) {
         return hasRole(userRoles, "ROLE_RESTAURANT_OWNER");
     }
-}
\ No newline at end of file
+
+    private List<String> authenticatedRoles(UUID userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || !userId.toString().equals(authentication.getName())
+                || authentication.getAuthorities().isEmpty()) {
+            return null;
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.geo.GeoPoint;
+import com.bytebites.restaurantservice.geo.Geocoder;
+import com.bytebites.restaurantservice.geo.RestaurantLocation;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// Sweeps restaurants saved without coordinates; lookups run outside any transaction and each row commits on its own.
+@Service
+public class CoordinateBackfillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoordinateBackfillService.class);
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final RestaurantRepository restaurantRepository;
+    private final Geocoder geocoder;
+    private final RestaurantDetailCache restaurantDetailCache;
+    private final TransactionTemplate writeTransaction;
+    private final int batchSize;
+
+    public CoordinateBackfillService(RestaurantRepository restaurantRepository,
+                                     Geocoder geocoder,
+                                     RestaurantDetailCache restaurantDetailCache,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${bytebites.geocoder.backfill.batch-size:100}") int batchSize) {
+        this.restaurantRepository = restaurantRepository;
+        this.geocoder = geocoder;
+        this.restaurantDetailCache = restaurantDetailCache;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${bytebites.geocoder.backfill.initial-delay:1m}",
+            fixedDelayString = "${bytebites.geocoder.backfill.interval:6h}")
+    public synchronized void backfill() {
+        if (!geocoder.isEnabled()) {
+            return;
+        }
+        UUID after = FIRST_ID;
+        int filled = 0;
+        int unresolved = 0;
+        try {
+            List<RestaurantLocation> batch;
+            do {
+                batch = restaurantRepository.findLocationsMissingCoordinatesAfter(after, PageRequest.of(0, batchSize));
+                for (RestaurantLocation location : batch) {
+                    if (fill(location)) {
+                        filled++;
+                    } else {
+                        unresolved++;
+                    }
+                    after = location.id();
+                }
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            logger.error("Coordinate backfill stopped after {} restaurants: {}", filled, e.getMessage(), e);
+            return;
+        }
+        if (filled > 0 || unresolved > 0) {
+            logger.info("Coordinate backfill filled {} restaurants, {} addresses could not be geocoded", filled, unresolved);
+        }
+    }
+
+    private boolean fill(RestaurantLocation location) {
+        Optional<GeoPoint> point = geocoder.geocode(location.address());
+        if (point.isEmpty()) {
+            return false;
+        }
+        Integer updated = writeTransaction.execute(status -> restaurantRepository.fillMissingCoordinates(
+                location.id(), point.get().latitude(), point.get().longitude(), LocalDateTime.now()));
+        if (updated == null || updated == 0) {
+            return false;
+        }
+        restaurantDetailCache.invalidate(location.id());
+        return true;
+    }
+}
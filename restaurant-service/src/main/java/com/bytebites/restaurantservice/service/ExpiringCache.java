@@ -0,0 +1,83 @@
+package com.bytebites.restaurantservice.service;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+final class ExpiringCache<K, V> {
+
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private long invalidations;
+
+    ExpiringCache(Duration ttl, int maxEntries, Counter hits, Counter misses) {
+        this.ttlNanos = ttl.toNanos();
+        this.hits = hits;
+        this.misses = misses;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    V get(K key, Function<K, V> loader) {
+        long now = System.nanoTime();
+        long generation;
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now - entry.expiresAtNanos() < 0) {
+                hits.increment();
+                return entry.value();
+            }
+            generation = invalidations;
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+
+        synchronized (entries) {
+            if (generation == invalidations) {
+                entries.put(key, new Entry<>(value, now + ttlNanos));
+            }
+        }
+        return value;
+    }
+
+    void update(K key, UnaryOperator<V> update) {
+        synchronized (entries) {
+            invalidations++;
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                entries.put(key, new Entry<>(update.apply(entry.value()), entry.expiresAtNanos()));
+            }
+        }
+    }
+
+    void invalidate(K key) {
+        synchronized (entries) {
+            invalidations++;
+            entries.remove(key);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {}
+}
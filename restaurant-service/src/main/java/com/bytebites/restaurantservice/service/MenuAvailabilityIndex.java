@@ -0,0 +1,108 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.dto.MenuItemAvailability;
+import com.bytebites.restaurantservice.repository.MenuItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class MenuAvailabilityIndex {
+
+    private final MenuItemRepository menuItemRepository;
+    private final ExpiringCache<UUID, Bitmap> bitmaps;
+
+    public MenuAvailabilityIndex(MenuItemRepository menuItemRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${bytebites.menu.availability.ttl:30s}") Duration ttl,
+                                 @Value("${bytebites.menu.availability.max-restaurants:5000}") int maxRestaurants) {
+        this.menuItemRepository = menuItemRepository;
+        this.bitmaps = new ExpiringCache<>(ttl, maxRestaurants,
+                Counter.builder("menu_availability_lookups_total")
+                        .description("Availability reads served from the in-memory bitmap")
+                        .tag("result", "hit")
+                        .register(meterRegistry),
+                Counter.builder("menu_availability_lookups_total")
+                        .description("Availability reads served from the in-memory bitmap")
+                        .tag("result", "miss")
+                        .register(meterRegistry));
+
+        Gauge.builder("menu_availability_hit_ratio", bitmaps, ExpiringCache::hitRatio)
+                .description("Fraction of availability reads served without a database query")
+                .register(meterRegistry);
+    }
+
+    public Map<UUID, Boolean> availability(UUID restaurantId) {
+        return bitmap(restaurantId).toMap();
+    }
+
+    void apply(UUID restaurantId, Collection<UUID> menuItemIds, boolean available) {
+        if (!menuItemIds.isEmpty()) {
+            bitmaps.update(restaurantId, bitmap -> bitmap.with(menuItemIds, available));
+        }
+    }
+
+    void invalidate(UUID restaurantId) {
+        bitmaps.invalidate(restaurantId);
+    }
+
+    private Bitmap bitmap(UUID restaurantId) {
+        return bitmaps.get(restaurantId, id -> Bitmap.of(menuItemRepository.findAvailabilityByRestaurantId(id)));
+    }
+
+    private static final class Bitmap {
+
+        private final Map<UUID, Integer> ordinals;
+        private final long[] words;
+
+        private Bitmap(Map<UUID, Integer> ordinals, long[] words) {
+            this.ordinals = ordinals;
+            this.words = words;
+        }
+
+        static Bitmap of(List<MenuItemAvailability> items) {
+            Map<UUID, Integer> ordinals = new HashMap<>(items.size() * 2);
+            long[] words = new long[(items.size() + 63) >>> 6];
+            for (MenuItemAvailability item : items) {
+                int ordinal = ordinals.size();
+                ordinals.put(item.menuItemId(), ordinal);
+                if (Boolean.TRUE.equals(item.available())) {
+                    words[ordinal >>> 6] |= 1L << ordinal;
+                }
+            }
+            return new Bitmap(Map.copyOf(ordinals), words);
+        }
+
+        Bitmap with(Collection<UUID> menuItemIds, boolean available) {
+            long[] copy = words.clone();
+            for (UUID menuItemId : menuItemIds) {
+                Integer ordinal = ordinals.get(menuItemId);
+                if (ordinal == null) {
+                    continue;
+                }
+                if (available) {
+                    copy[ordinal >>> 6] |= 1L << ordinal;
+                } else {
+                    copy[ordinal >>> 6] &= ~(1L << ordinal);
+                }
+            }
+            return new Bitmap(ordinals, copy);
+        }
+
+        Map<UUID, Boolean> toMap() {
+            Map<UUID, Boolean> result = new LinkedHashMap<>(ordinals.size() * 2);
+            ordinals.forEach((menuItemId, ordinal) -> result.put(menuItemId, (words[ordinal >>> 6] & (1L << ordinal)) != 0));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.bytebites.restaurantservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class MenuCache {
+
+    private final ExpiringCache<UUID, MenuSnapshot> entries;
+    private final Counter fullResponses;
+    private final Counter notModifiedResponses;
+    private final Counter gzipResponses;
+
+    public MenuCache(MeterRegistry meterRegistry,
+                     @Value("${bytebites.menu.cache.ttl:30s}") Duration ttl,
+                     @Value("${bytebites.menu.cache.max-entries:500}") int maxEntries) {
+        this.entries = new ExpiringCache<>(ttl, maxEntries,
+                Counter.builder("menu_cache_requests_total")
+                        .description("Menu lookups served from the in-memory menu cache")
+                        .tag("result", "hit")
+                        .register(meterRegistry),
+                Counter.builder("menu_cache_requests_total")
+                        .description("Menu lookups served from the in-memory menu cache")
+                        .tag("result", "miss")
+                        .register(meterRegistry));
+        this.fullResponses = Counter.builder("menu_responses_total")
+                .description("Menu responses by HTTP status")
+                .tag("status", "200")
+                .register(meterRegistry);
+        this.notModifiedResponses = Counter.builder("menu_responses_total")
+                .description("Menu responses by HTTP status")
+                .tag("status", "304")
+                .register(meterRegistry);
+        this.gzipResponses = Counter.builder("menu_gzip_responses_total")
+                .description("Menu bodies served from the pre-compressed gzip rendering")
+                .register(meterRegistry);
+
+        Gauge.builder("menu_cache_hit_ratio", entries, ExpiringCache::hitRatio)
+                .description("Fraction of menu lookups served from the cache")
+                .register(meterRegistry);
+        Gauge.builder("menu_not_modified_ratio", this, cache -> ratio(cache.notModifiedResponses, cache.fullResponses))
+                .description("Fraction of menu requests answered with 304 Not Modified")
+                .register(meterRegistry);
+        Gauge.builder("menu_cache_size", entries, ExpiringCache::size)
+                .description("Number of rendered menus held in memory")
+                .register(meterRegistry);
+    }
+
+    public MenuSnapshot get(UUID restaurantId, Function<UUID, MenuSnapshot> loader) {
+        return entries.get(restaurantId, loader);
+    }
+
+    public void invalidate(UUID restaurantId) {
+        entries.invalidate(restaurantId);
+    }
+
+    public void recordResponse(boolean notModified, boolean gzipped) {
+        (notModified ? notModifiedResponses : fullResponses).increment();
+        if (gzipped && !notModified) {
+            gzipResponses.increment();
+        }
+    }
+
+    private static double ratio(Counter numerator, Counter other) {
+        double total = numerator.count() + other.count();
+        return total == 0 ? 0 : numerator.count() / total;
+    }
+}
@@ -0,0 +1,172 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.dto.MenuImportError;
+import com.bytebites.restaurantservice.dto.MenuItemImportRow;
+import com.bytebites.restaurantservice.exception.MenuImportException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+public final class MenuCsvParser {
+
+    private static final Map<String, String> COLUMN_ALIASES = Map.of(
+            "image_url", "imageurl",
+            "menu_item_id", "id"
+    );
+
+    private MenuCsvParser() {}
+
+    public static List<MenuItemImportRow> parse(String csv) {
+        List<List<String>> records = readRecords(csv == null ? "" : csv);
+        if (records.isEmpty()) {
+            throw new MenuImportException("CSV body is empty",
+                    List.of(new MenuImportError(0, null, "A header row is required")));
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = records.get(0);
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+            columns.put(COLUMN_ALIASES.getOrDefault(column, column), i);
+        }
+        List<MenuImportError> errors = new ArrayList<>();
+        for (String required : List.of("name", "price", "category")) {
+            if (!columns.containsKey(required)) {
+                errors.add(new MenuImportError(0, required, "Missing column: " + required));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new MenuImportException("CSV header is invalid", errors);
+        }
+
+        List<MenuItemImportRow> rows = new ArrayList<>(records.size() - 1);
+        for (int i = 1; i < records.size(); i++) {
+            Row row = new Row(i, records.get(i), columns, errors);
+            rows.add(new MenuItemImportRow(
+                    row.uuid("id"),
+                    row.text("name"),
+                    row.text("description"),
+                    row.decimal("price"),
+                    row.text("category"),
+                    row.bool("available"),
+                    row.text("imageurl")
+            ));
+        }
+        if (!errors.isEmpty()) {
+            throw new MenuImportException("CSV contains invalid values", errors);
+        }
+        return rows;
+    }
+
+    private static List<List<String>> readRecords(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean blank = true;
+
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                blank = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                blank = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                if (!blank) {
+                    fields.add(field.toString());
+                    records.add(fields);
+                }
+                fields = new ArrayList<>();
+                field.setLength(0);
+                blank = true;
+            } else {
+                field.append(c);
+                if (!Character.isWhitespace(c)) {
+                    blank = false;
+                }
+            }
+        }
+        if (quoted) {
+            throw new MenuImportException("CSV body is malformed",
+                    List.of(new MenuImportError(records.size(), null, "Unterminated quoted field")));
+        }
+        if (!blank) {
+            fields.add(field.toString());
+            records.add(fields);
+        }
+        return records;
+    }
+
+    private record Row(int number, List<String> values, Map<String, Integer> columns, List<MenuImportError> errors) {
+
+        String text(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        UUID uuid(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return UUID.fromString(value);
+            } catch (IllegalArgumentException e) {
+                errors.add(new MenuImportError(number, column, "Not a valid ID: " + value));
+                return null;
+            }
+        }
+
+        BigDecimal decimal(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return new BigDecimal(value);
+            } catch (NumberFormatException e) {
+                errors.add(new MenuImportError(number, column, "Not a valid number: " + value));
+                return null;
+            }
+        }
+
+        Boolean bool(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "true", "yes", "1" -> true;
+                case "false", "no", "0" -> false;
+                default -> {
+                    errors.add(new MenuImportError(number, column, "Not a valid boolean: " + value));
+                    yield null;
+                }
+            };
+        }
+    }
+}
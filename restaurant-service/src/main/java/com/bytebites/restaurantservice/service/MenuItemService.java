@@ -1,8 +1,16 @@
 package com.bytebites.restaurantservice.service;
 
+import com.bytebites.common.transaction.TransactionCallbacks;
+import com.bytebites.restaurantservice.dto.AvailabilityUpdateResponse;
 import com.bytebites.restaurantservice.dto.CreateMenuItemRequest;
+import com.bytebites.restaurantservice.dto.MenuImportError;
+import com.bytebites.restaurantservice.dto.MenuImportResponse;
+import com.bytebites.restaurantservice.dto.MenuItemAvailability;
+import com.bytebites.restaurantservice.dto.MenuItemImportRow;
 import com.bytebites.restaurantservice.dto.MenuItemResponse;
 import com.bytebites.restaurantservice.dto.UpdateMenuItemRequest;
+import com.bytebites.restaurantservice.event.RestaurantEventPublisher;
+import com.bytebites.restaurantservice.exception.MenuImportException;
 import com.bytebites.restaurantservice.exception.MenuItemNotFoundException;
 import com.bytebites.restaurantservice.exception.RestaurantNotFoundException;
 import com.bytebites.restaurantservice.exception.UnauthorizedOperationException;
@@ -12,48 +20,80 @@ import com.bytebites.restaurantservice.model.Restaurant;
 import com.bytebites.restaurantservice.repository.MenuItemRepository;
 import com.bytebites.restaurantservice.repository.RestaurantRepository;
 import com.bytebites.restaurantservice.security.SecurityService;
-
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class MenuItemService {
 
     private static final Logger logger = LoggerFactory.getLogger(MenuItemService.class);
+    private static final int MAX_IMPORT_ROWS = 1000;
 
     private final MenuItemRepository menuItemRepository;
     private final RestaurantRepository restaurantRepository;
     private final MenuItemMapper menuItemMapper;
     private final SecurityService securityService;
+    private final MenuCache menuCache;
+    private final MenuSearchService menuSearchService;
+    private final RestaurantEventPublisher restaurantEventPublisher;
+    private final Validator validator;
+    private final PayloadRenderer payloadRenderer;
+    private final RestaurantDetailCache restaurantDetailCache;
+    private final MenuAvailabilityIndex menuAvailabilityIndex;
 
     public MenuItemService(MenuItemRepository menuItemRepository,
                            RestaurantRepository restaurantRepository,
                            MenuItemMapper menuItemMapper,
-                           SecurityService securityService) {
+                           SecurityService securityService,
+                           MenuCache menuCache,
+                           MenuSearchService menuSearchService,
+                           RestaurantEventPublisher restaurantEventPublisher,
+                           Validator validator,
+                           PayloadRenderer payloadRenderer,
+                           RestaurantDetailCache restaurantDetailCache,
+                           MenuAvailabilityIndex menuAvailabilityIndex) {
         this.menuItemRepository = menuItemRepository;
         this.restaurantRepository = restaurantRepository;
         this.menuItemMapper = menuItemMapper;
         this.securityService = securityService;
+        this.menuCache = menuCache;
+        this.menuSearchService = menuSearchService;
+        this.restaurantEventPublisher = restaurantEventPublisher;
+        this.validator = validator;
+        this.payloadRenderer = payloadRenderer;
+        this.restaurantDetailCache = restaurantDetailCache;
+        this.menuAvailabilityIndex = menuAvailabilityIndex;
     }
 
     @Transactional(readOnly = true)
-    public List<MenuItemResponse> getMenuByRestaurantId(UUID restaurantId) {
-        logger.info("Fetching menu for restaurant: {}", restaurantId);
+    public MenuSnapshot loadMenuSnapshot(UUID restaurantId) {
+        logger.info("Loading menu snapshot for restaurant: {}", restaurantId);
 
-        
-        if (!restaurantRepository.existsById(restaurantId)) {
-            throw new RestaurantNotFoundException("Restaurant not found with ID: " + restaurantId);
-        }
+        long version = restaurantRepository.findMenuVersionById(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found with ID: " + restaurantId));
 
         List<MenuItem> menuItems = menuItemRepository.findByRestaurantIdOrderByCategory(restaurantId);
-        return menuItemMapper.toResponseList(menuItems);
+        return new MenuSnapshot(restaurantId, version, payloadRenderer.render(menuItemMapper.toResponseList(menuItems)));
     }
 
     @PreAuthorize("hasRole('RESTAURANT_OWNER') or hasRole('ADMIN')")
@@ -70,6 +110,9 @@ public class MenuItemService {
 
         MenuItem menuItem = menuItemMapper.toEntity(request, restaurant);
         MenuItem savedMenuItem = menuItemRepository.save(menuItem);
+        bumpMenuVersion(restaurantId);
+        menuSearchService.onMenuItemSaved(savedMenuItem);
+        restaurantEventPublisher.publishMenuItemChanged(savedMenuItem);
 
         logger.info("Menu item added successfully with ID: {}", savedMenuItem.getId());
         return menuItemMapper.toResponse(savedMenuItem);
@@ -98,6 +141,9 @@ public class MenuItemService {
 
         menuItemMapper.updateEntityFromRequest(request, menuItem);
         MenuItem updatedMenuItem = menuItemRepository.save(menuItem);
+        bumpMenuVersion(restaurantId);
+        menuSearchService.onMenuItemSaved(updatedMenuItem);
+        restaurantEventPublisher.publishMenuItemChanged(updatedMenuItem);
 
         logger.info("Menu item updated successfully: {}", menuItemId);
         return menuItemMapper.toResponse(updatedMenuItem);
@@ -115,6 +161,196 @@ public class MenuItemService {
         }
 
         menuItemRepository.delete(menuItem);
+        bumpMenuVersion(restaurantId);
+        menuSearchService.onMenuItemDeleted(menuItemId);
+        restaurantEventPublisher.publishMenuItemDeleted(restaurantId, menuItemId);
         logger.info("Menu item deleted successfully: {}", menuItemId);
     }
+
+    @PreAuthorize("hasRole('RESTAURANT_OWNER') or hasRole('ADMIN')")
+    public MenuImportResponse importMenu(UUID restaurantId, List<MenuItemImportRow> rows, UUID currentUserId) {
+        logger.info("Importing {} menu items into restaurant: {} by user: {}", rows.size(), restaurantId, currentUserId);
+
+        if (rows.isEmpty() || rows.size() > MAX_IMPORT_ROWS) {
+            throw new MenuImportException("Invalid menu import", List.of(new MenuImportError(0, null,
+                    "An import must contain between 1 and " + MAX_IMPORT_ROWS + " rows")));
+        }
+
+        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found with ID: " + restaurantId));
+
+        if (!securityService.isOwnerOrAdmin(currentUserId, restaurant.getOwnerId())) {
+            throw new UnauthorizedOperationException("You are not authorized to import menu items into this restaurant");
+        }
+
+        List<MenuItem> existing = menuItemRepository.findByRestaurantIdOrderByCategory(restaurantId);
+        Map<UUID, MenuItem> byId = existing.stream()
+                .collect(Collectors.toMap(MenuItem::getId, Function.identity()));
+        Map<String, MenuItem> byName = new HashMap<>();
+        existing.forEach(item -> byName.putIfAbsent(nameKey(item.getName()), item));
+
+        List<MenuImportError> errors = new ArrayList<>();
+        List<MenuItem> targets = new ArrayList<>(rows.size());
+        Set<UUID> seenIds = new HashSet<>();
+        Set<String> seenNames = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            int rowNumber = i + 1;
+            MenuItemImportRow row = rows.get(i);
+            for (ConstraintViolation<MenuItemImportRow> violation : validator.validate(row)) {
+                errors.add(new MenuImportError(rowNumber, violation.getPropertyPath().toString(), violation.getMessage()));
+            }
+
+            MenuItem target = null;
+            if (row.id() != null) {
+                target = byId.get(row.id());
+                if (target == null) {
+                    errors.add(new MenuImportError(rowNumber, "id", "Menu item not found in this restaurant"));
+                }
+            } else if (row.name() != null) {
+                target = byName.get(nameKey(row.name()));
+            }
+            if (target != null && !seenIds.add(target.getId())) {
+                errors.add(new MenuImportError(rowNumber, "id", "Menu item appears more than once"));
+            }
+            if (row.name() != null && !row.name().isBlank() && !seenNames.add(nameKey(row.name()))) {
+                errors.add(new MenuImportError(rowNumber, "name", "Menu item name appears more than once"));
+            }
+            targets.add(target);
+        }
+
+        if (!errors.isEmpty()) {
+            logger.warn("Rejected menu import for restaurant: {} with {} errors", restaurantId, errors.size());
+            throw new MenuImportException("Menu import contains invalid rows", errors);
+        }
+
+        List<MenuItem> created = new ArrayList<>();
+        List<MenuItem> changed = new ArrayList<>();
+        int unchanged = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            MenuItemImportRow row = rows.get(i);
+            MenuItem target = targets.get(i);
+            if (target == null) {
+                MenuItem menuItem = new MenuItem();
+                menuItem.setRestaurant(restaurant);
+                applyRow(row, menuItem);
+                created.add(menuItem);
+            } else if (applyRow(row, target)) {
+                changed.add(target);
+            } else {
+                unchanged++;
+            }
+        }
+
+        if (created.isEmpty() && changed.isEmpty()) {
+            logger.info("Menu import for restaurant: {} made no changes", restaurantId);
+            return new MenuImportResponse(restaurantId, 0, 0, unchanged);
+        }
+
+        menuItemRepository.saveAll(created);
+        List<MenuItem> saved = new ArrayList<>(created);
+        saved.addAll(changed);
+        bumpMenuVersion(restaurantId);
+        menuSearchService.onMenuItemsSaved(saved);
+        restaurantEventPublisher.publishMenuItemsChanged(restaurantId, saved);
+
+        logger.info("Menu import for restaurant: {} created {}, updated {}, unchanged {}",
+                restaurantId, created.size(), changed.size(), unchanged);
+        return new MenuImportResponse(restaurantId, created.size(), changed.size(), unchanged);
+    }
+
+    @PreAuthorize("hasRole('RESTAURANT_OWNER') or hasRole('ADMIN')")
+    public AvailabilityUpdateResponse setAvailability(UUID restaurantId, UUID menuItemId, boolean available, UUID currentUserId) {
+        AvailabilityUpdateResponse response = updateAvailability(
+                restaurantId, List.of(new MenuItemAvailability(menuItemId, available)), currentUserId);
+        if (!response.unknownMenuItemIds().isEmpty()) {
+            throw new MenuItemNotFoundException("Menu item not found");
+        }
+        return response;
+    }
+
+    @PreAuthorize("hasRole('RESTAURANT_OWNER') or hasRole('ADMIN')")
+    public AvailabilityUpdateResponse updateAvailability(UUID restaurantId, List<MenuItemAvailability> changes, UUID currentUserId) {
+        logger.info("Updating availability of {} menu items in restaurant: {} by user: {}", changes.size(), restaurantId, currentUserId);
+
+        UUID ownerId = restaurantRepository.findOwnerIdById(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found with ID: " + restaurantId));
+
+        if (!securityService.isOwnerOrAdmin(currentUserId, ownerId)) {
+            throw new UnauthorizedOperationException("You are not authorized to update menu items of this restaurant");
+        }
+
+        Map<UUID, Boolean> requested = new LinkedHashMap<>();
+        changes.forEach(change -> requested.put(change.menuItemId(), change.available()));
+        Map<UUID, Boolean> current = menuItemRepository.findAvailabilityByRestaurantIdAndIdIn(restaurantId, requested.keySet())
+                .stream()
+                .collect(Collectors.toMap(MenuItemAvailability::menuItemId, MenuItemAvailability::available));
+
+        List<UUID> unknown = new ArrayList<>();
+        List<UUID> nowAvailable = new ArrayList<>();
+        List<UUID> nowUnavailable = new ArrayList<>();
+        requested.forEach((menuItemId, available) -> {
+            Boolean was = current.get(menuItemId);
+            if (was == null) {
+                unknown.add(menuItemId);
+            } else if (!was.equals(available)) {
+                (available ? nowAvailable : nowUnavailable).add(menuItemId);
+            }
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        int changed = 0;
+        if (!nowAvailable.isEmpty()) {
+            changed += menuItemRepository.updateAvailability(restaurantId, nowAvailable, true, now);
+        }
+        if (!nowUnavailable.isEmpty()) {
+            changed += menuItemRepository.updateAvailability(restaurantId, nowUnavailable, false, now);
+        }
+
+        if (changed > 0) {
+            bumpMenuVersion(restaurantId, () -> {
+                menuAvailabilityIndex.apply(restaurantId, nowAvailable, true);
+                menuAvailabilityIndex.apply(restaurantId, nowUnavailable, false);
+            });
+            restaurantEventPublisher.publishMenuAvailabilityChanged(restaurantId, nowAvailable, nowUnavailable);
+        }
+
+        logger.info("Availability updated for restaurant: {}, changed: {}, unknown: {}", restaurantId, changed, unknown.size());
+        return new AvailabilityUpdateResponse(restaurantId, changed, unknown);
+    }
+
+    private boolean applyRow(MenuItemImportRow row, MenuItem menuItem) {
+        boolean available = row.available() == null || row.available();
+        boolean changed = !Objects.equals(menuItem.getName(), row.name())
+                || !Objects.equals(menuItem.getDescription(), row.description())
+                || menuItem.getPrice() == null || menuItem.getPrice().compareTo(row.price()) != 0
+                || !Objects.equals(menuItem.getCategory(), row.category())
+                || !Objects.equals(menuItem.getAvailable(), available)
+                || !Objects.equals(menuItem.getImageUrl(), row.imageUrl());
+        if (changed) {
+            menuItem.setName(row.name());
+            menuItem.setDescription(row.description());
+            menuItem.setPrice(row.price());
+            menuItem.setCategory(row.category());
+            menuItem.setAvailable(available);
+            menuItem.setImageUrl(row.imageUrl());
+        }
+        return changed;
+    }
+
+    private static String nameKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void bumpMenuVersion(UUID restaurantId) {
+        bumpMenuVersion(restaurantId, () -> menuAvailabilityIndex.invalidate(restaurantId));
+    }
+
+    private void bumpMenuVersion(UUID restaurantId, Runnable availabilityUpdate) {
+        restaurantRepository.incrementMenuVersion(restaurantId);
+        TransactionCallbacks.afterCommit(() -> {
+            menuCache.invalidate(restaurantId);
+            restaurantDetailCache.invalidate(restaurantId);
+            availabilityUpdate.run();
+        });
+    }
 }
\ No newline at end of file
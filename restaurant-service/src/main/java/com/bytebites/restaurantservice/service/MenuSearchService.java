@@ -0,0 +1,173 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.common.transaction.TransactionCallbacks;
+import com.bytebites.restaurantservice.dto.MenuItemSearchHit;
+import com.bytebites.restaurantservice.dto.RestaurantSearchHit;
+import com.bytebites.restaurantservice.dto.SearchResponse;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.bytebites.restaurantservice.repository.MenuItemRepository;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import com.bytebites.restaurantservice.search.MenuItemDocument;
+import com.bytebites.restaurantservice.search.MenuSearchIndex;
+import com.bytebites.restaurantservice.search.RestaurantDocument;
+import com.bytebites.restaurantservice.search.SearchQuery;
+import com.bytebites.restaurantservice.search.SearchResults;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Service
+public class MenuSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuSearchService.class);
+
+    private final RestaurantRepository restaurantRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration refreshOverlap;
+    private final Timer searchTimer;
+
+    private volatile MenuSearchIndex index = new MenuSearchIndex();
+    private volatile Set<UUID> removedDuringRebuild;
+    private volatile LocalDateTime lastRefresh;
+
+    public MenuSearchService(RestaurantRepository restaurantRepository,
+                             MenuItemRepository menuItemRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${bytebites.search.refresh-overlap:1m}") Duration refreshOverlap) {
+        this.restaurantRepository = restaurantRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.refreshOverlap = refreshOverlap;
+        this.searchTimer = Timer.builder("menu_search_latency")
+                .description("Time to answer a search against the in-memory index")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("menu_search_index_documents", this, service -> service.index.size())
+                .description("Restaurants and menu items held in the search index")
+                .register(meterRegistry);
+    }
+
+    public SearchResponse search(SearchQuery query) {
+        SearchResults results = searchTimer.record(() -> index.search(query));
+        return new SearchResponse(
+                results.restaurants().stream()
+                        .map(hit -> new RestaurantSearchHit(hit.document().id(), hit.document().name(),
+                                hit.document().description(), hit.score()))
+                        .toList(),
+                results.menuItems().stream()
+                        .map(hit -> new MenuItemSearchHit(hit.document().id(), hit.document().restaurantId(),
+                                hit.document().name(), hit.document().description(), hit.document().category(),
+                                hit.document().price(), hit.document().available(), hit.score()))
+                        .toList());
+    }
+
+    public void onRestaurantSaved(Restaurant restaurant) {
+        RestaurantDocument document = new RestaurantDocument(
+                restaurant.getId(), restaurant.getName(), restaurant.getDescription(), restaurant.getStatus());
+        TransactionCallbacks.afterCommit(() -> index.indexRestaurant(document));
+    }
+
+    public void onMenuItemSaved(MenuItem menuItem) {
+        MenuItemDocument document = new MenuItemDocument(
+                menuItem.getId(), menuItem.getRestaurant().getId(), menuItem.getName(), menuItem.getDescription(),
+                menuItem.getCategory(), menuItem.getPrice(), menuItem.getAvailable());
+        TransactionCallbacks.afterCommit(() -> index.indexMenuItem(document));
+    }
+
+    public void onMenuItemsSaved(List<MenuItem> menuItems) {
+        List<MenuItemDocument> documents = menuItems.stream()
+                .map(menuItem -> new MenuItemDocument(
+                        menuItem.getId(), menuItem.getRestaurant().getId(), menuItem.getName(), menuItem.getDescription(),
+                        menuItem.getCategory(), menuItem.getPrice(), menuItem.getAvailable()))
+                .toList();
+        TransactionCallbacks.afterCommit(() -> documents.forEach(index::indexMenuItem));
+    }
+
+    public void onMenuItemDeleted(UUID menuItemId) {
+        TransactionCallbacks.afterCommit(() -> {
+            index.removeMenuItem(menuItemId);
+            Set<UUID> pending = removedDuringRebuild;
+            if (pending != null) {
+                pending.add(menuItemId);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${bytebites.search.rebuild-interval:15m}",
+            initialDelayString = "${bytebites.search.rebuild-interval:15m}")
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+        Set<UUID> removed = ConcurrentHashMap.newKeySet();
+        removedDuringRebuild = removed;
+
+        MenuSearchIndex fresh = new MenuSearchIndex();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<RestaurantDocument> restaurants = restaurantRepository.streamSearchDocuments()) {
+                    restaurants.forEach(fresh::indexRestaurant);
+                }
+                try (Stream<MenuItemDocument> menuItems = menuItemRepository.streamSearchDocuments()) {
+                    menuItems.forEach(fresh::indexMenuItem);
+                }
+            });
+        } catch (RuntimeException e) {
+            removedDuringRebuild = null;
+            logger.error("Failed to rebuild search index: {}", e.getMessage(), e);
+            return;
+        }
+
+        removedDuringRebuild = null;
+        removed.forEach(fresh::removeMenuItem);
+        index = fresh;
+        lastRefresh = startedAt;
+        logger.info("Rebuilt search index with {} documents in {} ms",
+                fresh.size(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${bytebites.search.refresh-interval:30s}")
+    public synchronized void refresh() {
+        if (lastRefresh == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastRefresh.minus(refreshOverlap);
+        MenuSearchIndex current = index;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                restaurantRepository.findSearchDocumentsUpdatedSince(since).forEach(current::indexRestaurant);
+                menuItemRepository.findSearchDocumentsUpdatedSince(since).forEach(current::indexMenuItem);
+            });
+            lastRefresh = startedAt;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to refresh search index: {}", e.getMessage());
+        }
+    }
+}
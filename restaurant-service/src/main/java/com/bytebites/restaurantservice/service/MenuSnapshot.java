@@ -0,0 +1,29 @@
+package com.bytebites.restaurantservice.service;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+public record MenuSnapshot(UUID restaurantId, long version, RenderedPayload body) {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    public String etag() {
+        return "\"" + restaurantId + "-" + version + "\"";
+    }
+
+    public String etag(boolean gzipped) {
+        return gzipped ? "\"" + restaurantId + "-" + version + GZIP_SUFFIX + "\"" : etag();
+    }
+
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String etag = etag();
+        String gzipEtag = etag(true);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag));
+    }
+}
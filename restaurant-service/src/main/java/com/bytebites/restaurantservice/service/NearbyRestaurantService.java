@@ -0,0 +1,134 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.common.transaction.TransactionCallbacks;
+import com.bytebites.restaurantservice.dto.NearbyRestaurantResponse;
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+import com.bytebites.restaurantservice.exception.InvalidLocationException;
+import com.bytebites.restaurantservice.geo.GeoGridIndex;
+import com.bytebites.restaurantservice.geo.GeoPoint;
+import com.bytebites.restaurantservice.geo.NearbyHit;
+import com.bytebites.restaurantservice.geo.RestaurantLocation;
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class NearbyRestaurantService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearbyRestaurantService.class);
+
+    private final RestaurantRepository restaurantRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final double cellDegrees;
+    private final double maxRadiusKm;
+    private final Duration refreshOverlap;
+    private final Timer queryTimer;
+
+    private volatile GeoGridIndex index;
+    private volatile LocalDateTime lastRefresh;
+
+    public NearbyRestaurantService(RestaurantRepository restaurantRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${bytebites.geo.cell-degrees:0.02}") double cellDegrees,
+                                   @Value("${bytebites.geo.max-radius-km:50}") double maxRadiusKm,
+                                   @Value("${bytebites.geo.refresh-overlap:1m}") Duration refreshOverlap) {
+        this.restaurantRepository = restaurantRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cellDegrees = cellDegrees;
+        this.maxRadiusKm = maxRadiusKm;
+        this.refreshOverlap = refreshOverlap;
+        this.index = new GeoGridIndex(cellDegrees);
+        this.queryTimer = Timer.builder("restaurant_nearby_latency")
+                .description("Time to answer a nearby-restaurants query against the grid index")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("restaurant_nearby_index_size", this, service -> service.index.size())
+                .description("Active restaurants with coordinates held in the grid index")
+                .register(meterRegistry);
+    }
+
+    public List<NearbyRestaurantResponse> findNearby(double latitude, double longitude, Double radiusKm, int limit) {
+        if (radiusKm != null && !(radiusKm > 0)) {
+            throw new InvalidLocationException("Radius must be positive: " + radiusKm);
+        }
+        GeoPoint center = new GeoPoint(latitude, longitude);
+        List<NearbyHit> hits = queryTimer.record(() -> radiusKm != null
+                ? index.withinRadius(center, Math.min(radiusKm, maxRadiusKm), limit)
+                : index.nearest(center, limit, maxRadiusKm));
+
+        return hits.stream()
+                .map(hit -> new NearbyRestaurantResponse(hit.location().id(), hit.location().name(),
+                        hit.location().address(), hit.location().latitude(), hit.location().longitude(),
+                        hit.distanceKm()))
+                .toList();
+    }
+
+    public void onRestaurantSaved(Restaurant restaurant) {
+        RestaurantLocation location = new RestaurantLocation(restaurant.getId(), restaurant.getName(),
+                restaurant.getAddress(), restaurant.getLatitude(), restaurant.getLongitude(), restaurant.getStatus());
+        TransactionCallbacks.afterCommit(() -> index.put(location));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${bytebites.geo.rebuild-interval:15m}",
+            initialDelayString = "${bytebites.geo.rebuild-interval:15m}")
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        GeoGridIndex fresh = new GeoGridIndex(cellDegrees);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<RestaurantLocation> locations =
+                             restaurantRepository.streamLocationsByStatus(RestaurantStatus.ACTIVE)) {
+                    locations.forEach(fresh::put);
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.error("Failed to rebuild nearby index: {}", e.getMessage(), e);
+            return;
+        }
+
+        index = fresh;
+        lastRefresh = startedAt;
+        logger.info("Rebuilt nearby index with {} restaurants", fresh.size());
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${bytebites.geo.refresh-interval:30s}")
+    public synchronized void refresh() {
+        if (lastRefresh == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastRefresh.minus(refreshOverlap);
+        GeoGridIndex current = index;
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    restaurantRepository.findLocationsUpdatedSince(since).forEach(current::put));
+            lastRefresh = startedAt;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to refresh nearby index: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.bytebites.restaurantservice.service;
+
+import java.util.Locale;
+
+public record RenderedPayload(byte[] json, byte[] gzip) {
+
+    public boolean servesGzip(String acceptEncoding) {
+        return gzip != null && acceptsGzip(acceptEncoding);
+    }
+
+    public byte[] bytes(boolean gzipped) {
+        return gzipped ? gzip : json;
+    }
+
+    public int size() {
+        return json.length + (gzip == null ? 0 : gzip.length);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim().toLowerCase(Locale.ROOT);
+                if (param.startsWith("q=")) {
+                    quality = parseQuality(param.substring(2));
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    private static double parseQuality(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.bytebites.restaurantservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class RestaurantDetailCache {
+
+    private final ExpiringCache<UUID, RenderedPayload> entries;
+
+    public RestaurantDetailCache(MeterRegistry meterRegistry,
+                                 @Value("${bytebites.menu.cache.ttl:30s}") Duration ttl,
+                                 @Value("${bytebites.menu.cache.max-entries:500}") int maxEntries) {
+        this.entries = new ExpiringCache<>(ttl, maxEntries,
+                Counter.builder("restaurant_detail_cache_requests_total")
+                        .description("Restaurant detail lookups served from the in-memory cache")
+                        .tag("result", "hit")
+                        .register(meterRegistry),
+                Counter.builder("restaurant_detail_cache_requests_total")
+                        .description("Restaurant detail lookups served from the in-memory cache")
+                        .tag("result", "miss")
+                        .register(meterRegistry));
+
+        Gauge.builder("restaurant_detail_cache_hit_ratio", entries, ExpiringCache::hitRatio)
+                .description("Fraction of restaurant detail lookups served from the cache")
+                .register(meterRegistry);
+    }
+
+    public RenderedPayload get(UUID restaurantId, Function<UUID, RenderedPayload> loader) {
+        return entries.get(restaurantId, loader);
+    }
+
+    public void invalidate(UUID restaurantId) {
+        entries.invalidate(restaurantId);
+    }
+}
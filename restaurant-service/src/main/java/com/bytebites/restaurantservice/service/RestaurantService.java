@@ -1,11 +1,17 @@
 package com.bytebites.restaurantservice.service;
 
+import com.bytebites.common.transaction.TransactionCallbacks;
 import com.bytebites.restaurantservice.dto.CreateRestaurantRequest;
+import com.bytebites.restaurantservice.dto.RestaurantCursor;
 import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.dto.RestaurantSummaryPage;
+import com.bytebites.restaurantservice.dto.RestaurantSummaryResponse;
 import com.bytebites.restaurantservice.dto.UpdateRestaurantRequest;
 import com.bytebites.restaurantservice.enums.RestaurantStatus;
 import com.bytebites.restaurantservice.event.RestaurantEventPublisher;
 import com.bytebites.restaurantservice.exception.RestaurantAlreadyExit;
+import com.bytebites.restaurantservice.geo.GeoPoint;
+import com.bytebites.restaurantservice.geo.Geocoder;
 import com.bytebites.restaurantservice.exception.RestaurantNotFoundException;
 import com.bytebites.restaurantservice.exception.UnauthorizedOperationException;
 import com.bytebites.restaurantservice.mapper.RestaurantMapper;
@@ -16,12 +22,17 @@ import com.bytebites.restaurantservice.security.SecurityService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -29,47 +40,84 @@ import java.util.UUID;
 public class RestaurantService {
 
     private static final Logger logger = LoggerFactory.getLogger(RestaurantService.class);
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final RestaurantRepository restaurantRepository;
     private final RestaurantMapper restaurantMapper;
     private final SecurityService securityService;
     private final RestaurantEventPublisher restaurantEventPublisher;
+    private final MenuSearchService menuSearchService;
+    private final NearbyRestaurantService nearbyRestaurantService;
+    private final Geocoder geocoder;
+    private final RestaurantDetailCache restaurantDetailCache;
+    private final TransactionTemplate writeTransaction;
 
     public RestaurantService(RestaurantRepository restaurantRepository,
                              RestaurantMapper restaurantMapper,
                              SecurityService securityService,
-                             RestaurantEventPublisher restaurantEventPublisher) {
+                             RestaurantEventPublisher restaurantEventPublisher,
+                             MenuSearchService menuSearchService,
+                             NearbyRestaurantService nearbyRestaurantService,
+                             Geocoder geocoder,
+                             RestaurantDetailCache restaurantDetailCache,
+                             PlatformTransactionManager transactionManager) {
         this.restaurantRepository = restaurantRepository;
         this.restaurantMapper = restaurantMapper;
         this.securityService = securityService;
         this.restaurantEventPublisher = restaurantEventPublisher;
+        this.menuSearchService = menuSearchService;
+        this.nearbyRestaurantService = nearbyRestaurantService;
+        this.geocoder = geocoder;
+        this.restaurantDetailCache = restaurantDetailCache;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
     }
 
+    // The geocoder is a remote lookup, so it runs before the write transaction instead of holding a connection open.
     @PreAuthorize("hasRole('RESTAURANT_OWNER') or hasRole('ADMIN')")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RestaurantResponse createRestaurant(CreateRestaurantRequest request, UUID ownerId) {
         logger.info("Creating restaurant: {} for owner: {}", request.name(), ownerId);
 
+        Optional<GeoPoint> location = geocoder.geocode(request.address());
+        return writeTransaction.execute(status -> {
+            if (restaurantRepository.existsByOwnerIdAndName(ownerId, request.name())){
+                throw new RestaurantAlreadyExit("Restaurant already exists for this owner");
+            }
 
-        if (restaurantRepository.existsByOwnerIdAndName(ownerId, request.name())){
-            throw new RestaurantAlreadyExit("Restaurant already exists for this owner");
-        }
-
-        Restaurant restaurant = restaurantMapper.toEntity(request, ownerId);
-        restaurant.setStatus(RestaurantStatus.PENDING_APPROVAL);
-        Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+            Restaurant restaurant = restaurantMapper.toEntity(request, ownerId);
+            restaurant.setStatus(RestaurantStatus.PENDING_APPROVAL);
+            applyLocation(restaurant, location);
+            Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+            menuSearchService.onRestaurantSaved(savedRestaurant);
+            nearbyRestaurantService.onRestaurantSaved(savedRestaurant);
 
-        restaurantEventPublisher.publishRestaurantCreatedEvent(savedRestaurant);
+            restaurantEventPublisher.publishRestaurantCreatedEvent(savedRestaurant);
 
-        logger.info("Restaurant created successfully with ID: {}", savedRestaurant.getId());
-        return restaurantMapper.toResponse(savedRestaurant);
+            logger.info("Restaurant created successfully with ID: {}", savedRestaurant.getId());
+            return restaurantMapper.toResponse(savedRestaurant);
+        });
     }
 
     @Transactional(readOnly = true)
-    public List<RestaurantResponse> getAllActiveRestaurants() {
-        logger.info("Fetching all active restaurants");
+    public RestaurantSummaryPage getActiveRestaurantSummaries(String cursor, int size) {
+        logger.info("Fetching active restaurant summaries after cursor: {}", cursor);
+
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<RestaurantSummaryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = restaurantRepository.findSummariesByStatus(RestaurantStatus.ACTIVE, limit);
+        } else {
+            RestaurantCursor after = RestaurantCursor.decode(cursor);
+            rows = restaurantRepository.findSummariesByStatusAfter(
+                    RestaurantStatus.ACTIVE, after.createdAt(), after.id(), limit);
+        }
 
-        List<Restaurant> restaurants = restaurantRepository.findActiveRestaurantsOrderByCreatedAt(RestaurantStatus.ACTIVE);
-        return restaurantMapper.toResponseList(restaurants);
+        if (rows.size() <= pageSize) {
+            return new RestaurantSummaryPage(rows, null);
+        }
+        List<RestaurantSummaryResponse> page = rows.subList(0, pageSize);
+        return new RestaurantSummaryPage(List.copyOf(page), RestaurantCursor.after(page.get(pageSize - 1)).encode());
     }
 
     @Transactional(readOnly = true)
@@ -98,22 +146,36 @@ public class RestaurantService {
         return restaurantMapper.toResponseList(restaurants);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RestaurantResponse updateRestaurant(UUID id, UpdateRestaurantRequest request, UUID currentUserId) {
         logger.info("Updating restaurant: {} by user: {}", id, currentUserId);
 
-        Restaurant restaurant = restaurantRepository.findById(id)
-                .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found with ID: " + id));
-
-
-        if (!securityService.isOwnerOrAdmin(currentUserId, restaurant.getOwnerId())) {
-            throw new UnauthorizedOperationException("You are not authorized to update this restaurant");
-        }
-
-        restaurantMapper.updateEntityFromRequest(request, restaurant);
-        Restaurant updatedRestaurant = restaurantRepository.save(restaurant);
-
-        logger.info("Restaurant updated successfully: {}", id);
-        return restaurantMapper.toResponse(updatedRestaurant);
+        Optional<GeoPoint> location = request.address() != null
+                ? geocoder.geocode(request.address())
+                : Optional.empty();
+        return writeTransaction.execute(status -> {
+            Restaurant restaurant = restaurantRepository.findById(id)
+                    .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found with ID: " + id));
+
+
+            if (!securityService.isOwnerOrAdmin(currentUserId, restaurant.getOwnerId())) {
+                throw new UnauthorizedOperationException("You are not authorized to update this restaurant");
+            }
+
+            String previousAddress = restaurant.getAddress();
+            restaurantMapper.updateEntityFromRequest(request, restaurant);
+            if (!restaurant.getAddress().equals(previousAddress)) {
+                applyLocation(restaurant, location);
+            }
+            Restaurant updatedRestaurant = restaurantRepository.save(restaurant);
+            menuSearchService.onRestaurantSaved(updatedRestaurant);
+            nearbyRestaurantService.onRestaurantSaved(updatedRestaurant);
+            evictDetail(id);
+            restaurantEventPublisher.publishRestaurantUpdated(updatedRestaurant);
+
+            logger.info("Restaurant updated successfully: {}", id);
+            return restaurantMapper.toResponse(updatedRestaurant);
+        });
     }
 
 
@@ -127,9 +189,15 @@ public class RestaurantService {
             throw new UnauthorizedOperationException("Only administrators can update restaurant status");
         }
 
+        RestaurantStatus previousStatus = restaurant.getStatus();
         restaurantMapper.updateEntityFromRequest(request, restaurant);
         restaurant.setStatus(RestaurantStatus.ACTIVE);
         Restaurant updatedRestaurant = restaurantRepository.save(restaurant);
+        menuSearchService.onRestaurantSaved(updatedRestaurant);
+        nearbyRestaurantService.onRestaurantSaved(updatedRestaurant);
+        evictDetail(id);
+        restaurantEventPublisher.publishRestaurantUpdated(updatedRestaurant);
+        restaurantEventPublisher.publishRestaurantStatusChanged(updatedRestaurant, previousStatus);
 
         logger.info("Restaurant updated successfully: {}", id);
         return restaurantMapper.toResponse(updatedRestaurant);
@@ -147,9 +215,29 @@ public class RestaurantService {
         }
 
 
+        RestaurantStatus previousStatus = restaurant.getStatus();
         restaurant.setStatus(RestaurantStatus.INACTIVE);
         restaurantRepository.save(restaurant);
+        menuSearchService.onRestaurantSaved(restaurant);
+        nearbyRestaurantService.onRestaurantSaved(restaurant);
+        evictDetail(id);
+        restaurantEventPublisher.publishRestaurantStatusChanged(restaurant, previousStatus);
 
         logger.info("Restaurant soft deleted successfully: {}", id);
     }
+
+    private void evictDetail(UUID id) {
+        TransactionCallbacks.afterCommit(() -> restaurantDetailCache.invalidate(id));
+    }
+
+    private void applyLocation(Restaurant restaurant, Optional<GeoPoint> location) {
+        location.ifPresentOrElse(point -> {
+            restaurant.setLatitude(point.latitude());
+            restaurant.setLongitude(point.longitude());
+        }, () -> {
+            logger.warn("Could not geocode address for restaurant: {}", restaurant.getName());
+            restaurant.setLatitude(null);
+            restaurant.setLongitude(null);
+        });
+    }
 }
\ No newline at end of file
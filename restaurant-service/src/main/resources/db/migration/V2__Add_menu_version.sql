@@ -0,0 +1 @@
+ALTER TABLE restaurants ADD COLUMN menu_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1 @@
+CREATE INDEX idx_restaurants_status_created_id ON restaurants(status, created_at DESC, id DESC);
@@ -0,0 +1,2 @@
+CREATE INDEX idx_restaurants_updated_at ON restaurants(updated_at);
+CREATE INDEX idx_menu_items_updated_at ON menu_items(updated_at);
@@ -0,0 +1,2 @@
+ALTER TABLE restaurants ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE restaurants ADD COLUMN longitude DOUBLE PRECISION;
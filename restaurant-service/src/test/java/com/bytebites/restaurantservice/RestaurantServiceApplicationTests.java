@@ -7,7 +7,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
 @ActiveProfiles("test")
-@EmbeddedKafka(partitions = 1, topics = {"restaurant-events"})
+@EmbeddedKafka(partitions = 1, topics = {"restaurant-events", "restaurant-menu-events"})
 class RestaurantServiceApplicationTests {
 
     @Test
@@ -1,6 +1,9 @@
 package com.bytebites.restaurantservice.controller;
 
 import com.bytebites.restaurantservice.dto.CreateRestaurantRequest;
+import com.bytebites.restaurantservice.service.NearbyRestaurantService;
+import com.bytebites.restaurantservice.service.PayloadRenderer;
+import com.bytebites.restaurantservice.service.RestaurantDetailCache;
 import com.bytebites.restaurantservice.service.RestaurantService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,12 +28,22 @@ class RestaurantControllerTest {
     @Mock
     private RestaurantService restaurantService;
 
+    @Mock
+    private NearbyRestaurantService nearbyRestaurantService;
+
+    @Mock
+    private RestaurantDetailCache restaurantDetailCache;
+
+    @Mock
+    private PayloadRenderer payloadRenderer;
+
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        RestaurantController restaurantController = new RestaurantController(restaurantService);
+        RestaurantController restaurantController = new RestaurantController(restaurantService, nearbyRestaurantService,
+                restaurantDetailCache, payloadRenderer);
         mockMvc = MockMvcBuilders
                 .standaloneSetup(restaurantController)
                 .build();
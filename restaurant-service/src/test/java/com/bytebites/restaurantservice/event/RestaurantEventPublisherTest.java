@@ -0,0 +1,103 @@
+package com.bytebites.restaurantservice.event;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantEventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private RestaurantSnapshotPublisher restaurantSnapshotPublisher;
+
+    private RestaurantEventPublisher publisher;
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new RestaurantEventPublisher(kafkaTemplate, "restaurant-events", "restaurant-menu-events",
+                restaurantSnapshotPublisher);
+        restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+        restaurant.setStatus(RestaurantStatus.ACTIVE);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.unbindResourceIfPossible(publisher);
+    }
+
+    @Test
+    void shouldPublishCollapsedBatchOnlyAfterCommit() {
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        MenuItem item = menuItem();
+
+        publisher.publishMenuItemChanged(item);
+        item.setPrice(new BigDecimal("14.00"));
+        publisher.publishMenuItemChanged(item);
+        publisher.publishMenuItemDeleted(restaurant.getId(), item.getId());
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+
+        commit();
+
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(1)).send(eq("restaurant-menu-events"), eq(restaurant.getId().toString()), event.capture());
+        assertThat(event.getValue()).isInstanceOf(MenuItemDeletedEvent.class);
+    }
+
+    @Test
+    void shouldDropStatusChangesThatRevertWithinTransaction() {
+        publisher.publishRestaurantStatusChanged(restaurant, RestaurantStatus.PENDING_APPROVAL);
+        restaurant.setStatus(RestaurantStatus.PENDING_APPROVAL);
+        publisher.publishRestaurantStatusChanged(restaurant, RestaurantStatus.ACTIVE);
+
+        commit();
+
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private MenuItem menuItem() {
+        MenuItem item = new MenuItem();
+        item.setId(UUID.randomUUID());
+        item.setRestaurant(restaurant);
+        item.setName("Jollof Rice");
+        item.setPrice(new BigDecimal("12.50"));
+        item.setCategory("Mains");
+        item.setAvailable(true);
+        return item;
+    }
+}
@@ -0,0 +1,67 @@
+package com.bytebites.restaurantservice.geo;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoGridIndexTest {
+
+    private static final GeoPoint ACCRA = new GeoPoint(5.6037, -0.1870);
+
+    private GeoGridIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GeoGridIndex(0.02);
+    }
+
+    @Test
+    void withinRadius_ShouldReturnOnlyActiveRestaurantsInsideTheCircle_SortedByDistance() {
+        UUID near = put(5.6040, -0.1870, RestaurantStatus.ACTIVE);
+        UUID further = put(5.6300, -0.1870, RestaurantStatus.ACTIVE);
+        put(5.6041, -0.1871, RestaurantStatus.PENDING_APPROVAL);
+        put(5.9000, -0.1870, RestaurantStatus.ACTIVE);
+
+        List<NearbyHit> hits = index.withinRadius(ACCRA, 5, 10);
+
+        assertThat(hits).extracting(hit -> hit.location().id()).containsExactly(near, further);
+        assertThat(hits.get(1).distanceKm()).isBetween(2.8, 3.0);
+    }
+
+    @Test
+    void nearest_ShouldExpandUntilKFound_AndHonourMovesAndRemovals() {
+        UUID far = put(5.9000, -0.1870, RestaurantStatus.ACTIVE);
+        UUID moved = put(6.5000, -0.1870, RestaurantStatus.ACTIVE);
+
+        assertThat(index.nearest(ACCRA, 1, 50)).extracting(hit -> hit.location().id()).containsExactly(far);
+
+        index.put(location(moved, 5.6100, -0.1870, RestaurantStatus.ACTIVE));
+        assertThat(index.nearest(ACCRA, 2, 50)).extracting(hit -> hit.location().id()).containsExactly(moved, far);
+
+        index.remove(moved);
+        assertThat(index.nearest(ACCRA, 2, 50)).extracting(hit -> hit.location().id()).containsExactly(far);
+    }
+
+    @Test
+    void withinRadius_ShouldWrapAcrossTheAntimeridian() {
+        UUID east = put(0, 179.99, RestaurantStatus.ACTIVE);
+
+        assertThat(index.withinRadius(new GeoPoint(0, -179.99), 5, 10))
+                .extracting(hit -> hit.location().id()).containsExactly(east);
+    }
+
+    private UUID put(double latitude, double longitude, RestaurantStatus status) {
+        UUID id = UUID.randomUUID();
+        index.put(location(id, latitude, longitude, status));
+        return id;
+    }
+
+    private static RestaurantLocation location(UUID id, double latitude, double longitude, RestaurantStatus status) {
+        return new RestaurantLocation(id, "Restaurant", "Somewhere", latitude, longitude, status);
+    }
+}
@@ -0,0 +1,78 @@
+package com.bytebites.restaurantservice.search;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuSearchIndexTest {
+
+    private MenuSearchIndex index;
+    private UUID activeRestaurant;
+    private UUID inactiveRestaurant;
+
+    @BeforeEach
+    void setUp() {
+        index = new MenuSearchIndex();
+        activeRestaurant = UUID.randomUUID();
+        inactiveRestaurant = UUID.randomUUID();
+        index.indexRestaurant(new RestaurantDocument(activeRestaurant, "Pizza Palace", "Wood fired pizza", RestaurantStatus.ACTIVE));
+        index.indexRestaurant(new RestaurantDocument(inactiveRestaurant, "Closed Pizzeria", null, RestaurantStatus.INACTIVE));
+    }
+
+    @Test
+    void search_ShouldMatchPrefixesAndSingleTypos() {
+        UUID margherita = item(activeRestaurant, "Margherita Pizza", "Pizza", "11.00", true);
+
+        assertThat(ids(index.search(query("marg")))).containsExactly(margherita);
+        assertThat(ids(index.search(query("margerita")))).containsExactly(margherita);
+        assertThat(ids(index.search(query("pizza margherita")))).containsExactly(margherita);
+        assertThat(index.search(query("pizza")).restaurants())
+                .extracting(hit -> hit.document().id())
+                .containsExactly(activeRestaurant);
+    }
+
+    @Test
+    void search_ShouldApplyFiltersAndHideInactiveRestaurants() {
+        UUID cheap = item(activeRestaurant, "Garlic Bread", "Sides", "4.50", true);
+        item(activeRestaurant, "Garlic Prawns", "Starters", "12.00", true);
+        item(activeRestaurant, "Garlic Knots", "Sides", "5.00", false);
+        item(inactiveRestaurant, "Garlic Bread", "Sides", "3.00", true);
+
+        SearchQuery filtered = new SearchQuery("garlic", "sides", true, null, new BigDecimal("10"), 10);
+
+        assertThat(ids(index.search(filtered))).containsExactly(cheap);
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDescriptionMatches_AndForgetRemovedItems() {
+        UUID byName = item(activeRestaurant, "Chicken Burger", "Burgers", "9.00", true);
+        UUID byDescription = UUID.randomUUID();
+        index.indexMenuItem(new MenuItemDocument(byDescription, activeRestaurant, "House Special", "with chicken",
+                "Mains", new BigDecimal("15.00"), true));
+
+        assertThat(ids(index.search(query("chicken")))).containsExactly(byName, byDescription);
+
+        index.removeMenuItem(byName);
+        assertThat(ids(index.search(query("chicken")))).containsExactly(byDescription);
+    }
+
+    private UUID item(UUID restaurantId, String name, String category, String price, boolean available) {
+        UUID id = UUID.randomUUID();
+        index.indexMenuItem(new MenuItemDocument(id, restaurantId, name, null, category, new BigDecimal(price), available));
+        return id;
+    }
+
+    private static SearchQuery query(String text) {
+        return new SearchQuery(text, null, false, null, null, 10);
+    }
+
+    private static List<UUID> ids(SearchResults results) {
+        return results.menuItems().stream().map(hit -> hit.document().id()).toList();
+    }
+}
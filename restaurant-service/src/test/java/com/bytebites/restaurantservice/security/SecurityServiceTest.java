@@ -0,0 +1,68 @@
+package com.bytebites.restaurantservice.security;
+
+import com.bytebites.restaurantservice.client.UserServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityServiceTest {
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SecurityService securityService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RoleDirectory roleDirectory = new RoleDirectory(userServiceClient, meterRegistry, Duration.ofMinutes(1), 100);
+        securityService = new SecurityService(roleDirectory, meterRegistry);
+        userId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void isAdmin_ShouldUseAuthenticatedAuthoritiesWithoutRemoteCall() {
+        SecurityContextHolder.getContext().setAuthentication(new PreAuthenticatedAuthenticationToken(
+                userId.toString(), "ROLE_ADMIN", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        assertThat(securityService.isOwnerOrAdmin(userId, UUID.randomUUID())).isTrue();
+        verify(userServiceClient, never()).getUserRoles(any());
+    }
+
+    @Test
+    void isAdmin_ShouldCacheRemoteLookupsForOtherUsers() {
+        when(userServiceClient.getUserRoles(userId)).thenReturn(List.of("ROLE_CUSTOMER"));
+
+        assertThat(securityService.isAdmin(userId)).isFalse();
+        assertThat(securityService.isAdmin(userId)).isFalse();
+
+        verify(userServiceClient, times(1)).getUserRoles(userId);
+        assertThat(meterRegistry.get("role_cache_hit_ratio").gauge().value()).isEqualTo(0.5);
+    }
+}
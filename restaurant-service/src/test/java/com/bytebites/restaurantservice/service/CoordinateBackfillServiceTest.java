@@ -0,0 +1,87 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.enums.RestaurantStatus;
+import com.bytebites.restaurantservice.geo.GeoPoint;
+import com.bytebites.restaurantservice.geo.Geocoder;
+import com.bytebites.restaurantservice.geo.RestaurantLocation;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoordinateBackfillServiceTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private Geocoder geocoder;
+
+    @Mock
+    private RestaurantDetailCache restaurantDetailCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CoordinateBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        backfillService = new CoordinateBackfillService(restaurantRepository, geocoder, restaurantDetailCache,
+                transactionManager, 2);
+    }
+
+    @Test
+    void backfill_ShouldPageThroughMissingRows_AndSkipUnresolvedAddresses() {
+        RestaurantLocation first = location(new UUID(0L, 1L), "1 Oxford St");
+        RestaurantLocation unresolved = location(new UUID(0L, 2L), "nowhere");
+        RestaurantLocation last = location(new UUID(0L, 3L), "3 Ring Rd");
+        when(geocoder.isEnabled()).thenReturn(true);
+        when(restaurantRepository.findLocationsMissingCoordinatesAfter(eq(new UUID(0L, 0L)), any(Pageable.class)))
+                .thenReturn(List.of(first, unresolved));
+        when(restaurantRepository.findLocationsMissingCoordinatesAfter(eq(unresolved.id()), any(Pageable.class)))
+                .thenReturn(List.of(last));
+        when(geocoder.geocode("1 Oxford St")).thenReturn(Optional.of(new GeoPoint(5.60, -0.18)));
+        when(geocoder.geocode("nowhere")).thenReturn(Optional.empty());
+        when(geocoder.geocode("3 Ring Rd")).thenReturn(Optional.of(new GeoPoint(5.61, -0.19)));
+        when(restaurantRepository.fillMissingCoordinates(any(), anyDouble(), anyDouble(), any())).thenReturn(1);
+
+        backfillService.backfill();
+
+        verify(restaurantRepository).fillMissingCoordinates(eq(first.id()), eq(5.60), eq(-0.18), any());
+        verify(restaurantRepository).fillMissingCoordinates(eq(last.id()), eq(5.61), eq(-0.19), any());
+        verify(restaurantRepository, never()).fillMissingCoordinates(eq(unresolved.id()), anyDouble(), anyDouble(), any());
+        verify(restaurantDetailCache).invalidate(first.id());
+        verify(restaurantDetailCache).invalidate(last.id());
+    }
+
+    @Test
+    void backfill_ShouldDoNothing_WhenGeocoderIsDisabled() {
+        when(geocoder.isEnabled()).thenReturn(false);
+
+        backfillService.backfill();
+
+        verifyNoInteractions(restaurantRepository, restaurantDetailCache);
+    }
+
+    private static RestaurantLocation location(UUID id, String address) {
+        return new RestaurantLocation(id, "Restaurant " + id, address, null, null, RestaurantStatus.ACTIVE);
+    }
+}
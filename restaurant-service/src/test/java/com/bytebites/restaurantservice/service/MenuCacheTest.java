@@ -0,0 +1,63 @@
+package com.bytebites.restaurantservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuCacheTest {
+
+    private static final RenderedPayload EMPTY = new RenderedPayload(new byte[0], null);
+
+    private SimpleMeterRegistry meterRegistry;
+    private MenuCache menuCache;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        menuCache = new MenuCache(meterRegistry, Duration.ofMinutes(1), 10);
+        restaurantId = UUID.randomUUID();
+    }
+
+    @Test
+    void get_ShouldServeFromCacheUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+
+        MenuSnapshot first = menuCache.get(restaurantId, id -> new MenuSnapshot(id, loads.incrementAndGet(), EMPTY));
+        MenuSnapshot second = menuCache.get(restaurantId, id -> new MenuSnapshot(id, loads.incrementAndGet(), EMPTY));
+        menuCache.invalidate(restaurantId);
+        MenuSnapshot third = menuCache.get(restaurantId, id -> new MenuSnapshot(id, loads.incrementAndGet(), EMPTY));
+
+        assertThat(second).isSameAs(first);
+        assertThat(third.version()).isEqualTo(2);
+        assertThat(meterRegistry.get("menu_cache_hit_ratio").gauge().value()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void get_ShouldNotCacheSnapshotLoadedWhileInvalidated() {
+        menuCache.get(restaurantId, id -> {
+            menuCache.invalidate(id);
+            return new MenuSnapshot(id, 0, EMPTY);
+        });
+        MenuSnapshot reloaded = menuCache.get(restaurantId, id -> new MenuSnapshot(id, 1, EMPTY));
+
+        assertThat(reloaded.version()).isEqualTo(1);
+    }
+
+    @Test
+    void matches_ShouldHonourWeakAndListedEtags() {
+        MenuSnapshot snapshot = new MenuSnapshot(restaurantId, 3, EMPTY);
+
+        assertThat(snapshot.matches("\"other\", W/" + snapshot.etag())).isTrue();
+        assertThat(snapshot.matches("*")).isTrue();
+        assertThat(snapshot.matches(new MenuSnapshot(restaurantId, 2, EMPTY).etag())).isFalse();
+        assertThat(snapshot.matches(snapshot.etag(true))).isTrue();
+        assertThat(snapshot.matches(null)).isFalse();
+    }
+}
@@ -0,0 +1,45 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.dto.MenuItemImportRow;
+import com.bytebites.restaurantservice.exception.MenuImportException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MenuCsvParserTest {
+
+    @Test
+    void parse_ShouldHandleQuotedFieldsAndHeaderOrder() {
+        String csv = "price,Name,category,description,available,image_url\r\n"
+                + "12.50,Jollof Rice,Mains,\"Smoky, \"\"party\"\" jollof\",yes,\n"
+                + "\n"
+                + "6,Kelewele,Sides,\"Spiced\nplantain\",0,https://img/kelewele.png\n";
+
+        List<MenuItemImportRow> rows = MenuCsvParser.parse(csv);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).description()).isEqualTo("Smoky, \"party\" jollof");
+        assertThat(rows.get(0).available()).isTrue();
+        assertThat(rows.get(0).imageUrl()).isNull();
+        assertThat(rows.get(1).description()).isEqualTo("Spiced\nplantain");
+        assertThat(rows.get(1).available()).isFalse();
+        assertThat(rows.get(1).price()).isEqualByComparingTo("6");
+    }
+
+    @Test
+    void parse_ShouldReportInvalidValuesByRow() {
+        String csv = "name,price,category\nJollof,abc,Mains\nKelewele,6.00,Sides\nWaakye,9.00,Mains,extra\n";
+
+        assertThatThrownBy(() -> MenuCsvParser.parse(csv))
+                .isInstanceOf(MenuImportException.class)
+                .satisfies(e -> assertThat(((MenuImportException) e).getErrors())
+                        .singleElement()
+                        .satisfies(error -> {
+                            assertThat(error.row()).isEqualTo(1);
+                            assertThat(error.field()).isEqualTo("price");
+                        }));
+    }
+}
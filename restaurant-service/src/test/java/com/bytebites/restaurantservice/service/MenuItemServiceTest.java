@@ -0,0 +1,173 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.dto.AvailabilityUpdateResponse;
+import com.bytebites.restaurantservice.dto.MenuImportResponse;
+import com.bytebites.restaurantservice.dto.MenuItemAvailability;
+import com.bytebites.restaurantservice.dto.MenuItemImportRow;
+import com.bytebites.restaurantservice.event.RestaurantEventPublisher;
+import com.bytebites.restaurantservice.exception.MenuImportException;
+import com.bytebites.restaurantservice.mapper.MenuItemMapper;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.bytebites.restaurantservice.repository.MenuItemRepository;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import com.bytebites.restaurantservice.security.SecurityService;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MenuItemServiceTest {
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private MenuItemMapper menuItemMapper;
+
+    @Mock
+    private SecurityService securityService;
+
+    @Mock
+    private MenuCache menuCache;
+
+    @Mock
+    private MenuSearchService menuSearchService;
+
+    @Mock
+    private RestaurantEventPublisher restaurantEventPublisher;
+
+    @Mock
+    private PayloadRenderer payloadRenderer;
+
+    @Mock
+    private RestaurantDetailCache restaurantDetailCache;
+
+    @Mock
+    private MenuAvailabilityIndex menuAvailabilityIndex;
+
+    private ValidatorFactory validatorFactory;
+    private MenuItemService menuItemService;
+    private Restaurant restaurant;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        menuItemService = new MenuItemService(menuItemRepository, restaurantRepository, menuItemMapper, securityService,
+                menuCache, menuSearchService, restaurantEventPublisher, validatorFactory.getValidator(),
+                payloadRenderer, restaurantDetailCache, menuAvailabilityIndex);
+        userId = UUID.randomUUID();
+        restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+        restaurant.setOwnerId(userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void importMenu_ShouldUpsertByNameWithSingleVersionBumpAndEvent() {
+        allowOwner();
+        MenuItem existing = new MenuItem();
+        existing.setId(UUID.randomUUID());
+        existing.setRestaurant(restaurant);
+        existing.setName("Jollof Rice");
+        existing.setDescription("Smoky party jollof");
+        existing.setPrice(new BigDecimal("12.50"));
+        existing.setCategory("Mains");
+        existing.setAvailable(true);
+        when(menuItemRepository.findByRestaurantIdOrderByCategory(restaurant.getId())).thenReturn(List.of(existing));
+
+        MenuImportResponse response = menuItemService.importMenu(restaurant.getId(), List.of(
+                row("jollof rice", "Smoky party jollof", "14.00"),
+                row("Kelewele", "Spiced fried plantain", "6.00")
+        ), userId);
+
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.updated()).isEqualTo(1);
+        assertThat(existing.getPrice()).isEqualByComparingTo("14.00");
+        verify(securityService, times(1)).isOwnerOrAdmin(userId, userId);
+        verify(restaurantRepository, times(1)).incrementMenuVersion(restaurant.getId());
+        verify(restaurantEventPublisher, times(1)).publishMenuItemsChanged(any(), anyList());
+    }
+
+    @Test
+    void importMenu_ShouldRejectWholeImportWithPerRowErrors() {
+        allowOwner();
+        when(menuItemRepository.findByRestaurantIdOrderByCategory(restaurant.getId())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> menuItemService.importMenu(restaurant.getId(), List.of(
+                row("Waakye", "Rice and beans", "9.00"),
+                row("", "No name", "-1"),
+                row("WAAKYE", "Duplicate", "9.00")
+        ), userId))
+                .isInstanceOf(MenuImportException.class)
+                .satisfies(e -> assertThat(((MenuImportException) e).getErrors())
+                        .extracting(error -> error.row() + ":" + error.field())
+                        .containsExactlyInAnyOrder("2:name", "2:price", "3:name"));
+
+        verify(menuItemRepository, never()).saveAll(anyList());
+        verify(restaurantRepository, never()).incrementMenuVersion(any());
+    }
+
+    @Test
+    void updateAvailability_ShouldOnlyWriteItemsWhoseStateChanges() {
+        UUID soldOut = UUID.randomUUID();
+        UUID alreadyAvailable = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(restaurantRepository.findOwnerIdById(restaurant.getId())).thenReturn(Optional.of(userId));
+        when(securityService.isOwnerOrAdmin(userId, userId)).thenReturn(true);
+        when(menuItemRepository.findAvailabilityByRestaurantIdAndIdIn(eq(restaurant.getId()), any()))
+                .thenReturn(List.of(new MenuItemAvailability(soldOut, true), new MenuItemAvailability(alreadyAvailable, true)));
+        when(menuItemRepository.updateAvailability(eq(restaurant.getId()), eq(List.of(soldOut)), eq(false), any()))
+                .thenReturn(1);
+
+        AvailabilityUpdateResponse response = menuItemService.updateAvailability(restaurant.getId(), List.of(
+                new MenuItemAvailability(soldOut, false),
+                new MenuItemAvailability(alreadyAvailable, true),
+                new MenuItemAvailability(missing, false)
+        ), userId);
+
+        assertThat(response.changed()).isEqualTo(1);
+        assertThat(response.unknownMenuItemIds()).containsExactly(missing);
+        verify(menuItemRepository, never()).updateAvailability(any(), any(), eq(true), any());
+        verify(restaurantRepository, times(1)).incrementMenuVersion(restaurant.getId());
+        verify(menuAvailabilityIndex).apply(restaurant.getId(), List.of(soldOut), false);
+        verify(restaurantEventPublisher).publishMenuAvailabilityChanged(restaurant.getId(), List.of(), List.of(soldOut));
+    }
+
+    private void allowOwner() {
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+        when(securityService.isOwnerOrAdmin(userId, userId)).thenReturn(true);
+    }
+
+    private MenuItemImportRow row(String name, String description, String price) {
+        return new MenuItemImportRow(null, name, description, new BigDecimal(price), "Mains", null, null);
+    }
+}
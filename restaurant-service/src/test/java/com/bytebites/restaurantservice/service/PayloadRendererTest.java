@@ -0,0 +1,40 @@
+package com.bytebites.restaurantservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadRendererTest {
+
+    private final PayloadRenderer payloadRenderer = new PayloadRenderer(new ObjectMapper(), 256);
+
+    @Test
+    void render_ShouldPrecompressOnlyLargeBodies() throws IOException {
+        RenderedPayload small = payloadRenderer.render(List.of("jollof"));
+        RenderedPayload large = payloadRenderer.render(Collections.nCopies(200, "jollof rice with chicken"));
+
+        assertThat(small.gzip()).isNull();
+        assertThat(small.servesGzip("gzip")).isFalse();
+        assertThat(large.gzip().length).isLessThan(large.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(large.json());
+        }
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourQualityValues() {
+        assertThat(RenderedPayload.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(RenderedPayload.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(RenderedPayload.acceptsGzip("*")).isTrue();
+        assertThat(RenderedPayload.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(RenderedPayload.acceptsGzip("identity")).isFalse();
+        assertThat(RenderedPayload.acceptsGzip(null)).isFalse();
+    }
+}
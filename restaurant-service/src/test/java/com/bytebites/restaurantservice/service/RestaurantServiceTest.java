@@ -2,9 +2,14 @@ package com.bytebites.restaurantservice.service;
 
 import com.bytebites.restaurantservice.dto.CreateRestaurantRequest;
 import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.dto.RestaurantSummaryPage;
+import com.bytebites.restaurantservice.dto.RestaurantSummaryResponse;
 import com.bytebites.restaurantservice.dto.UpdateRestaurantRequest;
 import com.bytebites.restaurantservice.enums.RestaurantStatus;
 import com.bytebites.restaurantservice.event.RestaurantEventPublisher;
+import com.bytebites.restaurantservice.exception.InvalidCursorException;
+import com.bytebites.restaurantservice.geo.GeoPoint;
+import com.bytebites.restaurantservice.geo.Geocoder;
 import com.bytebites.restaurantservice.exception.UnauthorizedOperationException;
 import com.bytebites.restaurantservice.mapper.RestaurantMapper;
 import com.bytebites.restaurantservice.model.Restaurant;
@@ -14,14 +19,22 @@ import com.bytebites.restaurantservice.security.SecurityService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +52,21 @@ class RestaurantServiceTest {
     @Mock
     private RestaurantEventPublisher restaurantEventPublisher;
 
+    @Mock
+    private MenuSearchService menuSearchService;
+
+    @Mock
+    private NearbyRestaurantService nearbyRestaurantService;
+
+    @Mock
+    private Geocoder geocoder;
+
+    @Mock
+    private RestaurantDetailCache restaurantDetailCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private RestaurantService restaurantService;
 
     private UUID ownerId;
@@ -48,7 +76,9 @@ class RestaurantServiceTest {
     void setUp() {
         ownerId = UUID.randomUUID();
         restaurantId = UUID.randomUUID();
-        restaurantService = new RestaurantService(restaurantRepository, restaurantMapper, securityService, restaurantEventPublisher );
+        restaurantService = new RestaurantService(restaurantRepository, restaurantMapper, securityService, restaurantEventPublisher,
+                menuSearchService, nearbyRestaurantService, geocoder, restaurantDetailCache,
+                transactionManager);
     }
 
     @Test
@@ -73,6 +103,25 @@ class RestaurantServiceTest {
         assertEquals("Pizza Palace", response.name());
     }
 
+    @Test
+    void shouldGeocodeBeforeOpeningWriteTransaction() {
+        CreateRestaurantRequest request = new CreateRestaurantRequest(
+                "Pizza Palace", "Best pizza in town", "123 Main St", "+1234567890", "contact@pizzapalace.com");
+        Restaurant mockRestaurant = createMockRestaurant();
+
+        when(geocoder.geocode("123 Main St")).thenReturn(Optional.of(new GeoPoint(5.6037, -0.1870)));
+        when(restaurantMapper.toEntity(request, ownerId)).thenReturn(mockRestaurant);
+        when(restaurantRepository.save(any(Restaurant.class))).thenReturn(mockRestaurant);
+
+        restaurantService.createRestaurant(request, ownerId);
+
+        InOrder order = inOrder(geocoder, transactionManager, restaurantRepository);
+        order.verify(geocoder).geocode("123 Main St");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(restaurantRepository).save(mockRestaurant);
+        assertEquals(5.6037, mockRestaurant.getLatitude());
+    }
+
     @Test
     void shouldThrowExceptionWhenNonOwnerTriesToUpdate() {
         UpdateRestaurantRequest request = new UpdateRestaurantRequest(
@@ -108,8 +157,41 @@ class RestaurantServiceTest {
     private RestaurantResponse createMockRestaurantResponse() {
         return new RestaurantResponse(
                 restaurantId, "Pizza Palace", "Best pizza in town",
-                "123 Main St", "+1234567890", "contact@pizzapalace.com",
+                "123 Main St", "+1234567890", "contact@pizzapalace.com", null, null,
                 RestaurantStatus.ACTIVE, "John Doe", null, null
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPageActiveRestaurantSummariesByKeyset() {
+        LocalDateTime now = LocalDateTime.now();
+        RestaurantSummaryResponse newest = summary(now);
+        RestaurantSummaryResponse middle = summary(now.minusMinutes(1));
+        RestaurantSummaryResponse oldest = summary(now.minusMinutes(2));
+
+        when(restaurantRepository.findSummariesByStatus(eq(RestaurantStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(newest, middle, oldest));
+        when(restaurantRepository.findSummariesByStatusAfter(
+                eq(RestaurantStatus.ACTIVE), eq(middle.createdAt()), eq(middle.id()), any(Pageable.class)))
+                .thenReturn(List.of(oldest));
+
+        RestaurantSummaryPage first = restaurantService.getActiveRestaurantSummaries(null, 2);
+        RestaurantSummaryPage second = restaurantService.getActiveRestaurantSummaries(first.nextCursor(), 2);
+
+        assertEquals(List.of(newest, middle), first.restaurants());
+        assertNotNull(first.nextCursor());
+        assertEquals(List.of(oldest), second.restaurants());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> restaurantService.getActiveRestaurantSummaries("not-a-cursor", 20));
+    }
+
+    private RestaurantSummaryResponse summary(LocalDateTime createdAt) {
+        return new RestaurantSummaryResponse(UUID.randomUUID(), "Restaurant", null, "1 Main St",
+                RestaurantStatus.ACTIVE, createdAt);
+    }
+}